@@ -6,8 +6,14 @@ import javafx.scene.image.Image;
 import javafx.stage.*;
 import com.moodflix.view.*;
 import com.moodflix.controller.*;
-import com.moodflix.database.DatabaseInitializer;
-import com.moodflix.util.SampleDataInitializer;
+import com.moodflix.util.LoginOptimizer;
+import com.moodflix.util.AppConfig;
+import com.moodflix.util.FxThreadWatchdog;
+import com.moodflix.util.MetricsHistory;
+import com.moodflix.util.IdleMode;
+import com.moodflix.util.RenderingMode;
+import com.moodflix.util.RememberMeStore;
+import com.moodflix.util.StartupPipeline;
 import com.moodflix.util.ThemeManager;
 
 public class Main extends Application {
@@ -48,6 +54,30 @@ public class Main extends Application {
         ThemeManager.applyTheme(scene);
         stage.setScene(scene);
         stage.show();
+        StartupPipeline.onStageShown(scene);
+        FxThreadWatchdog.start();
+        MetricsHistory.start();
+        RenderingMode.start();
+        IdleMode.start();
+        
+        if (!params.getRaw().contains("admin") && RememberMeStore.hasToken()) {
+            resumeSavedSession(stage);
+        }
+    }
+
+    /**
+     * Skip the login form when a remembered session token is still valid
+     */
+    private void resumeSavedSession(Stage stage) {
+        StartupPipeline.whenDatabaseReady()
+            .thenCompose(ready -> LoginOptimizer.resumeSessionAsync())
+            .thenAccept(result -> {
+                if (!result.isSuccess() || result.getDashboard() == null) return;
+                Platform.runLater(() -> {
+                    setScene(result.getDashboard());
+                    stage.setTitle("admin".equals(result.getRole()) ? "MoodFlix - Admin Dashboard" : "MoodFlix - User Dashboard");
+                });
+            });
     }
 
     public static void setScene(Scene scene) {
@@ -60,21 +90,18 @@ public class Main extends Application {
     }
 
     public static void main(String[] args) {
-        // Initialize PostgreSQL database on startup
-        try {
-            System.out.println("🚀 Starting MoodFlix Application...");
-            DatabaseInitializer.initializeDatabase();
-            System.out.println("✅ Database initialized successfully!");
-            
-            SampleDataInitializer.initializeSampleData();
-            
-        } catch (Exception e) {
-            System.err.println("❌ Failed to initialize database: " + e.getMessage());
-            System.err.println("Please ensure PostgreSQL is running and properly configured.");
-            System.err.println("Check DatabaseConfig.java for connection settings.");
-            System.exit(1);
+        // Opt into virtual threads for blocking lanes (needs Java 21+, otherwise ignored)
+        if (java.util.Arrays.asList(args).contains("--virtual-threads")) {
+            System.setProperty("moodflix.threads", "virtual");
         }
         
+        // Database setup and warm-up run in the background; the landing page shows first
+        System.out.println("🚀 Starting MoodFlix Application...");
+        StartupPipeline.begin();
+        
+        // Pick up edits to moodflix.properties without a restart
+        AppConfig.startWatching();
+        
         launch(args);
     }
 }
@@ -14,6 +14,7 @@ public class ApiService {
     public String getImageUrl(String keyword) {
         String link = "https://api.unsplash.com/photos/random?client_id=" + ACCESS_KEY + "&query=" + keyword;
         String imageUrl = "";
+        com.moodflix.util.FxThreadWatchdog.checkBlockingCall("HTTP");
 
         try {
             URL url = new URL(link);
@@ -1,5 +1,6 @@
 package com.moodflix.controller;
 
+import com.moodflix.util.AppExecutors;
 import com.moodflix.Main;
 import com.moodflix.model.Activity;
 import com.moodflix.service.PostgreSQLAuthService;
@@ -88,7 +89,7 @@ public class ActivityHistoryController {
         view.getStatusLabel().setText("📊 Loading activities...");
         
         // Run in background thread
-        new Thread(() -> {
+        AppExecutors.execute(AppExecutors.Lane.INTERACTIVE_DB, () -> {
             try {
                 System.out.println("📊 Loading activities for user: " + userEmail);
                 
@@ -156,7 +157,7 @@ public class ActivityHistoryController {
                     view.getStatusLabel().setText("Error loading activities: " + ex.getMessage());
                 });
             }
-        }).start();
+        });
     }
 
     private void applyFilters() {
@@ -21,8 +21,18 @@ public class AdminDashboardController {
     private final ObservableList<Content> contentList = FXCollections.observableArrayList();
     private final HashMap<Content, String> contentKeyMap = new HashMap<>();
 
+    private final String adminEmail;
+
     public AdminDashboardController(AdminDashboard view) {
+        this(view, SessionManager.getEmail());
+    }
+
+    /**
+     * Build for a known admin before the session is set (login pre-warm)
+     */
+    public AdminDashboardController(AdminDashboard view, String adminEmail) {
         this.view = view;
+        this.adminEmail = adminEmail;
         setupEventHandlers();
         loadContentTable();
         // Load admin profile photo in sidebar
@@ -288,7 +298,6 @@ public class AdminDashboardController {
     }
 
     private void loadAdminProfilePhoto() {
-        String adminEmail = SessionManager.getEmail();
         if (adminEmail == null) return;
         ImageView profilePhotoView = view.getProfilePhotoView();
         try {
@@ -1,5 +1,6 @@
 package com.moodflix.controller;
 
+import com.moodflix.util.AppExecutors;
 import com.moodflix.Main;
 import com.moodflix.service.PostgreSQLAuthService;
 import com.moodflix.util.SessionManager;
@@ -119,13 +120,13 @@ public class AdminUserManagementController {
                 AdminUserManagementPage.UserData user = event.getRowValue();
                 String newRole = event.getNewValue();
                 user.setRole(newRole);
-                new Thread(() -> {
+                AppExecutors.execute(AppExecutors.Lane.INTERACTIVE_DB, () -> {
                     try {
                         authService.updateUserRole(user.getEmail(), newRole);
                     } catch (Exception ex) {
                         showAlert("Failed to update user role.", Alert.AlertType.ERROR);
                     }
-                }).start();
+                });
             });
         }
         
@@ -155,7 +156,7 @@ public class AdminUserManagementController {
                     user.setAge(ageField.getText());
                     user.setGender(genderField.getText());
                     user.setRole(roleBox.getValue());
-                    new Thread(() -> {
+                    AppExecutors.execute(AppExecutors.Lane.INTERACTIVE_DB, () -> {
                         try {
                             authService.updateUserDetails(user.getEmail(), user.getFullName(), user.getAge(), user.getGender(), user.getRole());
                             Platform.runLater(() -> {
@@ -170,7 +171,7 @@ public class AdminUserManagementController {
                         } catch (Exception ex) {
                             showAlert("Failed to update user details.", Alert.AlertType.ERROR);
                         }
-                    }).start();
+                    });
                 }
             });
         });
@@ -181,7 +182,7 @@ public class AdminUserManagementController {
             Alert alert = new Alert(Alert.AlertType.CONFIRMATION, "Delete user '" + user.getEmail() + "'?", ButtonType.YES, ButtonType.NO);
             alert.showAndWait().ifPresent(result -> {
                 if (result == ButtonType.YES) {
-                    new Thread(() -> {
+                    AppExecutors.execute(AppExecutors.Lane.INTERACTIVE_DB, () -> {
                         try {
                             authService.deleteUser(user.getEmail());
                             Platform.runLater(() -> {
@@ -196,7 +197,7 @@ public class AdminUserManagementController {
                         } catch (Exception ex) {
                             showAlert("Failed to delete user.", Alert.AlertType.ERROR);
                         }
-                    }).start();
+                    });
                 }
             });
         });
@@ -207,7 +208,7 @@ public class AdminUserManagementController {
         view.getStatusLabel().setStyle("-fx-text-fill: #17a2b8;");
 
         // Run in background thread
-        new Thread(() -> {
+        AppExecutors.execute(AppExecutors.Lane.INTERACTIVE_DB, () -> {
             try {
                 System.out.println("👥 Loading all users for admin...");
                 
@@ -234,7 +235,7 @@ public class AdminUserManagementController {
                     view.getStatusLabel().setStyle("-fx-text-fill: #dc3545;");
                 });
             }
-        }).start();
+        });
     }
 
     private List<AdminUserManagementPage.UserData> getAllUsersFromDatabase() throws Exception {
@@ -1,5 +1,6 @@
 package com.moodflix.controller;
 
+import com.moodflix.util.AppExecutors;
 import com.moodflix.service.PostgreSQLAuthService;
 import com.moodflix.util.SessionManager;
 import com.moodflix.view.FeedbackPage;
@@ -74,7 +75,7 @@ public class FeedbackPageController {
             statusLabel.setText("🔄 Submitting feedback...");
             
             // Perform submission in background thread
-            new Thread(() -> {
+            AppExecutors.execute(AppExecutors.Lane.INTERACTIVE_DB, () -> {
                 try {
                     System.out.println("🚀 Submitting feedback to database...");
                     System.out.println("📊 Rating: " + rating + " stars");
@@ -122,7 +123,7 @@ public class FeedbackPageController {
                         alert.showAndWait();
                     });
                 }
-            }).start();
+            });
         });
         
         backBtn.setOnAction(e -> {
@@ -51,9 +51,14 @@ public class LoginPageController {
             statusText.setFill(javafx.scene.paint.Color.BLUE);
             statusText.setText("Logging in...");
             
+            if (!com.moodflix.util.StartupPipeline.isDatabaseReady()) {
+                statusText.setText("Connecting to database...");
+            }
+            
             // Try optimized login first, with fallback to direct login
             try {
-                com.moodflix.util.LoginOptimizer.loginAsync(email, password)
+                com.moodflix.util.StartupPipeline.whenDatabaseReady()
+                    .thenCompose(ready -> com.moodflix.util.LoginOptimizer.loginAsync(email, password))
                     .thenAcceptAsync(loginResult -> {
                         javafx.application.Platform.runLater(() -> {
                             loginBtn.setDisable(false);
@@ -104,6 +109,10 @@ public class LoginPageController {
         Scene dashboard = loginResult.getDashboard();
         String role = loginResult.getRole();
         
+        if (view.getRememberMeBox().isSelected()) {
+            com.moodflix.util.LoginOptimizer.rememberUserAsync(email);
+        }
+        
         if (dashboard != null) {
             Stage stage = (Stage) view.getLoginBtn().getScene().getWindow();
             
@@ -128,6 +137,7 @@ public class LoginPageController {
             
             // Set the scene (this should be instant since it's already prepared)
             Main.setScene(dashboard);
+            com.moodflix.util.NavigationOptimizer.onPageShown("admin".equals(role) ? "AdminDashboard" : "UserDashboard");
             
             // Preload dashboards for future back navigation
             System.out.println("🚀 Preloading dashboards for future back navigation...");
@@ -160,6 +170,9 @@ public class LoginPageController {
                 
                 // Store session
                 com.moodflix.util.SessionManager.setSession(email, role);
+                if (view.getRememberMeBox().isSelected()) {
+                    com.moodflix.util.LoginOptimizer.rememberUserAsync(email);
+                }
                 
                 // Create dashboard directly
                 Stage stage = (Stage) view.getLoginBtn().getScene().getWindow();
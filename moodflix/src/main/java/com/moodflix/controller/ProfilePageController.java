@@ -1,6 +1,8 @@
 package com.moodflix.controller;
 
+import com.moodflix.util.AppExecutors;
 import com.moodflix.service.PostgreSQLAuthService;
+import com.moodflix.util.RenderingMode;
 import com.moodflix.util.SessionManager;
 import com.moodflix.view.ProfilePage;
 import com.moodflix.view.UserDashboard;
@@ -35,6 +37,10 @@ public class ProfilePageController {
         Button backBtn = view.getBackBtn();
         TextField displayNameField = view.getDisplayNameField();
         Label statusLabel = view.getStatusLabel();
+        CheckBox performanceModeCheck = view.getPerformanceModeCheck();
+
+        performanceModeCheck.setSelected(RenderingMode.isUserForced());
+        performanceModeCheck.setOnAction(e -> RenderingMode.setUserForced(performanceModeCheck.isSelected()));
 
         uploadPicBtn.setOnAction(e -> {
             FileChooser fileChooser = new FileChooser();
@@ -76,7 +82,7 @@ public class ProfilePageController {
             }
             saveBtn.setDisable(true);
             statusLabel.setText("🔄 Saving changes...");
-            new Thread(() -> {
+            AppExecutors.execute(AppExecutors.Lane.INTERACTIVE_DB, () -> {
                 try {
                     PostgreSQLAuthService service = new PostgreSQLAuthService();
                     service.updateUserDetails(userEmail, newDisplayName, age, gender, "user");
@@ -109,7 +115,7 @@ public class ProfilePageController {
                         alert.showAndWait();
                     });
                 }
-            }).start();
+            });
         });
 
         backBtn.setOnAction(e -> {
@@ -1,5 +1,6 @@
 package com.moodflix.controller;
 
+import com.moodflix.util.AppExecutors;
 import com.moodflix.Main;
 import com.moodflix.service.PostgreSQLAuthService;
 import com.moodflix.util.SessionManager;
@@ -188,9 +189,10 @@ public class SignUpPageController {
             javafx.application.Platform.runLater(() -> loadingSpinner.setVisible(true));
 
             // Perform signup in a separate thread to avoid blocking UI
-            new Thread(() -> {
+            AppExecutors.execute(AppExecutors.Lane.INTERACTIVE_DB, () -> {
                 try {
                     System.out.println("Starting enhanced signup process for: " + email);
+                    com.moodflix.util.StartupPipeline.awaitDatabase();
                     
                     // Create user profile data
                     String fullName = firstName + " " + lastName;
@@ -286,7 +288,7 @@ public class SignUpPageController {
                         showErrorPopup("Signup failed due to an error: " + ex.getMessage());
                     });
                 }
-            }).start();
+            });
         });
 
         loginLink.setOnAction(e -> {
@@ -5,6 +5,7 @@ import com.moodflix.service.PostgreSQLContentService;
 import com.moodflix.service.PostgreSQLWatchlistService;
 import com.moodflix.service.PostgreSQLAuthService;
 import com.moodflix.util.SessionManager;
+import com.moodflix.util.ThemeManager;
 import com.moodflix.view.UserDashboard;
 import javafx.scene.control.ListView;
 import javafx.scene.control.Label;
@@ -35,44 +36,67 @@ import javafx.scene.layout.HBox;
 import javafx.scene.control.TextField;
 
 public class UserDashboardController {
+    private static final String RECOMMENDATIONS_SLOT = "dashboard.recommendations";
+
     private final UserDashboard view;
+    private final String userEmail;
     private List<Content> lastFetchedContentList;
 
     public UserDashboardController(UserDashboard view) {
+        this(view, SessionManager.getEmail());
+    }
+
+    /**
+     * Build for a known user before the session is set (login pre-warm)
+     */
+    public UserDashboardController(UserDashboard view, String userEmail) {
         this.view = view;
-        loadUserProfilePhoto();
+        this.userEmail = userEmail;
         setupEventHandlers();
-        updateTrendingCarousel();
-        updateAchievements();
+        loadDashboardBootstrap();
         setupSocialFeatures();
     }
 
-    private void loadUserProfilePhoto() {
-        String userEmail = com.moodflix.util.SessionManager.getEmail();
+    /**
+     * Fetch profile, badge counters and trending content in a single round trip,
+     * then apply everything on the FX thread
+     */
+    private void loadDashboardBootstrap() {
         if (userEmail == null) return;
-        javafx.scene.image.ImageView profilePhotoView = view.getProfilePhotoView();
-        
-        // Use async operation with caching
-        String operationId = com.moodflix.util.PerformanceMonitor.startOperation("profile_photo_load");
-        
-        com.moodflix.service.PostgreSQLAuthService service = new com.moodflix.service.PostgreSQLAuthService();
-        service.getUserDetailsAsync(userEmail)
-            .thenAcceptAsync(userObj -> {
-                com.moodflix.util.PerformanceMonitor.endOperation(operationId, userObj != null);
-                
-                if (userObj != null && userObj.has("profilePicUrl") && !userObj.getString("profilePicUrl").isEmpty()) {
-                    String photoUrl = userObj.getString("profilePicUrl");
-                    javafx.scene.image.Image profileImage = new javafx.scene.image.Image(photoUrl);
-                    javafx.application.Platform.runLater(() -> {
-                        if (profilePhotoView != null && !profileImage.isError()) {
-                            profilePhotoView.setImage(profileImage);
-                        }
-                    });
-                }
-            }).exceptionally(throwable -> {
-                System.err.println("Error loading profile photo: " + throwable.getMessage());
-                return null;
+
+        // Warm the moods this user is likely to pick first
+        com.moodflix.util.MoodPrefetcher.prefetchFor(userEmail);
+
+        String operationId = com.moodflix.util.PerformanceMonitor.startOperation("dashboard_bootstrap");
+
+        com.moodflix.util.PerformanceOptimizer.runAsync(() -> {
+            try {
+                com.moodflix.service.PostgreSQLDashboardService service = new com.moodflix.service.PostgreSQLDashboardService();
+                return service.getDashboardBootstrap(userEmail);
+            } catch (Exception ex) {
+                throw new RuntimeException(ex);
+            }
+        }).thenAcceptAsync(bootstrap -> {
+            com.moodflix.util.PerformanceMonitor.endOperation(operationId, bootstrap != null);
+            if (bootstrap == null) return;
+            javafx.application.Platform.runLater(() -> {
+                applyProfilePhoto(bootstrap.getProfilePhotoUrl());
+                updateTrendingCarousel(bootstrap.getTrending());
+                updateAchievements(bootstrap.getWatchlistCount(), bootstrap.getFeedbackCount());
             });
+        }).exceptionally(throwable -> {
+            com.moodflix.util.PerformanceMonitor.endOperation(operationId, false);
+            System.err.println("Error loading dashboard: " + throwable.getMessage());
+            return null;
+        });
+    }
+
+    private void applyProfilePhoto(String photoUrl) {
+        javafx.scene.image.ImageView profilePhotoView = view.getProfilePhotoView();
+        if (profilePhotoView == null || photoUrl == null || photoUrl.isEmpty()) return;
+        // Background loading keeps the FX thread free while the image downloads
+        javafx.scene.image.Image profileImage = new javafx.scene.image.Image(photoUrl, true);
+        profilePhotoView.setImage(profileImage);
     }
 
     private void setupEventHandlers() {
@@ -91,38 +115,58 @@ public class UserDashboardController {
         // Only set event handlers for moodRecBtn and generalRecBtn
         if (moodRecBtn != null) {
             System.out.println("[DEBUG] Setting up moodRecBtn event handler");
-            moodRecBtn.setOnAction(e -> {
+            moodRecBtn.setOnAction(e -> com.moodflix.util.InteractionTracer.trace("mood_recommendations", () -> {
                 System.out.println("[DEBUG] Mood recommendation button clicked!");
                 String mood = moodCombo.getValue();
                 if (mood == null || mood.isEmpty()) {
                     view.showRecommendationsError("Please select a mood.");
                     return;
                 }
-                view.showRecommendationsLoading();
+                com.moodflix.util.MoodPrefetcher.recordMoodPick(userEmail, mood);
                 
                 // Use performance monitoring
                 String operationId = com.moodflix.util.PerformanceMonitor.startOperation("mood_recommendations");
                 
-                com.moodflix.util.PerformanceOptimizer.runAsync(() -> {
+                // Served from the dashboard-open prefetch when it already finished
+                java.util.concurrent.CompletableFuture<List<Content>> prefetched =
+                    com.moodflix.util.MoodPrefetcher.lookup(userEmail, mood);
+                if (prefetched != null && prefetched.isDone() && !prefetched.isCompletedExceptionally()) {
+                    com.moodflix.util.RequestScope.cancel(RECOMMENDATIONS_SLOT);
+                    com.moodflix.util.PerformanceMonitor.endOperation(operationId, true);
+                    view.showRecommendationsGrid(prefetched.join());
+                    return;
+                }
+                view.showRecommendationsLoading();
+                
+                // Latest click wins: an earlier mood/type query still running is cancelled
+                com.moodflix.util.RequestScope.runLatest(RECOMMENDATIONS_SLOT, () -> {
                     try {
+                        if (prefetched != null) {
+                            try {
+                                return prefetched.get(com.moodflix.util.AppConfig.MOOD_PREFETCH_WAIT_MS.get(),
+                                    java.util.concurrent.TimeUnit.MILLISECONDS);
+                            } catch (java.util.concurrent.CancellationException | java.util.concurrent.ExecutionException
+                                     | java.util.concurrent.TimeoutException slow) {
+                                // Prefetch failed, was dropped or is too slow; run the query ourselves
+                            }
+                        }
                         PostgreSQLContentService service = new PostgreSQLContentService();
                         return service.getFilteredContentList(mood, null);
                     } catch (Exception ex) {
                         throw new RuntimeException(ex);
                     }
-                }).thenAcceptAsync(results -> {
+                }, results -> {
                     com.moodflix.util.PerformanceMonitor.endOperation(operationId, true);
-                    javafx.application.Platform.runLater(() -> view.showRecommendationsGrid(results));
-                }).exceptionally(throwable -> {
+                    view.showRecommendationsGrid(results);
+                }, error -> {
                     com.moodflix.util.PerformanceMonitor.endOperation(operationId, false);
-                    javafx.application.Platform.runLater(() -> view.showRecommendationsError(throwable.getMessage()));
-                    return null;
+                    view.showRecommendationsError(error.getMessage());
                 });
-            });
+            }));
         }
         if (generalRecBtn != null) {
             System.out.println("[DEBUG] Setting up generalRecBtn event handler");
-            generalRecBtn.setOnAction(e -> {
+            generalRecBtn.setOnAction(e -> com.moodflix.util.InteractionTracer.trace("type_recommendations", () -> {
                 System.out.println("[DEBUG] General recommendation button clicked!");
                 String type = typeCombo.getValue();
                 if (type == null || type.isEmpty()) {
@@ -134,22 +178,22 @@ public class UserDashboardController {
                 // Use performance monitoring
                 String operationId = com.moodflix.util.PerformanceMonitor.startOperation("type_recommendations");
                 
-                com.moodflix.util.PerformanceOptimizer.runAsync(() -> {
+                // Latest click wins: an earlier mood/type query still running is cancelled
+                com.moodflix.util.RequestScope.runLatest(RECOMMENDATIONS_SLOT, () -> {
                     try {
                         PostgreSQLContentService service = new PostgreSQLContentService();
                         return service.getFilteredContentList(null, type);
                     } catch (Exception ex) {
                         throw new RuntimeException(ex);
                     }
-                }).thenAcceptAsync(results -> {
+                }, results -> {
                     com.moodflix.util.PerformanceMonitor.endOperation(operationId, true);
-                    javafx.application.Platform.runLater(() -> view.showRecommendationsGrid(results));
-                }).exceptionally(throwable -> {
+                    view.showRecommendationsGrid(results);
+                }, error -> {
                     com.moodflix.util.PerformanceMonitor.endOperation(operationId, false);
-                    javafx.application.Platform.runLater(() -> view.showRecommendationsError(throwable.getMessage()));
-                    return null;
+                    view.showRecommendationsError(error.getMessage());
                 });
-            });
+            }));
         }
 
         // Navigation and other button handlers with optimized click handling
@@ -204,63 +248,32 @@ public class UserDashboardController {
 
     }
 
-    private void updateTrendingCarousel() {
-        // Find the trending carousel HBox
-        javafx.scene.layout.HBox trendingCarousel = (javafx.scene.layout.HBox) view.getView().lookup(".hbox");
-        if (trendingCarousel == null) return;
-        // Remove all except the title
-        while (trendingCarousel.getChildren().size() > 1) trendingCarousel.getChildren().remove(1);
-        // Fetch trending content (top 3 by title for now) in background
-        new Thread(() -> {
-            try {
-                com.moodflix.service.PostgreSQLContentService service = new com.moodflix.service.PostgreSQLContentService();
-                java.util.List<com.moodflix.model.Content> trending = service.getAllContent();
-                // Sort alphabetically for now (simulate trending)
-                trending.sort(java.util.Comparator.comparing(com.moodflix.model.Content::getTitle));
-                java.util.List<com.moodflix.model.Content> top3 = trending.size() > 3 ? trending.subList(0, 3) : trending;
-                javafx.application.Platform.runLater(() -> {
-                    for (com.moodflix.model.Content c : top3) {
-                        javafx.scene.layout.VBox card = new javafx.scene.layout.VBox(5);
-                        card.setAlignment(javafx.geometry.Pos.CENTER);
-                        card.setPadding(new javafx.geometry.Insets(10));
-                        card.setStyle("-fx-background-color: #f8f9fa; -fx-background-radius: 10; -fx-effect: dropshadow(gaussian, rgba(0,0,0,0.08), 4, 0, 0, 1);");
-                        javafx.scene.image.ImageView img = new javafx.scene.image.ImageView();
-                        if (c.getImageUrl() != null && !c.getImageUrl().isEmpty()) {
-                            new Thread(() -> {
-                                javafx.scene.image.Image image = new javafx.scene.image.Image(c.getImageUrl(), 80, 120, true, true);
-                                javafx.application.Platform.runLater(() -> img.setImage(image));
-                            }).start();
-                        } else {
-                            img.setImage(new javafx.scene.image.Image("https://images.unsplash.com/photo-1517602302552-471fe67acf66?auto=format&fit=crop&w=200&q=80", 80, 120, true, true));
-                        }
-                        img.setPreserveRatio(true);
-                        Label title = new Label(c.getTitle());
-                        title.setFont(Font.font("Arial", FontWeight.BOLD, 13));
-                        title.setTextFill(Color.web("#333333"));
-                        card.getChildren().addAll(img, title);
-                        trendingCarousel.getChildren().add(card);
-                    }
-                });
-            } catch (Exception ex) {
-                // Ignore, keep placeholders
+    private void updateTrendingCarousel(List<Content> trending) {
+        if (trending.isEmpty()) return;
+        javafx.scene.layout.HBox trendingCarousel = view.getTrendingRow();
+        trendingCarousel.getChildren().clear();
+        for (Content c : trending) {
+            javafx.scene.layout.VBox card = new javafx.scene.layout.VBox(8);
+            card.setAlignment(javafx.geometry.Pos.TOP_CENTER);
+            card.setPrefWidth(120);
+            card.getStyleClass().add("poster-card");
+            javafx.scene.image.ImageView img = new javafx.scene.image.ImageView();
+            img.setFitWidth(120);
+            img.setFitHeight(160);
+            img.setPreserveRatio(true);
+            if (c.getImageUrl() != null && !c.getImageUrl().isEmpty()) {
+                img.setImage(new javafx.scene.image.Image(c.getImageUrl(), 120, 160, true, true, true));
             }
-        }).start();
+            Label title = new Label(c.getTitle());
+            card.getChildren().addAll(img, title);
+            ThemeManager.cacheStatic(card);
+            trendingCarousel.getChildren().add(card);
+        }
     }
 
-    private void updateAchievements() {
-        // Find badgesBox in achievementsSection
-        VBox achievementsSection = (VBox) view.getView().lookup(".vbox");
-        if (achievementsSection == null) return;
-        // Find badgesBox (should be HBox)
-        HBox badgesBox = null;
-        for (Node node : achievementsSection.getChildren()) {
-            if (node instanceof HBox) { badgesBox = (HBox) node; break; }
-        }
-        if (badgesBox == null) return;
+    private void updateAchievements(int watched, int feedbacks) {
+        HBox badgesBox = view.getAchievementsBox();
         badgesBox.getChildren().clear();
-        // Example: award badges based on stats
-        int watched = getWatchlistCount();
-        int feedbacks = getFeedbackCount();
         // Always show Newbie
         Label badge1 = new Label("🏅 Newbie");
         badge1.setStyle("-fx-background-color: #e1bee7; -fx-background-radius: 10; -fx-padding: 8 18; -fx-font-size: 14;");
@@ -277,18 +290,6 @@ public class UserDashboardController {
         }
     }
 
-    private int getWatchlistCount() {
-        try {
-            com.moodflix.service.PostgreSQLWatchlistService service = new com.moodflix.service.PostgreSQLWatchlistService();
-            return service.getWatchlistCount(com.moodflix.util.SessionManager.getEmail());
-        } catch (Exception ex) {}
-        return 0;
-    }
-    private int getFeedbackCount() {
-        // Placeholder: return 1 for demo; implement real feedback count if available
-        return 1;
-    }
-
     private void setupSocialFeatures() {
         // Remove all logic for social features
     }
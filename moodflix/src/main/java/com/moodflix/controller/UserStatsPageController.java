@@ -1,5 +1,6 @@
 package com.moodflix.controller;
 
+import com.moodflix.util.AppExecutors;
 import com.moodflix.service.PostgreSQLAuthService;
 import com.moodflix.util.SessionManager;
 import com.moodflix.view.UserStatsPage;
@@ -27,7 +28,7 @@ public class UserStatsPageController {
 
     private void loadUserStats(String userEmail) {
         if (userEmail == null || userEmail.isEmpty()) return;
-        new Thread(() -> {
+        AppExecutors.execute(AppExecutors.Lane.INTERACTIVE_DB, () -> {
             try {
                 org.json.JSONObject activitiesJson = authService.getUserActivity(userEmail);
                 java.util.List<org.json.JSONObject> activities = new java.util.ArrayList<>();
@@ -72,7 +73,7 @@ public class UserStatsPageController {
                     view.getMostWatchedLabel().setText("Most Watched: ?");
                 });
             }
-        }).start();
+        });
     }
 
     private void setupBackButton() {
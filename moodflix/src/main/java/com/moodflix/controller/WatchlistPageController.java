@@ -1,5 +1,6 @@
 package com.moodflix.controller;
 
+import com.moodflix.util.AppExecutors;
 import com.moodflix.service.PostgreSQLWatchlistService;
 import com.moodflix.util.SessionManager;
 import com.moodflix.view.WatchlistPage;
@@ -135,7 +136,7 @@ public class WatchlistPageController {
         statusLabel.setStyle("-fx-text-fill: #17a2b8; -fx-font-weight: bold;");
         
         // Load in background thread
-        new Thread(() -> {
+        AppExecutors.execute(AppExecutors.Lane.INTERACTIVE_DB, () -> {
             try {
                 watchlistView.getItems().clear();
                 watchlistItems.clear();
@@ -207,7 +208,7 @@ public class WatchlistPageController {
                     alert.showAndWait();
                 });
             }
-        }).start();
+        });
     }
 
     private void loadWatchlist() {
@@ -232,7 +233,7 @@ public class WatchlistPageController {
         statusLabel.setStyle("-fx-text-fill: #17a2b8; -fx-font-weight: bold;");
         
         // Load in background thread
-        new Thread(() -> {
+        AppExecutors.execute(AppExecutors.Lane.INTERACTIVE_DB, () -> {
             try {
                 System.out.println("[DEBUG] Starting watchlist load in background thread");
                 watchlistView.getItems().clear();
@@ -308,7 +309,7 @@ public class WatchlistPageController {
                     alert.showAndWait();
                 });
             }
-        }).start();
+        });
     }
 
     private void removeFromWatchlist(JSONObject item) {
@@ -324,7 +325,7 @@ public class WatchlistPageController {
         statusLabel.setText("🔄 Removing item...");
         statusLabel.setStyle("-fx-text-fill: #17a2b8; -fx-font-weight: bold;");
         
-        new Thread(() -> {
+        AppExecutors.execute(AppExecutors.Lane.INTERACTIVE_DB, () -> {
             try {
                 PostgreSQLWatchlistService service = new PostgreSQLWatchlistService();
                 service.removeFromWatchlist(SessionManager.getEmail(), title);
@@ -374,7 +375,7 @@ public class WatchlistPageController {
                     alert.showAndWait();
                 });
             }
-        }).start();
+        });
     }
 
     private void clearAllWatchlist() {
@@ -389,7 +390,7 @@ public class WatchlistPageController {
         statusLabel.setText("🔄 Clearing watchlist...");
         statusLabel.setStyle("-fx-text-fill: #17a2b8; -fx-font-weight: bold;");
         
-        new Thread(() -> {
+        AppExecutors.execute(AppExecutors.Lane.INTERACTIVE_DB, () -> {
             try {
                 PostgreSQLWatchlistService service = new PostgreSQLWatchlistService();
                 
@@ -442,7 +443,7 @@ public class WatchlistPageController {
                     alert.showAndWait();
                 });
             }
-        }).start();
+        });
     }
 
     private void updateWatchlistDisplay(int count) {
@@ -2,8 +2,25 @@ package com.moodflix.database;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.moodflix.util.AppExecutors;
+import com.moodflix.util.ConcurrencyLimiter;
+import com.moodflix.util.FxThreadWatchdog;
+import com.moodflix.util.InteractionTracer;
+import com.moodflix.util.PerformanceMonitor;
+import com.moodflix.util.RequestScope;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class DatabaseConfig {
     
@@ -14,12 +31,51 @@ public class DatabaseConfig {
     private static final String DB_USER = "postgres";
     private static final String DB_PASSWORD = "Pass@1234";
     
-    // Connection pool
-    private static HikariDataSource dataSource;
+    // Upper bound on concurrent queries across all workload pools
+    public static final int MAX_POOL_SIZE = Arrays.stream(Workload.values()).mapToInt(w -> w.maxPoolSize.get()).sum();
+    
+    // Per-statement timeout for connections that don't carry a workload
+    public static final int QUERY_TIMEOUT_SECONDS = 10;
+    
+    // One connection pool per workload class
+    private static final Map<Workload, HikariDataSource> pools = new EnumMap<>(Workload.class);
+    private static final Map<Workload, PoolStats> poolStats = new EnumMap<>(Workload.class);
+    
+    // Workload declared by the caller for a block of service calls
+    private static final ThreadLocal<Workload> declaredWorkload = new ThreadLocal<>();
+    
+    // Adaptive in-flight limit in front of each pool, so one workload's latency never shrinks another's limit
+    private static final Map<Workload, ConcurrencyLimiter> limiters = new EnumMap<>(Workload.class);
+    
+    // Idle mode as last requested and as applied to the pools
+    private static final Object idleLock = new Object();
+    private static volatile boolean idleRequested = false;
+    private static boolean idleApplied = false;
+    
+    /**
+     * Implemented by connections handed out here, so statements know their workload's timeout
+     */
+    interface WorkloadConnection {
+        Workload workload();
+    }
+    
+    private static class PoolStats {
+        final AtomicLong acquires = new AtomicLong();
+        final AtomicLong failures = new AtomicLong();
+        final AtomicLong totalAcquireNanos = new AtomicLong();
+        volatile long maxAcquireNanos;
+        
+        void record(long nanos, boolean success) {
+            if (success) acquires.incrementAndGet(); else failures.incrementAndGet();
+            totalAcquireNanos.addAndGet(nanos);
+            if (nanos > maxAcquireNanos) maxAcquireNanos = nanos;
+        }
+    }
     
     static {
         try {
             initializeDataSource();
+            ReplicaRouter.initialize(DB_NAME, DB_USER, DB_PASSWORD);
         } catch (Exception e) {
             System.err.println("Failed to initialize database connection pool: " + e.getMessage());
             throw new RuntimeException("Database initialization failed", e);
@@ -27,33 +83,289 @@ public class DatabaseConfig {
     }
     
     private static void initializeDataSource() {
-        HikariConfig config = new HikariConfig();
-        config.setJdbcUrl("jdbc:postgresql://" + DB_HOST + ":" + DB_PORT + "/" + DB_NAME);
-        config.setUsername(DB_USER);
-        config.setPassword(DB_PASSWORD);
-        
-        // Connection pool settings
-        config.setMaximumPoolSize(20);
-        config.setMinimumIdle(5);
-        config.setConnectionTimeout(30000);
-        config.setIdleTimeout(600000);
-        config.setMaxLifetime(1800000);
-        
-        // Connection validation
-        config.setConnectionTestQuery("SELECT 1");
-        config.setValidationTimeout(5000);
-        
-        dataSource = new HikariDataSource(config);
+        for (Workload workload : Workload.values()) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("moodflix-" + workload.poolName);
+            config.setJdbcUrl("jdbc:postgresql://" + DB_HOST + ":" + DB_PORT + "/" + DB_NAME);
+            config.setUsername(DB_USER);
+            config.setPassword(DB_PASSWORD);
+            
+            // Connection pool settings
+            config.setMaximumPoolSize(workload.maxPoolSize.get());
+            config.setMinimumIdle(minimumIdle(workload));
+            config.setConnectionTimeout(workload.connectionTimeoutMs.get());
+            config.setIdleTimeout(600000);
+            config.setMaxLifetime(1800000);
+            
+            // Server-side limit, so a runaway query is stopped even if the client never cancels it
+            config.setConnectionInitSql("SET statement_timeout = " + workload.statementTimeoutSeconds.get() * 1000);
+            
+            // Connection validation
+            config.setConnectionTestQuery("SELECT 1");
+            config.setValidationTimeout(5000);
+            
+            // Don't connect while the class loads; the startup pipeline warms the pool in the background
+            config.setInitializationFailTimeout(-1);
+            
+            // Acquire, usage and timeout events feed the pool telemetry
+            config.setMetricsTrackerFactory(PoolTelemetry.trackerFactory(workload));
+            
+            HikariDataSource pool = new HikariDataSource(config);
+            // Acquire timeouts follow config reloads; statement timeouts are read per statement
+            workload.connectionTimeoutMs.onChange(pool::setConnectionTimeout);
+            pools.put(workload, pool);
+            poolStats.put(workload, new PoolStats());
+            int size = workload.maxPoolSize.get();
+            limiters.put(workload, new ConcurrencyLimiter("db-" + workload.poolName, size, Math.min(2, size), size,
+                workload.connectionTimeoutMs.get()));
+        }
+        PoolTelemetry.start();
+    }
+    
+    private static int minimumIdle(Workload workload) {
+        return workload == Workload.INTERACTIVE ? 3 : 0;
     }
     
+    /**
+     * Idle mode: close idle connections and keep none open. On resume the minimum is
+     * restored and the interactive pool refilled right away, rather than waiting for
+     * the pool's housekeeper, so the first click doesn't pay for a new connection.
+     * Calls may run out of order on a pool of threads; whichever runs last applies the
+     * most recently requested state.
+     */
+    public static void setIdle(boolean idle) {
+        idleRequested = idle;
+        synchronized (idleLock) {
+            boolean target = idleRequested;
+            if (target == idleApplied) return;
+            idleApplied = target;
+            for (Map.Entry<Workload, HikariDataSource> entry : pools.entrySet()) {
+                HikariDataSource pool = entry.getValue();
+                if (pool.isClosed() || pool.getHikariPoolMXBean() == null) continue;
+                pool.getHikariConfigMXBean().setMinimumIdle(target ? 0 : minimumIdle(entry.getKey()));
+                if (target) {
+                    // Idle connections close now, borrowed ones when returned
+                    pool.getHikariPoolMXBean().softEvictConnections();
+                }
+            }
+            if (!target) {
+                rewarm(Workload.INTERACTIVE);
+            }
+        }
+    }
+    
+    private static void rewarm(Workload workload) {
+        HikariDataSource pool = pools.get(workload);
+        long start = System.nanoTime();
+        List<Connection> held = new ArrayList<>();
+        try {
+            // Hold each one so the next borrow has to open another
+            while (held.size() < minimumIdle(workload)) {
+                held.add(pool.getConnection());
+            }
+        } catch (SQLException e) {
+            System.err.println("[DB-POOL] Re-warm of the " + workload.poolName + " pool stopped: " + e.getMessage());
+        } finally {
+            for (Connection conn : held) {
+                try {
+                    conn.close();
+                } catch (SQLException ignored) {
+                }
+            }
+        }
+        System.out.println("[DB-POOL] Re-warmed " + held.size() + " " + workload.poolName + " connections in "
+            + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
+    }
+    
+    static HikariPoolMXBean poolMXBean(Workload workload) {
+        HikariDataSource pool = pools.get(workload);
+        return pool != null ? pool.getHikariPoolMXBean() : null;
+    }
+    
+    /**
+     * Borrow a connection for the caller's workload: the one declared with
+     * runWithWorkload, else BACKGROUND on prefetch threads, else INTERACTIVE
+     */
     public static Connection getConnection() throws SQLException {
-        return dataSource.getConnection();
+        return getConnection(currentWorkload());
+    }
+    
+    /**
+     * Borrow a pooled connection through the concurrency limiter. The permit is held until
+     * the connection is closed, so its round trip covers the whole unit of work.
+     */
+    public static Connection getConnection(Workload workload) throws SQLException {
+        FxThreadWatchdog.checkBlockingCall("JDBC");
+        return acquire(workload);
+    }
+    
+    private static Connection acquire(Workload workload) throws SQLException {
+        long requested = System.nanoTime();
+        ConcurrencyLimiter.Permit permit;
+        try {
+            // Each pool has its own limiter; background gives up early through its short acquire timeout
+            permit = limiters.get(workload).acquire(ConcurrencyLimiter.Priority.INTERACTIVE);
+        } catch (ConcurrencyLimiter.LimitExceededException e) {
+            PerformanceMonitor.recordOperation("db_limiter_reject", 0, false);
+            // SQLSTATE 53300: too_many_connections
+            throw new SQLException(e.getMessage(), "53300", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database slot", e);
+        }
+        
+        long start = System.nanoTime();
+        try {
+            Connection conn = pools.get(workload).getConnection();
+            recordAcquire(workload, System.nanoTime() - start, true);
+            InteractionTracer.recordSpan(InteractionTracer.current(), InteractionTracer.DB,
+                "acquire " + workload.poolName, requested, System.nanoTime());
+            return wrap(conn, workload, permit, false);
+        } catch (SQLException | RuntimeException e) {
+            recordAcquire(workload, System.nanoTime() - start, false);
+            permit.release();
+            throw e;
+        }
+    }
+    
+    private static void recordAcquire(Workload workload, long nanos, boolean success) {
+        poolStats.get(workload).record(nanos, success);
+        PerformanceMonitor.recordOperation("db_acquire_" + workload.poolName, TimeUnit.NANOSECONDS.toMillis(nanos), success);
+    }
+    
+    private static Workload currentWorkload() {
+        Workload declared = declaredWorkload.get();
+        if (declared != null) return declared;
+        return AppExecutors.isBackgroundThread() ? Workload.BACKGROUND : Workload.INTERACTIVE;
+    }
+    
+    /**
+     * Run a block of service calls with every connection it takes drawn from the given workload's pool
+     */
+    public static void runWithWorkload(Workload workload, Runnable work) {
+        Workload previous = declaredWorkload.get();
+        declaredWorkload.set(workload);
+        try {
+            work.run();
+        } finally {
+            if (previous != null) declaredWorkload.set(previous); else declaredWorkload.remove();
+        }
+    }
+    
+    private static Connection wrap(Connection conn, Workload workload, ConcurrencyLimiter.Permit permit, boolean replica) {
+        InteractionTracer.Trace trace = InteractionTracer.current();
+        PoolTelemetry.Borrow borrow = PoolTelemetry.onBorrow(workload, replica);
+        long opened = System.nanoTime();
+        return (Connection) Proxy.newProxyInstance(
+            DatabaseConfig.class.getClassLoader(),
+            new Class<?>[] { Connection.class, WorkloadConnection.class },
+            (proxy, method, args) -> {
+                if ("workload".equals(method.getName()) && method.getDeclaringClass() == WorkloadConnection.class) {
+                    return workload;
+                }
+                if ("close".equals(method.getName())) {
+                    try {
+                        conn.close();
+                    } finally {
+                        if (permit != null) permit.release();
+                        PoolTelemetry.onReturn(borrow);
+                        InteractionTracer.recordSpan(trace, InteractionTracer.DB, "jdbc " + borrow.poolName(), opened, System.nanoTime());
+                    }
+                    return null;
+                }
+                try {
+                    return method.invoke(conn, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+    }
+    
+    /**
+     * Connection for a read-only query: a healthy replica when one is configured,
+     * otherwise (or right after this session wrote) the primary
+     */
+    public static Connection getReadConnection() throws SQLException {
+        return getReadConnection(currentWorkload());
+    }
+    
+    public static Connection getReadConnection(Workload workload) throws SQLException {
+        FxThreadWatchdog.checkBlockingCall("JDBC");
+        Connection replica = ReplicaRouter.tryGetReadConnection();
+        return replica != null ? wrap(replica, workload, null, true) : acquire(workload);
+    }
+    
+    public static String getLimiterStats() {
+        StringBuilder stats = new StringBuilder();
+        for (ConcurrencyLimiter limiter : limiters.values()) {
+            if (stats.length() > 0) stats.append("\n");
+            stats.append(limiter.getLimiterStats());
+        }
+        return stats.toString();
+    }
+    
+    /**
+     * Prepare a statement with its workload's query timeout, bound to the calling
+     * request scope so a superseded UI request can cancel it
+     */
+    public static PreparedStatement prepareStatement(Connection conn, String sql) throws SQLException {
+        PreparedStatement stmt = conn.prepareStatement(sql);
+        stmt.setQueryTimeout(conn instanceof WorkloadConnection tagged
+            ? tagged.workload().getStatementTimeoutSeconds() : QUERY_TIMEOUT_SECONDS);
+        if (isWrite(sql)) {
+            ReplicaRouter.markWrite();
+        }
+        RequestScope.bind(stmt);
+        return stmt;
+    }
+    
+    private static boolean isWrite(String sql) {
+        String head = sql.stripLeading();
+        head = head.substring(0, Math.min(head.length(), 8)).toUpperCase();
+        return head.startsWith("INSERT") || head.startsWith("UPDATE") || head.startsWith("DELETE")
+            || head.startsWith("WITH") && sql.toUpperCase().contains("RETURNING");
+    }
+    
+    public static String getReplicaStats() {
+        return ReplicaRouter.getReplicaStats();
+    }
+    
+    /**
+     * Get per-pool connection acquire statistics
+     */
+    public static String getPoolStats() {
+        StringBuilder stats = new StringBuilder("Connection Pools:");
+        for (Workload workload : Workload.values()) {
+            PoolStats ps = poolStats.get(workload);
+            long count = ps.acquires.get() + ps.failures.get();
+            stats.append(String.format("\n- %s (%d): %d acquires, avg %.1fms, max %.1fms, %d timeouts",
+                workload.poolName, workload.maxPoolSize.get(), ps.acquires.get(),
+                count > 0 ? ps.totalAcquireNanos.get() / (double) count / 1_000_000.0 : 0.0,
+                ps.maxAcquireNanos / 1_000_000.0, ps.failures.get()));
+        }
+        return stats.toString();
+    }
+    
+    /**
+     * Connections currently borrowed across all workload pools
+     */
+    public static int getActiveConnections() {
+        int active = 0;
+        for (HikariDataSource pool : pools.values()) {
+            if (pool.getHikariPoolMXBean() != null) {
+                active += pool.getHikariPoolMXBean().getActiveConnections();
+            }
+        }
+        return active;
     }
     
     public static void closeDataSource() {
-        if (dataSource != null && !dataSource.isClosed()) {
-            dataSource.close();
+        for (HikariDataSource pool : pools.values()) {
+            if (!pool.isClosed()) {
+                pool.close();
+            }
         }
+        ReplicaRouter.close();
     }
     
     // Validation methods
@@ -7,7 +7,7 @@ import java.sql.Statement;
 public class DatabaseInitializer {
     
     public static void createTables() {
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getConnection(Workload.BULK);
              Statement stmt = conn.createStatement()) {
             
             // Create users table
@@ -119,6 +119,19 @@ public class DatabaseInitializer {
             """;
             stmt.execute(createFriendsTable);
             
+            // Create session tokens table for remember-me logins (only SHA-256 hashes are stored)
+            String createSessionTokensTable = """
+                CREATE TABLE IF NOT EXISTS session_tokens (
+                    id SERIAL PRIMARY KEY,
+                    user_id INTEGER REFERENCES users(id) ON DELETE CASCADE,
+                    token_hash VARCHAR(64) UNIQUE NOT NULL,
+                    expires_at TIMESTAMP NOT NULL,
+                    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                    last_used_at TIMESTAMP
+                )
+            """;
+            stmt.execute(createSessionTokensTable);
+            
             // Create indexes for better performance
             String[] indexes = {
                 "CREATE INDEX IF NOT EXISTS idx_users_email ON users(email)",
@@ -127,7 +140,8 @@ public class DatabaseInitializer {
                 "CREATE INDEX IF NOT EXISTS idx_activities_user_id ON activities(user_id)",
                 "CREATE INDEX IF NOT EXISTS idx_activities_date ON activities(activity_date)",
                 "CREATE INDEX IF NOT EXISTS idx_watchlist_user_id ON watchlist(user_id)",
-                "CREATE INDEX IF NOT EXISTS idx_mood_entries_user_id ON mood_entries(user_id)"
+                "CREATE INDEX IF NOT EXISTS idx_mood_entries_user_id ON mood_entries(user_id)",
+                "CREATE INDEX IF NOT EXISTS idx_session_tokens_user_id ON session_tokens(user_id)"
             };
             
             for (String indexQuery : indexes) {
@@ -0,0 +1,281 @@
+package com.moodflix.database;
+
+import com.moodflix.util.AppConfig;
+import com.moodflix.util.AppExecutors;
+import com.moodflix.util.InteractionTracer;
+import com.moodflix.util.PerformanceMonitor;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+/**
+ * Connection pool health: live HikariCP state (active, idle, waiting threads), acquire-time
+ * histogram and usage time reported by each pool's metrics tracker, and who holds every
+ * borrowed connection. A connection held past db.leak.detection.ms is reported with the
+ * stack that borrowed it; when more threads than db.pending.dump.threshold wait on a pool,
+ * all current borrowers are dumped to the log and ~/.moodflix/diagnostics.
+ */
+public class PoolTelemetry {
+
+    // Upper bounds of the acquire-time histogram buckets; the last bucket is open-ended
+    private static final long[] ACQUIRE_BUCKETS_MS = { 1, 5, 20, 100, 500, 2000 };
+    private static final long DUMP_INTERVAL_MS = 60_000;
+    private static final int BORROW_STACK_FRAMES = 12;
+
+    private static final Map<Workload, Tracker> trackers = new EnumMap<>(Workload.class);
+    private static final Set<Borrow> borrowed = ConcurrentHashMap.newKeySet();
+    private static final AtomicLong leaksReported = new AtomicLong();
+    private static final AtomicLong dumps = new AtomicLong();
+    private static volatile long lastDumpMillis = 0;
+    private static volatile String lastDump = "No pool dumps yet";
+    private static boolean started = false;
+
+    /**
+     * One borrowed connection
+     */
+    static class Borrow {
+        final Workload workload;
+        // Borrowed from a read replica rather than the workload's primary pool
+        final boolean replica;
+        final String thread;
+        final String traceId;
+        final long borrowedAt = System.currentTimeMillis();
+        final List<StackWalker.StackFrame> stack;
+        volatile boolean leakReported;
+
+        Borrow(Workload workload, boolean replica, List<StackWalker.StackFrame> stack) {
+            this.workload = workload;
+            this.replica = replica;
+            this.thread = Thread.currentThread().getName();
+            InteractionTracer.Trace trace = InteractionTracer.current();
+            this.traceId = trace != null ? trace.getId() : null;
+            this.stack = stack;
+        }
+
+        long ageMs() {
+            return System.currentTimeMillis() - borrowedAt;
+        }
+
+        String poolName() {
+            return replica ? "replica (" + workload.poolName + ")" : workload.poolName;
+        }
+    }
+
+    /**
+     * Receives HikariCP's per-pool acquire, usage, creation and timeout events
+     */
+    static class Tracker implements IMetricsTracker {
+        final Workload workload;
+        final AtomicLongArray acquireBuckets = new AtomicLongArray(ACQUIRE_BUCKETS_MS.length + 1);
+        final AtomicLong usages = new AtomicLong();
+        final AtomicLong totalUsageMs = new AtomicLong();
+        final AtomicLong maxUsageMs = new AtomicLong();
+        final AtomicLong timeouts = new AtomicLong();
+        final AtomicLong created = new AtomicLong();
+
+        Tracker(Workload workload) {
+            this.workload = workload;
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            long ms = TimeUnit.NANOSECONDS.toMillis(elapsedAcquiredNanos);
+            int bucket = 0;
+            while (bucket < ACQUIRE_BUCKETS_MS.length && ms >= ACQUIRE_BUCKETS_MS[bucket]) bucket++;
+            acquireBuckets.incrementAndGet(bucket);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            usages.incrementAndGet();
+            totalUsageMs.addAndGet(elapsedBorrowedMillis);
+            maxUsageMs.accumulateAndGet(elapsedBorrowedMillis, Math::max);
+            PerformanceMonitor.recordOperation("db_usage_" + workload.poolName, elapsedBorrowedMillis, true);
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            created.incrementAndGet();
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.incrementAndGet();
+            PerformanceMonitor.recordOperation("db_pool_timeout_" + workload.poolName, 0, false);
+            dumpIfDue("acquire timed out on the " + workload.poolName + " pool");
+        }
+    }
+
+    static synchronized MetricsTrackerFactory trackerFactory(Workload workload) {
+        Tracker tracker = trackers.computeIfAbsent(workload, Tracker::new);
+        return (poolName, poolStats) -> tracker;
+    }
+
+    /**
+     * Begin periodic leak and pending-thread checks; called once the pools exist
+     */
+    static synchronized void start() {
+        if (started) return;
+        started = true;
+        AppExecutors.scheduler().scheduleWithFixedDelay(PoolTelemetry::check, 1, 1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Remember who borrowed a connection; the stack is only captured while leak detection is on
+     */
+    static Borrow onBorrow(Workload workload, boolean replica) {
+        List<StackWalker.StackFrame> stack = AppConfig.DB_LEAK_DETECTION_MS.get() > 0
+            ? StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> !frame.getClassName().startsWith(DatabaseConfig.class.getName())
+                    && !frame.getClassName().startsWith(PoolTelemetry.class.getName()))
+                .limit(BORROW_STACK_FRAMES).collect(Collectors.toList()))
+            : Collections.emptyList();
+        Borrow borrow = new Borrow(workload, replica, stack);
+        borrowed.add(borrow);
+        return borrow;
+    }
+
+    static void onReturn(Borrow borrow) {
+        borrowed.remove(borrow);
+        if (borrow.leakReported) {
+            System.err.println("[DB-POOL] Connection reported as leaked was returned after " + borrow.ageMs()
+                + "ms by " + borrow.thread);
+        }
+    }
+
+    private static void check() {
+        try {
+            long leakThreshold = AppConfig.DB_LEAK_DETECTION_MS.get();
+            if (leakThreshold > 0) {
+                for (Borrow borrow : borrowed) {
+                    if (!borrow.leakReported && borrow.ageMs() > leakThreshold) {
+                        borrow.leakReported = true;
+                        leaksReported.incrementAndGet();
+                        System.err.println("[DB-POOL] Possible connection leak: " + describe(borrow));
+                    }
+                }
+            }
+
+            int threshold = AppConfig.DB_PENDING_DUMP_THRESHOLD.get();
+            for (Workload workload : Workload.values()) {
+                HikariPoolMXBean pool = DatabaseConfig.poolMXBean(workload);
+                if (pool != null && pool.getThreadsAwaitingConnection() > threshold) {
+                    dumpIfDue(pool.getThreadsAwaitingConnection() + " threads waiting on the "
+                        + workload.poolName + " pool");
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println("[DB-POOL] Check failed: " + e.getMessage());
+        }
+    }
+
+    private static String describe(Borrow borrow) {
+        StringBuilder text = new StringBuilder(String.format("%s connection held %dms by %s%s",
+            borrow.poolName(), borrow.ageMs(), borrow.thread,
+            borrow.traceId != null ? " (interaction " + borrow.traceId + ")" : ""));
+        for (StackWalker.StackFrame frame : borrow.stack) {
+            text.append("\n        at ").append(frame.toStackTraceElement());
+        }
+        return text.toString();
+    }
+
+    /**
+     * Dump every borrower, at most once per minute
+     */
+    private static void dumpIfDue(String reason) {
+        long now = System.currentTimeMillis();
+        synchronized (PoolTelemetry.class) {
+            if (now - lastDumpMillis < DUMP_INTERVAL_MS) return;
+            lastDumpMillis = now;
+        }
+        String report = "Pool dump: " + reason + "\n" + getBorrowerReport();
+        lastDump = report;
+        dumps.incrementAndGet();
+        System.err.println("[DB-POOL] " + report);
+        AppExecutors.execute(AppExecutors.Lane.IO, () -> writeDump(report));
+    }
+
+    private static void writeDump(String report) {
+        Path directory = Paths.get(System.getProperty("user.home"), ".moodflix", "diagnostics");
+        Path file = directory.resolve("pool-dump-"
+            + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".txt");
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(file, report);
+            System.err.println("[DB-POOL] Pool dump written to " + file);
+        } catch (IOException e) {
+            System.err.println("[DB-POOL] Could not write " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Pool state plus every borrowed connection, longest held first
+     */
+    public static String getBorrowerReport() {
+        StringBuilder report = new StringBuilder("Pools:");
+        for (Workload workload : Workload.values()) {
+            HikariPoolMXBean pool = DatabaseConfig.poolMXBean(workload);
+            if (pool == null) continue;
+            report.append(String.format("\n- %s: %d active, %d idle, %d of %d open, %d waiting",
+                workload.poolName, pool.getActiveConnections(), pool.getIdleConnections(),
+                pool.getTotalConnections(), workload.maxPoolSize.get(), pool.getThreadsAwaitingConnection()));
+        }
+
+        List<Borrow> borrows = new ArrayList<>(borrowed);
+        borrows.sort((a, b) -> Long.compare(a.borrowedAt, b.borrowedAt));
+        report.append("\nBorrowed connections (").append(borrows.size()).append("):");
+        for (Borrow borrow : borrows) {
+            report.append("\n- ").append(describe(borrow));
+        }
+        return report.toString();
+    }
+
+    public static String getLastDump() {
+        return lastDump;
+    }
+
+    /**
+     * Get connection pool telemetry
+     */
+    public static synchronized String getTelemetryStats() {
+        StringBuilder stats = new StringBuilder("Pool Health:");
+        for (Workload workload : Workload.values()) {
+            HikariPoolMXBean pool = DatabaseConfig.poolMXBean(workload);
+            Tracker tracker = trackers.get(workload);
+            if (pool == null || tracker == null) continue;
+            long usages = tracker.usages.get();
+            stats.append(String.format("\n- %s: %d active, %d idle, %d waiting; use avg %.0fms, max %dms, %d timeouts",
+                workload.poolName, pool.getActiveConnections(), pool.getIdleConnections(),
+                pool.getThreadsAwaitingConnection(),
+                usages > 0 ? (double) tracker.totalUsageMs.get() / usages : 0.0,
+                tracker.maxUsageMs.get(), tracker.timeouts.get()));
+            stats.append("\n  acquire ms:");
+            for (int i = 0; i < tracker.acquireBuckets.length(); i++) {
+                String bound = i < ACQUIRE_BUCKETS_MS.length ? "<" + ACQUIRE_BUCKETS_MS[i] : ">=" + ACQUIRE_BUCKETS_MS[i - 1];
+                stats.append(' ').append(bound).append(':').append(tracker.acquireBuckets.get(i));
+            }
+        }
+        long replicaBorrows = borrowed.stream().filter(borrow -> borrow.replica).count();
+        stats.append(String.format("\n- Borrowed: %d primary, %d replica; Leaks Reported: %d, Dumps: %d",
+            borrowed.size() - replicaBorrows, replicaBorrows, leaksReported.get(), dumps.get()));
+        return stats.toString();
+    }
+}
@@ -0,0 +1,178 @@
+package com.moodflix.database;
+
+import com.moodflix.util.AppConfig;
+import com.moodflix.util.AppExecutors;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Routes read-only queries to streaming replicas. Replicas are listed in the
+ * db.replicas setting as host:port,host:port; without any,
+ * every read stays on the primary.
+ *
+ * After this session writes, reads stay on the primary for MAX_LAG_MS so it always sees
+ * its own writes. A health check every few seconds ejects replicas that are down or
+ * lag more than MAX_LAG_MS behind, and re-admits them once they catch up.
+ */
+class ReplicaRouter {
+
+    // Replicas further behind than this are ejected; also the read-your-writes window
+    static final long MAX_LAG_MS = 5000;
+    private static final long HEALTH_CHECK_INTERVAL_MS = 3000;
+    private static final int REPLICA_POOL_SIZE = 10;
+
+    // Replay lag in ms; 0 when fully caught up or when the server is not a standby
+    private static final String LAG_QUERY = """
+        SELECT CASE
+            WHEN NOT pg_is_in_recovery() THEN 0
+            WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+            ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+        END
+    """;
+
+    private static class Replica {
+        final String name;
+        final HikariDataSource dataSource;
+        volatile boolean healthy;
+        volatile long lagMs = -1;
+        final AtomicLong reads = new AtomicLong();
+        final AtomicInteger ejections = new AtomicInteger();
+
+        Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+
+    private static final List<Replica> replicas = new ArrayList<>();
+    private static final AtomicInteger nextReplica = new AtomicInteger();
+    private static volatile long lastWriteNanos = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(MAX_LAG_MS);
+
+    // Metrics
+    private static final AtomicLong primaryReads = new AtomicLong();
+    private static final AtomicLong readYourWritesReads = new AtomicLong();
+    private static final AtomicLong fallbacks = new AtomicLong();
+
+    static void initialize(String dbName, String user, String password) {
+        String configured = AppConfig.DB_REPLICAS.get();
+        if (configured.isBlank()) return;
+
+        for (String hostPort : configured.split(",")) {
+            hostPort = hostPort.trim();
+            if (hostPort.isEmpty()) continue;
+
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + hostPort);
+            config.setJdbcUrl("jdbc:postgresql://" + hostPort + "/" + dbName);
+            config.setUsername(user);
+            config.setPassword(password);
+            config.setReadOnly(true);
+            config.setMaximumPoolSize(REPLICA_POOL_SIZE);
+            config.setMinimumIdle(1);
+            config.setConnectionTimeout(2000);
+            config.setValidationTimeout(1000);
+            // Don't block startup on a replica that is down; the health check will find out
+            config.setInitializationFailTimeout(-1);
+            replicas.add(new Replica(hostPort, new HikariDataSource(config)));
+        }
+
+        System.out.println("[DB] Read replicas configured: " + replicas.size());
+        AppExecutors.scheduler().scheduleWithFixedDelay(ReplicaRouter::checkHealth,
+            0, HEALTH_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * A replica connection for a read, or null when the read should go to the primary
+     */
+    static Connection tryGetReadConnection() {
+        if (replicas.isEmpty()) {
+            primaryReads.incrementAndGet();
+            return null;
+        }
+        if (System.nanoTime() - lastWriteNanos < TimeUnit.MILLISECONDS.toNanos(MAX_LAG_MS)) {
+            readYourWritesReads.incrementAndGet();
+            return null;
+        }
+
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.healthy) continue;
+            try {
+                Connection conn = replica.dataSource.getConnection();
+                replica.reads.incrementAndGet();
+                return conn;
+            } catch (SQLException e) {
+                eject(replica, "connection failed: " + e.getMessage());
+            }
+        }
+        fallbacks.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Record that this session just wrote to the primary
+     */
+    static void markWrite() {
+        lastWriteNanos = System.nanoTime();
+    }
+
+    private static void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection conn = replica.dataSource.getConnection();
+                 Statement stmt = conn.createStatement()) {
+                stmt.setQueryTimeout(2);
+                try (ResultSet rs = stmt.executeQuery(LAG_QUERY)) {
+                    rs.next();
+                    replica.lagMs = (long) rs.getDouble(1);
+                }
+                if (replica.lagMs > MAX_LAG_MS) {
+                    eject(replica, "lag " + replica.lagMs + "ms");
+                } else if (!replica.healthy) {
+                    replica.healthy = true;
+                    System.out.println("[DB] Replica " + replica.name + " admitted (lag " + replica.lagMs + "ms)");
+                }
+            } catch (SQLException e) {
+                replica.lagMs = -1;
+                eject(replica, e.getMessage());
+            }
+        }
+    }
+
+    private static void eject(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            replica.ejections.incrementAndGet();
+            System.err.println("[DB] Replica " + replica.name + " ejected: " + reason);
+        }
+    }
+
+    static void close() {
+        for (Replica replica : replicas) {
+            replica.dataSource.close();
+        }
+    }
+
+    static String getReplicaStats() {
+        StringBuilder stats = new StringBuilder("Read Replicas:\n");
+        stats.append(String.format("- Configured: %d\n", replicas.size()));
+        stats.append(String.format("- Primary Reads: %d (read-your-writes %d, fallback %d)",
+            primaryReads.get() + readYourWritesReads.get() + fallbacks.get(), readYourWritesReads.get(), fallbacks.get()));
+        for (Replica replica : replicas) {
+            stats.append(String.format("\n- %s: %s, lag %s, %d reads, %d ejections",
+                replica.name, replica.healthy ? "healthy" : "ejected",
+                replica.lagMs < 0 ? "n/a" : replica.lagMs + "ms", replica.reads.get(), replica.ejections.get()));
+        }
+        return stats.toString();
+    }
+}
@@ -0,0 +1,40 @@
+package com.moodflix.database;
+
+import com.moodflix.util.AppConfig;
+
+/**
+ * Workload classes, each with its own connection pool so a slow admin listing or a
+ * burst of prefetching can't starve interactive clicks of connections.
+ * Pool sizes add up to DatabaseConfig.MAX_POOL_SIZE; all values come from AppConfig.
+ */
+public enum Workload {
+    // Clicks, login and anything a user is waiting on
+    INTERACTIVE("interactive", AppConfig.DB_INTERACTIVE_POOL_SIZE,
+        AppConfig.DB_INTERACTIVE_ACQUIRE_TIMEOUT_MS, AppConfig.DB_INTERACTIVE_STATEMENT_TIMEOUT_SECONDS),
+    // Admin listings and reports: fewer connections, longer statements allowed
+    ADMIN("admin", AppConfig.DB_ADMIN_POOL_SIZE,
+        AppConfig.DB_ADMIN_ACQUIRE_TIMEOUT_MS, AppConfig.DB_ADMIN_STATEMENT_TIMEOUT_SECONDS),
+    // Speculative prefetching; gives up quickly rather than queueing
+    BACKGROUND("background", AppConfig.DB_BACKGROUND_POOL_SIZE,
+        AppConfig.DB_BACKGROUND_ACQUIRE_TIMEOUT_MS, AppConfig.DB_BACKGROUND_STATEMENT_TIMEOUT_SECONDS),
+    // Schema setup and sample-data seeding
+    BULK("bulk", AppConfig.DB_BULK_POOL_SIZE,
+        AppConfig.DB_BULK_ACQUIRE_TIMEOUT_MS, AppConfig.DB_BULK_STATEMENT_TIMEOUT_SECONDS);
+
+    final String poolName;
+    final AppConfig.Setting<Integer> maxPoolSize;
+    final AppConfig.Setting<Long> connectionTimeoutMs;
+    final AppConfig.Setting<Integer> statementTimeoutSeconds;
+
+    Workload(String poolName, AppConfig.Setting<Integer> maxPoolSize, AppConfig.Setting<Long> connectionTimeoutMs,
+             AppConfig.Setting<Integer> statementTimeoutSeconds) {
+        this.poolName = poolName;
+        this.maxPoolSize = maxPoolSize;
+        this.connectionTimeoutMs = connectionTimeoutMs;
+        this.statementTimeoutSeconds = statementTimeoutSeconds;
+    }
+
+    public int getStatementTimeoutSeconds() {
+        return statementTimeoutSeconds.get();
+    }
+}
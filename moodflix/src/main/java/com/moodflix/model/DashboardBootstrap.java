@@ -0,0 +1,68 @@
+package com.moodflix.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class DashboardBootstrap {
+    private String email;
+    private String role;
+    private String displayName;
+    private String profilePhotoUrl;
+    private int watchlistCount;
+    private int feedbackCount;
+    private List<Content> trending;
+
+    public DashboardBootstrap(String email, String role) {
+        this.email = email;
+        this.role = role;
+        this.trending = new ArrayList<>();
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getProfilePhotoUrl() {
+        return profilePhotoUrl;
+    }
+
+    public int getWatchlistCount() {
+        return watchlistCount;
+    }
+
+    public int getFeedbackCount() {
+        return feedbackCount;
+    }
+
+    public List<Content> getTrending() {
+        return trending;
+    }
+
+    public void setDisplayName(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public void setProfilePhotoUrl(String profilePhotoUrl) {
+        this.profilePhotoUrl = profilePhotoUrl;
+    }
+
+    public void setWatchlistCount(int watchlistCount) {
+        this.watchlistCount = watchlistCount;
+    }
+
+    public void setFeedbackCount(int feedbackCount) {
+        this.feedbackCount = feedbackCount;
+    }
+
+    public void setTrending(List<Content> trending) {
+        this.trending = trending;
+    }
+}
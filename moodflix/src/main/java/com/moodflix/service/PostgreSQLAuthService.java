@@ -1,8 +1,12 @@
 package com.moodflix.service;
 
 import com.moodflix.database.DatabaseConfig;
+import com.moodflix.database.Workload;
 import com.moodflix.model.User;
-import org.mindrot.jbcrypt.BCrypt;
+import com.moodflix.util.AppExecutors;
+import com.moodflix.util.PasswordHasher;
+import com.moodflix.util.RateLimiter;
+import com.moodflix.util.UserProfileCache;
 import org.json.JSONObject;
 
 import java.sql.Connection;
@@ -12,8 +16,8 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 public class PostgreSQLAuthService {
     
@@ -25,7 +29,7 @@ public class PostgreSQLAuthService {
         try (Connection conn = DatabaseConfig.getConnection()) {
             // Check if user already exists
             String checkQuery = "SELECT email FROM users WHERE email = ?";
-            try (PreparedStatement checkStmt = conn.prepareStatement(checkQuery)) {
+            try (PreparedStatement checkStmt = DatabaseConfig.prepareStatement(conn, checkQuery)) {
                 checkStmt.setString(1, email);
                 ResultSet rs = checkStmt.executeQuery();
                 if (rs.next()) {
@@ -33,12 +37,12 @@ public class PostgreSQLAuthService {
                 }
             }
             
-            // Hash password
-            String passwordHash = BCrypt.hashpw(password, BCrypt.gensalt());
+            // Hash password on the dedicated hashing pool
+            String passwordHash = PasswordHasher.hash(password);
             
             // Insert new user
             String insertQuery = "INSERT INTO users (email, password_hash, role) VALUES (?, ?, ?) RETURNING id";
-            try (PreparedStatement stmt = conn.prepareStatement(insertQuery)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, insertQuery)) {
                 stmt.setString(1, email);
                 stmt.setString(2, passwordHash);
                 stmt.setString(3, role);
@@ -67,45 +71,126 @@ public class PostgreSQLAuthService {
     }
     
     public JSONObject login(String email, String password) throws Exception {
+        LoginRecord record = fetchLoginRecord(email);
+        if (record == null) {
+            throw new RuntimeException("User not found");
+        }
+        if (!verifyPassword(record, password)) {
+            throw new RuntimeException("Invalid password");
+        }
+        
+        // Return success response similar to Firebase
+        JSONObject response = new JSONObject();
+        response.put("localId", String.valueOf(record.getUserId()));
+        response.put("email", email);
+        response.put("displayName", "");
+        response.put("idToken", generateSimpleToken(record.getUserId(), email));
+        response.put("registered", true);
+        response.put("role", record.getRole());
+        
+        return response;
+    }
+    
+    /**
+     * Fetch the password hash and the full profile in one statement so login
+     * needs a single round trip before the BCrypt check
+     */
+    public LoginRecord fetchLoginRecord(String email) throws Exception {
         try (Connection conn = DatabaseConfig.getConnection()) {
-            String query = "SELECT id, email, password_hash, role FROM users WHERE email = ?";
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            String query = "SELECT id, email, password_hash, role, display_name, full_name, age, gender, profile_photo_url, created_at FROM users WHERE email = ?";
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setString(1, email);
                 
                 ResultSet rs = stmt.executeQuery();
                 if (rs.next()) {
-                    String storedHash = rs.getString("password_hash");
-                    
-                    if (BCrypt.checkpw(password, storedHash)) {
-                        int userId = rs.getInt("id");
-                        String role = rs.getString("role");
-                        
-                        // Return success response similar to Firebase
-                        JSONObject response = new JSONObject();
-                        response.put("localId", String.valueOf(userId));
-                        response.put("email", email);
-                        response.put("displayName", "");
-                        response.put("idToken", generateSimpleToken(userId, email));
-                        response.put("registered", true);
-                        response.put("role", role);
-                        
-                        return response;
-                    } else {
-                        throw new RuntimeException("Invalid password");
-                    }
-                } else {
-                    throw new RuntimeException("User not found");
+                    return new LoginRecord(rs.getInt("id"), rs.getString("password_hash"), toUserJson(rs));
                 }
+                return null;
             }
         } catch (SQLException e) {
             throw new Exception("Database error during login: " + e.getMessage(), e);
         }
     }
     
+    /**
+     * Check the password against a fetched record; on success the profile is cached
+     */
+    public boolean verifyPassword(LoginRecord record, String password) {
+        try {
+            return verifyPasswordAsync(record, password).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+    
+    /**
+     * Check the password against a fetched record on the hashing pool, without holding the
+     * caller's thread; on success the profile is cached
+     */
+    public CompletableFuture<Boolean> verifyPasswordAsync(LoginRecord record, String password) {
+        if (record == null || record.passwordHash == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return PasswordHasher.verifyAsync(password, record.passwordHash).thenApply(verified -> {
+            if (!verified) {
+                return false;
+            }
+            UserProfileCache.put(record.getUserId(), record.getProfile().getString("email"), record.getProfile());
+            if (PasswordHasher.needsRehash(record.passwordHash)) {
+                rehashPassword(record.getUserId(), password);
+            }
+            return true;
+        });
+    }
+    
+    /**
+     * Upgrade a hash stored with an outdated cost, off the login path
+     */
+    private void rehashPassword(int userId, String password) {
+        PasswordHasher.hashAsync(password)
+            .thenAcceptAsync(newHash -> {
+                try (Connection conn = DatabaseConfig.getConnection()) {
+                    String query = "UPDATE users SET password_hash = ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+                    try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
+                        stmt.setString(1, newHash);
+                        stmt.setInt(2, userId);
+                        stmt.executeUpdate();
+                    }
+                    PasswordHasher.recordRehash();
+                    System.out.println("[HASH] Rehashed password for user id " + userId + " at cost " + PasswordHasher.getCurrentCost());
+                } catch (SQLException e) {
+                    System.err.println("Error rehashing password: " + e.getMessage());
+                }
+            }, asyncExecutor)
+            .exceptionally(throwable -> {
+                System.err.println("Rehash skipped: " + throwable.getMessage());
+                return null;
+            });
+    }
+    
+    /**
+     * Credentials and profile row returned by {@link #fetchLoginRecord(String)}
+     */
+    public static class LoginRecord {
+        private final int userId;
+        private final String passwordHash;
+        private final JSONObject profile;
+        
+        public LoginRecord(int userId, String passwordHash, JSONObject profile) {
+            this.userId = userId;
+            this.passwordHash = passwordHash;
+            this.profile = profile;
+        }
+        
+        public int getUserId() { return userId; }
+        public String getRole() { return profile.optString("role", "user"); }
+        public JSONObject getProfile() { return profile; }
+    }
+    
     public User getUserByEmail(String email) throws SQLException {
         try (Connection conn = DatabaseConfig.getConnection()) {
             String query = "SELECT id, email, role, profile_photo_url FROM users WHERE email = ?";
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setString(1, email);
                 
                 ResultSet rs = stmt.executeQuery();
@@ -128,11 +213,13 @@ public class PostgreSQLAuthService {
     public boolean updateProfile(String email, String profilePhotoUrl) throws SQLException {
         try (Connection conn = DatabaseConfig.getConnection()) {
             String query = "UPDATE users SET profile_photo_url = ?, updated_at = CURRENT_TIMESTAMP WHERE email = ?";
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setString(1, profilePhotoUrl);
                 stmt.setString(2, email);
                 
-                return stmt.executeUpdate() > 0;
+                boolean updated = stmt.executeUpdate() > 0;
+                UserProfileCache.invalidate(email);
+                return updated;
             }
         }
     }
@@ -145,7 +232,7 @@ public class PostgreSQLAuthService {
                 JOIN users u ON f.friend_id = u.id 
                 WHERE f.user_id = ?
             """;
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setInt(1, userId);
                 
                 ResultSet rs = stmt.executeQuery();
@@ -163,7 +250,7 @@ public class PostgreSQLAuthService {
             String getUserIdQuery = "SELECT id FROM users WHERE email = ?";
             int userId = -1, friendId = -1;
             
-            try (PreparedStatement stmt = conn.prepareStatement(getUserIdQuery)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, getUserIdQuery)) {
                 stmt.setString(1, userEmail);
                 ResultSet rs = stmt.executeQuery();
                 if (rs.next()) userId = rs.getInt("id");
@@ -179,7 +266,7 @@ public class PostgreSQLAuthService {
             
             // Add friendship (bidirectional)
             String insertQuery = "INSERT INTO friends (user_id, friend_id) VALUES (?, ?) ON CONFLICT DO NOTHING";
-            try (PreparedStatement stmt = conn.prepareStatement(insertQuery)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, insertQuery)) {
                 stmt.setInt(1, userId);
                 stmt.setInt(2, friendId);
                 stmt.executeUpdate();
@@ -198,30 +285,24 @@ public class PostgreSQLAuthService {
         return "token_" + userId + "_" + System.currentTimeMillis();
     }
     
-    private static final ExecutorService asyncExecutor = Executors.newFixedThreadPool(3);
+    private static final ExecutorService asyncExecutor = AppExecutors.lane(AppExecutors.Lane.INTERACTIVE_DB);
     
     /**
      * Get user details as JSONObject (compatible with old FirebaseService.getUserDetails)
      */
     public JSONObject getUserDetails(String email) {
+        JSONObject cached = UserProfileCache.getByEmail(email);
+        if (cached != null) {
+            return cached;
+        }
         try (Connection conn = DatabaseConfig.getConnection()) {
             String query = "SELECT id, email, role, display_name, full_name, age, gender, profile_photo_url, created_at FROM users WHERE email = ?";
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setString(1, email);
                 ResultSet rs = stmt.executeQuery();
                 if (rs.next()) {
-                    JSONObject user = new JSONObject();
-                    user.put("email", rs.getString("email"));
-                    user.put("role", rs.getString("role"));
-                    user.put("displayName", rs.getString("display_name") != null ? rs.getString("display_name") : "");
-                    user.put("fullName", rs.getString("full_name") != null ? rs.getString("full_name") : "");
-                    user.put("age", rs.getString("age") != null ? rs.getString("age") : "");
-                    user.put("gender", rs.getString("gender") != null ? rs.getString("gender") : "");
-                    user.put("profilePicUrl", rs.getString("profile_photo_url") != null ? rs.getString("profile_photo_url") : "");
-                    if (rs.getTimestamp("created_at") != null) {
-                        user.put("createdAt", rs.getTimestamp("created_at").getTime());
-                    }
-                    user.put("userType", rs.getString("role"));
+                    JSONObject user = toUserJson(rs);
+                    UserProfileCache.put(rs.getInt("id"), email, user);
                     return user;
                 }
             }
@@ -231,6 +312,22 @@ public class PostgreSQLAuthService {
         return null;
     }
     
+    private JSONObject toUserJson(ResultSet rs) throws SQLException {
+        JSONObject user = new JSONObject();
+        user.put("email", rs.getString("email"));
+        user.put("role", rs.getString("role"));
+        user.put("displayName", rs.getString("display_name") != null ? rs.getString("display_name") : "");
+        user.put("fullName", rs.getString("full_name") != null ? rs.getString("full_name") : "");
+        user.put("age", rs.getString("age") != null ? rs.getString("age") : "");
+        user.put("gender", rs.getString("gender") != null ? rs.getString("gender") : "");
+        user.put("profilePicUrl", rs.getString("profile_photo_url") != null ? rs.getString("profile_photo_url") : "");
+        if (rs.getTimestamp("created_at") != null) {
+            user.put("createdAt", rs.getTimestamp("created_at").getTime());
+        }
+        user.put("userType", rs.getString("role"));
+        return user;
+    }
+    
     /**
      * Async version of getUserDetails
      */
@@ -258,9 +355,9 @@ public class PostgreSQLAuthService {
      */
     public JSONObject getAllUsers() {
         JSONObject allUsers = new JSONObject();
-        try (Connection conn = DatabaseConfig.getConnection()) {
+        try (Connection conn = DatabaseConfig.getReadConnection(Workload.ADMIN)) {
             String query = "SELECT email, role, display_name, full_name, age, gender, profile_photo_url, created_at FROM users ORDER BY created_at DESC";
-            try (PreparedStatement stmt = conn.prepareStatement(query);
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query);
                  ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
                     String email = rs.getString("email");
@@ -291,10 +388,11 @@ public class PostgreSQLAuthService {
     public void updateUserRole(String email, String newRole) throws Exception {
         try (Connection conn = DatabaseConfig.getConnection()) {
             String query = "UPDATE users SET role = ?, updated_at = CURRENT_TIMESTAMP WHERE email = ?";
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setString(1, newRole);
                 stmt.setString(2, email);
                 stmt.executeUpdate();
+                UserProfileCache.invalidate(email);
             }
         }
     }
@@ -305,13 +403,14 @@ public class PostgreSQLAuthService {
     public void updateUserDetails(String email, String fullName, String age, String gender, String role) throws Exception {
         try (Connection conn = DatabaseConfig.getConnection()) {
             String query = "UPDATE users SET full_name = ?, age = ?, gender = ?, role = ?, updated_at = CURRENT_TIMESTAMP WHERE email = ?";
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setString(1, fullName);
                 stmt.setString(2, age);
                 stmt.setString(3, gender);
                 stmt.setString(4, role);
                 stmt.setString(5, email);
                 stmt.executeUpdate();
+                UserProfileCache.invalidate(email);
             }
         }
     }
@@ -322,13 +421,14 @@ public class PostgreSQLAuthService {
     public void updateAdminProfileWithPut(String email, String displayName, String picUrl, String age, String gender) throws Exception {
         try (Connection conn = DatabaseConfig.getConnection()) {
             String query = "UPDATE users SET display_name = ?, profile_photo_url = ?, age = ?, gender = ?, updated_at = CURRENT_TIMESTAMP WHERE email = ?";
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setString(1, displayName);
                 stmt.setString(2, picUrl);
                 stmt.setString(3, age);
                 stmt.setString(4, gender);
                 stmt.setString(5, email);
                 stmt.executeUpdate();
+                UserProfileCache.invalidate(email);
             }
         }
     }
@@ -339,9 +439,10 @@ public class PostgreSQLAuthService {
     public void deleteUser(String email) throws Exception {
         try (Connection conn = DatabaseConfig.getConnection()) {
             String query = "DELETE FROM users WHERE email = ?";
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setString(1, email);
                 stmt.executeUpdate();
+                UserProfileCache.invalidate(email);
             }
         }
     }
@@ -350,12 +451,13 @@ public class PostgreSQLAuthService {
      * Save feedback (used by FeedbackPageController)
      */
     public void saveFeedback(String email, String feedback, int rating) throws Exception {
+        RateLimiter.check(RateLimiter.Operation.FEEDBACK, email);
         try (Connection conn = DatabaseConfig.getConnection()) {
             // Get user id
             int userId = getUserIdByEmail(conn, email);
             
             String query = "INSERT INTO feedback (user_id, message, rating) VALUES (?, ?, ?)";
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setInt(1, userId);
                 stmt.setString(2, feedback);
                 stmt.setInt(3, rating);
@@ -369,12 +471,12 @@ public class PostgreSQLAuthService {
      */
     public JSONObject getUserActivity(String email) {
         JSONObject activities = new JSONObject();
-        try (Connection conn = DatabaseConfig.getConnection()) {
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
             int userId = getUserIdByEmail(conn, email);
             if (userId == -1) return activities;
             
             String query = "SELECT id, title, mood, type, activity_date, duration, rating FROM activities WHERE user_id = ? ORDER BY activity_date DESC";
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setInt(1, userId);
                 ResultSet rs = stmt.executeQuery();
                 while (rs.next()) {
@@ -398,10 +500,11 @@ public class PostgreSQLAuthService {
      * Log user activity
      */
     public void logActivity(String email, String title, String mood, String type) throws Exception {
+        RateLimiter.check(RateLimiter.Operation.ACTIVITY, email);
         try (Connection conn = DatabaseConfig.getConnection()) {
             int userId = getUserIdByEmail(conn, email);
             String query = "INSERT INTO activities (user_id, title, mood, type, activity_date) VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)";
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setInt(1, userId);
                 stmt.setString(2, title);
                 stmt.setString(3, mood);
@@ -430,7 +533,7 @@ public class PostgreSQLAuthService {
      */
     private int getUserIdByEmail(Connection conn, String email) throws SQLException {
         String query = "SELECT id FROM users WHERE email = ?";
-        try (PreparedStatement stmt = conn.prepareStatement(query)) {
+        try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
             stmt.setString(1, email);
             ResultSet rs = stmt.executeQuery();
             if (rs.next()) {
@@ -441,9 +544,10 @@ public class PostgreSQLAuthService {
     }
     
     /**
-     * Clear cache - no-op for PostgreSQL (no cache to clear)
+     * Clear cached user profiles
      */
     public static void clearCache() {
-        System.out.println("[PostgreSQL] Cache cleared (no-op for direct DB access)");
+        UserProfileCache.clear();
+        System.out.println("[PostgreSQL] Profile cache cleared");
     }
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.moodflix.service;
 
 import com.moodflix.database.DatabaseConfig;
 import com.moodflix.model.Content;
+import com.moodflix.util.RateLimiter;
+import com.moodflix.util.SessionManager;
 import org.json.JSONObject;
 
 import java.sql.Connection;
@@ -22,7 +24,7 @@ public class PostgreSQLContentService {
                 VALUES (?, ?, ?, ?, ?, ?)
             """;
             
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setString(1, content.getTitle());
                 stmt.setString(2, content.getMood());
                 stmt.setString(3, content.getType());
@@ -46,10 +48,10 @@ public class PostgreSQLContentService {
     public List<Content> getAllContent() throws Exception {
         List<Content> contentList = new ArrayList<>();
         
-        try (Connection conn = DatabaseConfig.getConnection()) {
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
             String query = "SELECT title, mood, type, link, description, image_url FROM content ORDER BY created_at DESC";
             
-            try (PreparedStatement stmt = conn.prepareStatement(query);
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query);
                  ResultSet rs = stmt.executeQuery()) {
                 
                 while (rs.next()) {
@@ -77,7 +79,7 @@ public class PostgreSQLContentService {
         try (Connection conn = DatabaseConfig.getConnection()) {
             String query = "SELECT title, mood, type, link, description, image_url FROM content WHERE mood = ? ORDER BY created_at DESC";
             
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setString(1, mood);
                 
                 try (ResultSet rs = stmt.executeQuery()) {
@@ -107,7 +109,7 @@ public class PostgreSQLContentService {
         try (Connection conn = DatabaseConfig.getConnection()) {
             String query = "SELECT title, mood, type, link, description, image_url FROM content WHERE type = ? ORDER BY created_at DESC";
             
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setString(1, type);
                 
                 try (ResultSet rs = stmt.executeQuery()) {
@@ -132,6 +134,7 @@ public class PostgreSQLContentService {
     }
     
     public List<Content> searchContent(String searchTerm) throws Exception {
+        RateLimiter.check(RateLimiter.Operation.SEARCH, SessionManager.getEmail());
         List<Content> contentList = new ArrayList<>();
         
         try (Connection conn = DatabaseConfig.getConnection()) {
@@ -141,7 +144,7 @@ public class PostgreSQLContentService {
                 ORDER BY created_at DESC
             """;
             
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 String searchPattern = "%" + searchTerm + "%";
                 stmt.setString(1, searchPattern);
                 stmt.setString(2, searchPattern);
@@ -171,7 +174,7 @@ public class PostgreSQLContentService {
         try (Connection conn = DatabaseConfig.getConnection()) {
             String query = "DELETE FROM content WHERE title = ?";
             
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setString(1, title);
                 
                 int rowsAffected = stmt.executeUpdate();
@@ -186,7 +189,7 @@ public class PostgreSQLContentService {
         try (Connection conn = DatabaseConfig.getConnection()) {
             String query = "SELECT title, mood, type, link, description, image_url FROM content WHERE title = ?";
             
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setString(1, title);
                 
                 try (ResultSet rs = stmt.executeQuery()) {
@@ -213,7 +216,7 @@ public class PostgreSQLContentService {
         try (Connection conn = DatabaseConfig.getConnection()) {
             String query = "SELECT COUNT(*) as count FROM content";
             
-            try (PreparedStatement stmt = conn.prepareStatement(query);
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query);
                  ResultSet rs = stmt.executeQuery()) {
                 
                 if (rs.next()) {
@@ -232,9 +235,9 @@ public class PostgreSQLContentService {
      */
     public String getAllContentJson() throws Exception {
         JSONObject allContent = new JSONObject();
-        try (Connection conn = DatabaseConfig.getConnection()) {
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
             String query = "SELECT id, title, mood, type, link, description, image_url FROM content ORDER BY created_at DESC";
-            try (PreparedStatement stmt = conn.prepareStatement(query);
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query);
                  ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
                     JSONObject item = new JSONObject();
@@ -264,7 +267,7 @@ public class PostgreSQLContentService {
                 try {
                     int id = Integer.parseInt(key.replace("content_", ""));
                     query = "UPDATE content SET title = ?, mood = ?, type = ?, link = ?, description = ?, image_url = ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?";
-                    stmt = conn.prepareStatement(query);
+                    stmt = DatabaseConfig.prepareStatement(conn, query);
                     stmt.setString(1, content.getTitle());
                     stmt.setString(2, content.getMood());
                     stmt.setString(3, content.getType());
@@ -275,7 +278,7 @@ public class PostgreSQLContentService {
                 } catch (NumberFormatException e) {
                     // Fallback to title-based update
                     query = "UPDATE content SET mood = ?, type = ?, link = ?, description = ?, image_url = ?, updated_at = CURRENT_TIMESTAMP WHERE title = ?";
-                    stmt = conn.prepareStatement(query);
+                    stmt = DatabaseConfig.prepareStatement(conn, query);
                     stmt.setString(1, content.getMood());
                     stmt.setString(2, content.getType());
                     stmt.setString(3, content.getLink());
@@ -285,7 +288,7 @@ public class PostgreSQLContentService {
                 }
             } else {
                 query = "UPDATE content SET mood = ?, type = ?, link = ?, description = ?, image_url = ?, updated_at = CURRENT_TIMESTAMP WHERE title = ?";
-                stmt = conn.prepareStatement(query);
+                stmt = DatabaseConfig.prepareStatement(conn, query);
                 stmt.setString(1, content.getMood());
                 stmt.setString(2, content.getType());
                 stmt.setString(3, content.getLink());
@@ -319,7 +322,7 @@ public class PostgreSQLContentService {
             }
             queryBuilder.append(" ORDER BY created_at DESC");
             
-            try (PreparedStatement stmt = conn.prepareStatement(queryBuilder.toString())) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, queryBuilder.toString())) {
                 for (int i = 0; i < params.size(); i++) {
                     stmt.setString(i + 1, params.get(i));
                 }
@@ -349,7 +352,7 @@ public class PostgreSQLContentService {
                 try {
                     int id = Integer.parseInt(key.replace("content_", ""));
                     String query = "DELETE FROM content WHERE id = ?";
-                    try (PreparedStatement stmt = conn.prepareStatement(query)) {
+                    try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                         stmt.setInt(1, id);
                         stmt.executeUpdate();
                     }
@@ -381,7 +384,7 @@ public class PostgreSQLContentService {
             List<Content> contentList = new ArrayList<>();
             try (Connection conn = DatabaseConfig.getConnection()) {
                 String query = "SELECT title, mood, type, link, description, image_url FROM content WHERE mood = ? AND type = ? ORDER BY created_at DESC";
-                try (PreparedStatement stmt = conn.prepareStatement(query)) {
+                try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                     stmt.setString(1, mood);
                     stmt.setString(2, type);
                     try (ResultSet rs = stmt.executeQuery()) {
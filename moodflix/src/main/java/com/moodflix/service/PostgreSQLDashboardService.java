@@ -0,0 +1,94 @@
+package com.moodflix.service;
+
+import com.moodflix.database.DatabaseConfig;
+import com.moodflix.model.Content;
+import com.moodflix.model.DashboardBootstrap;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class PostgreSQLDashboardService {
+
+    public static final int DEFAULT_PAGE_SIZE = 3;
+
+    // Profile, badge counters and the first page of trending content in one round trip
+    private static final String BOOTSTRAP_QUERY = """
+        WITH u AS (
+            SELECT id, email, role, display_name, profile_photo_url
+            FROM users WHERE email = ?
+        ),
+        watchlist_count AS (
+            SELECT COUNT(*) AS cnt FROM watchlist w JOIN u ON w.user_id = u.id
+        ),
+        feedback_count AS (
+            SELECT COUNT(*) AS cnt FROM feedback f JOIN u ON f.user_id = u.id
+        ),
+        trending AS (
+            SELECT title, mood, type, link, description, image_url
+            FROM content ORDER BY title
+            LIMIT ?
+        )
+        SELECT u.email, u.role, u.display_name, u.profile_photo_url,
+               (SELECT cnt FROM watchlist_count) AS watchlist_count,
+               (SELECT cnt FROM feedback_count) AS feedback_count,
+               (SELECT COALESCE(json_agg(json_build_object(
+                    'title', t.title, 'mood', t.mood, 'type', t.type, 'link', t.link,
+                    'description', t.description, 'imageUrl', t.image_url)), '[]'::json)
+                FROM trending t) AS trending
+        FROM u
+    """;
+
+    /**
+     * Load everything the user dashboard needs on open with a single query
+     */
+    public DashboardBootstrap getDashboardBootstrap(String email) throws Exception {
+        return getDashboardBootstrap(email, DEFAULT_PAGE_SIZE);
+    }
+
+    public DashboardBootstrap getDashboardBootstrap(String email, int pageSize) throws Exception {
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, BOOTSTRAP_QUERY)) {
+            stmt.setString(1, email);
+            stmt.setInt(2, pageSize);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                DashboardBootstrap bootstrap = new DashboardBootstrap(rs.getString("email"), rs.getString("role"));
+                bootstrap.setDisplayName(rs.getString("display_name") != null ? rs.getString("display_name") : "");
+                bootstrap.setProfilePhotoUrl(rs.getString("profile_photo_url") != null ? rs.getString("profile_photo_url") : "");
+                bootstrap.setWatchlistCount(rs.getInt("watchlist_count"));
+                bootstrap.setFeedbackCount(rs.getInt("feedback_count"));
+                bootstrap.setTrending(parseContentArray(rs.getString("trending")));
+                return bootstrap;
+            }
+        } catch (SQLException e) {
+            throw new Exception("Database error while loading dashboard: " + e.getMessage(), e);
+        }
+    }
+
+    private List<Content> parseContentArray(String json) {
+        List<Content> contentList = new ArrayList<>();
+        if (json == null || json.isEmpty()) return contentList;
+        JSONArray arr = new JSONArray(json);
+        for (int i = 0; i < arr.length(); i++) {
+            JSONObject item = arr.getJSONObject(i);
+            contentList.add(new Content(
+                item.optString("title", ""),
+                item.optString("mood", ""),
+                item.optString("type", ""),
+                item.optString("link", ""),
+                item.optString("description", ""),
+                item.optString("imageUrl", "")
+            ));
+        }
+        return contentList;
+    }
+}
@@ -1,6 +1,7 @@
 package com.moodflix.service;
 
 import com.moodflix.database.DatabaseConfig;
+import com.moodflix.database.Workload;
 import com.moodflix.model.Activity;
 import com.moodflix.model.Feedback;
 import com.moodflix.model.MoodEntry;
@@ -30,7 +31,7 @@ public class PostgreSQLDatabaseService {
                 VALUES (?, ?, ?, ?, ?, ?, ?)
             """;
             
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setInt(1, userId);
                 stmt.setString(2, activity.getTitle());
                 stmt.setString(3, activity.getMood());
@@ -50,7 +51,7 @@ public class PostgreSQLDatabaseService {
     public List<Activity> getActivitiesByUser(String userEmail) throws Exception {
         List<Activity> activities = new ArrayList<>();
         
-        try (Connection conn = DatabaseConfig.getConnection()) {
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
             int userId = getUserIdByEmail(userEmail, conn);
             
             if (userId == -1) {
@@ -63,7 +64,7 @@ public class PostgreSQLDatabaseService {
                 ORDER BY activity_date DESC
             """;
             
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setInt(1, userId);
                 
                 try (ResultSet rs = stmt.executeQuery()) {
@@ -106,7 +107,7 @@ public class PostgreSQLDatabaseService {
                 LIMIT ?
             """;
             
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setInt(1, userId);
                 stmt.setInt(2, limit);
                 
@@ -144,7 +145,7 @@ public class PostgreSQLDatabaseService {
             
             String query = "INSERT INTO feedback (user_id, message, rating) VALUES (?, ?, ?)";
             
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setInt(1, userId);
                 stmt.setString(2, feedback.getMessage());
                 stmt.setInt(3, feedback.getRating());
@@ -160,7 +161,7 @@ public class PostgreSQLDatabaseService {
     public List<Feedback> getAllFeedback() throws Exception {
         List<Feedback> feedbackList = new ArrayList<>();
         
-        try (Connection conn = DatabaseConfig.getConnection()) {
+        try (Connection conn = DatabaseConfig.getReadConnection(Workload.ADMIN)) {
             String query = """
                 SELECT u.email, f.message, f.rating, f.created_at 
                 FROM feedback f 
@@ -168,7 +169,7 @@ public class PostgreSQLDatabaseService {
                 ORDER BY f.created_at DESC
             """;
             
-            try (PreparedStatement stmt = conn.prepareStatement(query);
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query);
                  ResultSet rs = stmt.executeQuery()) {
                 
                 while (rs.next()) {
@@ -198,7 +199,7 @@ public class PostgreSQLDatabaseService {
             
             String query = "INSERT INTO mood_entries (user_id, mood, entry_timestamp) VALUES (?, ?, ?)";
             
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setInt(1, userId);
                 stmt.setString(2, moodEntry.getMood());
                 stmt.setTimestamp(3, Timestamp.valueOf(moodEntry.getTimestamp()));
@@ -228,7 +229,7 @@ public class PostgreSQLDatabaseService {
                 ORDER BY entry_timestamp DESC
             """;
             
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setInt(1, userId);
                 
                 try (ResultSet rs = stmt.executeQuery()) {
@@ -248,12 +249,52 @@ public class PostgreSQLDatabaseService {
         return moodEntries;
     }
     
+    /**
+     * Moods the user is most likely to pick now, best first. Scores the last 90 days of
+     * mood entries with a two-week recency decay, doubling entries made within two hours
+     * of the current time of day.
+     */
+    public List<String> getLikelyMoods(String userEmail, int hourOfDay, int limit) throws Exception {
+        List<String> moods = new ArrayList<>();
+        
+        String query = """
+            SELECT m.mood,
+                   SUM(CASE WHEN LEAST(ABS(EXTRACT(HOUR FROM m.entry_timestamp) - ?),
+                                       24 - ABS(EXTRACT(HOUR FROM m.entry_timestamp) - ?)) <= 2
+                            THEN 2.0 ELSE 1.0 END
+                       * EXP(-EXTRACT(EPOCH FROM (NOW() - m.entry_timestamp)) / 1209600.0)) AS score
+            FROM mood_entries m JOIN users u ON m.user_id = u.id
+            WHERE u.email = ? AND m.entry_timestamp > NOW() - INTERVAL '90 days'
+            GROUP BY m.mood
+            ORDER BY score DESC
+            LIMIT ?
+        """;
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
+            stmt.setInt(1, hourOfDay);
+            stmt.setInt(2, hourOfDay);
+            stmt.setString(3, userEmail);
+            stmt.setInt(4, limit);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    moods.add(rs.getString("mood"));
+                }
+            }
+        } catch (SQLException e) {
+            throw new Exception("Database error while predicting moods: " + e.getMessage(), e);
+        }
+        
+        return moods;
+    }
+    
     // Statistics methods
     public int getTotalUsers() throws SQLException {
-        try (Connection conn = DatabaseConfig.getConnection()) {
+        try (Connection conn = DatabaseConfig.getConnection(Workload.ADMIN)) {
             String query = "SELECT COUNT(*) as count FROM users";
             
-            try (PreparedStatement stmt = conn.prepareStatement(query);
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query);
                  ResultSet rs = stmt.executeQuery()) {
                 
                 if (rs.next()) {
@@ -274,7 +315,7 @@ public class PostgreSQLDatabaseService {
             
             String query = "SELECT COUNT(*) as count FROM activities WHERE user_id = ?";
             
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setInt(1, userId);
                 
                 try (ResultSet rs = stmt.executeQuery()) {
@@ -290,7 +331,7 @@ public class PostgreSQLDatabaseService {
     // Helper method
     private int getUserIdByEmail(String email, Connection conn) throws SQLException {
         String query = "SELECT id FROM users WHERE email = ?";
-        try (PreparedStatement stmt = conn.prepareStatement(query)) {
+        try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
             stmt.setString(1, email);
             
             try (ResultSet rs = stmt.executeQuery()) {
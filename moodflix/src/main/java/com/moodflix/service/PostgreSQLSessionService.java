@@ -0,0 +1,107 @@
+package com.moodflix.service;
+
+import com.moodflix.database.DatabaseConfig;
+import org.json.JSONObject;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Base64;
+import java.util.HexFormat;
+
+public class PostgreSQLSessionService {
+
+    private static final long TOKEN_TTL_MS = 30L * 24 * 60 * 60 * 1000; // 30 days
+    private static final SecureRandom secureRandom = new SecureRandom();
+
+    /**
+     * Issue a remember-me token for a user; only its SHA-256 hash is stored
+     */
+    public String createSessionToken(String email) throws Exception {
+        byte[] raw = new byte[32];
+        secureRandom.nextBytes(raw);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            String query = "INSERT INTO session_tokens (user_id, token_hash, expires_at) " +
+                           "SELECT id, ?, ? FROM users WHERE email = ?";
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
+                stmt.setString(1, hashToken(token));
+                stmt.setTimestamp(2, new Timestamp(System.currentTimeMillis() + TOKEN_TTL_MS));
+                stmt.setString(3, email);
+                if (stmt.executeUpdate() == 0) {
+                    throw new RuntimeException("User not found");
+                }
+            }
+            return token;
+        } catch (SQLException e) {
+            throw new Exception("Database error while creating session token: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Validate a token with one indexed lookup and return the user's profile, or null if
+     * the token is unknown or expired
+     */
+    public JSONObject validateSessionToken(String token) throws Exception {
+        if (token == null || token.isEmpty()) return null;
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            String query = """
+                UPDATE session_tokens t SET last_used_at = CURRENT_TIMESTAMP
+                FROM users u
+                WHERE t.user_id = u.id AND t.token_hash = ? AND t.expires_at > CURRENT_TIMESTAMP
+                RETURNING u.id, u.email, u.role, u.display_name, u.full_name, u.age, u.gender, u.profile_photo_url
+            """;
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
+                stmt.setString(1, hashToken(token));
+                ResultSet rs = stmt.executeQuery();
+                if (rs.next()) {
+                    JSONObject user = new JSONObject();
+                    user.put("localId", String.valueOf(rs.getInt("id")));
+                    user.put("email", rs.getString("email"));
+                    user.put("role", rs.getString("role"));
+                    user.put("displayName", rs.getString("display_name") != null ? rs.getString("display_name") : "");
+                    user.put("fullName", rs.getString("full_name") != null ? rs.getString("full_name") : "");
+                    user.put("age", rs.getString("age") != null ? rs.getString("age") : "");
+                    user.put("gender", rs.getString("gender") != null ? rs.getString("gender") : "");
+                    user.put("profilePicUrl", rs.getString("profile_photo_url") != null ? rs.getString("profile_photo_url") : "");
+                    user.put("userType", rs.getString("role"));
+                    return user;
+                }
+            }
+        } catch (SQLException e) {
+            throw new Exception("Database error while validating session token: " + e.getMessage(), e);
+        }
+        return null;
+    }
+
+    /**
+     * Revoke a token (logout) and purge any expired ones
+     */
+    public void revokeSessionToken(String token) throws Exception {
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            String query = "DELETE FROM session_tokens WHERE token_hash = ? OR expires_at <= CURRENT_TIMESTAMP";
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
+                stmt.setString(1, token != null ? hashToken(token) : "");
+                stmt.executeUpdate();
+            }
+        } catch (SQLException e) {
+            throw new Exception("Database error while revoking session token: " + e.getMessage(), e);
+        }
+    }
+
+    private static String hashToken(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -29,7 +29,7 @@ public class PostgreSQLWatchlistService {
             // Add to watchlist (ON CONFLICT DO NOTHING prevents duplicates)
             String query = "INSERT INTO watchlist (user_id, content_id) VALUES (?, ?) ON CONFLICT (user_id, content_id) DO NOTHING";
             
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setInt(1, userId);
                 stmt.setInt(2, contentId);
                 
@@ -44,7 +44,7 @@ public class PostgreSQLWatchlistService {
     public List<Content> getWatchlist(String userEmail) throws Exception {
         List<Content> watchlist = new ArrayList<>();
         
-        try (Connection conn = DatabaseConfig.getConnection()) {
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
             int userId = getUserIdByEmail(userEmail, conn);
             
             if (userId == -1) {
@@ -59,7 +59,7 @@ public class PostgreSQLWatchlistService {
                 ORDER BY w.added_at DESC
             """;
             
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setInt(1, userId);
                 
                 try (ResultSet rs = stmt.executeQuery()) {
@@ -97,7 +97,7 @@ public class PostgreSQLWatchlistService {
             
             String query = "DELETE FROM watchlist WHERE user_id = ? AND content_id = ?";
             
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setInt(1, userId);
                 stmt.setInt(2, contentId);
                 
@@ -114,7 +114,7 @@ public class PostgreSQLWatchlistService {
     }
     
     public boolean isInWatchlist(String userEmail, String contentTitle) throws Exception {
-        try (Connection conn = DatabaseConfig.getConnection()) {
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
             int userId = getUserIdByEmail(userEmail, conn);
             int contentId = getContentIdByTitle(contentTitle, conn);
             
@@ -124,7 +124,7 @@ public class PostgreSQLWatchlistService {
             
             String query = "SELECT COUNT(*) as count FROM watchlist WHERE user_id = ? AND content_id = ?";
             
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setInt(1, userId);
                 stmt.setInt(2, contentId);
                 
@@ -142,7 +142,7 @@ public class PostgreSQLWatchlistService {
     }
     
     public int getWatchlistCount(String userEmail) throws Exception {
-        try (Connection conn = DatabaseConfig.getConnection()) {
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
             int userId = getUserIdByEmail(userEmail, conn);
             
             if (userId == -1) {
@@ -151,7 +151,7 @@ public class PostgreSQLWatchlistService {
             
             String query = "SELECT COUNT(*) as count FROM watchlist WHERE user_id = ?";
             
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setInt(1, userId);
                 
                 try (ResultSet rs = stmt.executeQuery()) {
@@ -177,7 +177,7 @@ public class PostgreSQLWatchlistService {
             
             String query = "DELETE FROM watchlist WHERE user_id = ?";
             
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setInt(1, userId);
                 
                 int rowsAffected = stmt.executeUpdate();
@@ -191,7 +191,7 @@ public class PostgreSQLWatchlistService {
     // Helper methods
     private int getUserIdByEmail(String email, Connection conn) throws SQLException {
         String query = "SELECT id FROM users WHERE email = ?";
-        try (PreparedStatement stmt = conn.prepareStatement(query)) {
+        try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
             stmt.setString(1, email);
             
             try (ResultSet rs = stmt.executeQuery()) {
@@ -205,7 +205,7 @@ public class PostgreSQLWatchlistService {
     
     private int getContentIdByTitle(String title, Connection conn) throws SQLException {
         String query = "SELECT id FROM content WHERE title = ?";
-        try (PreparedStatement stmt = conn.prepareStatement(query)) {
+        try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
             stmt.setString(1, title);
             
             try (ResultSet rs = stmt.executeQuery()) {
@@ -221,7 +221,7 @@ public class PostgreSQLWatchlistService {
      * Get watchlist as JSON string (used by WatchlistPageController for backward compatibility)
      */
     public String getWatchlistJson(String userEmail) throws Exception {
-        try (Connection conn = DatabaseConfig.getConnection()) {
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
             int userId = getUserIdByEmail(userEmail, conn);
             if (userId == -1) return null;
             
@@ -234,7 +234,7 @@ public class PostgreSQLWatchlistService {
             """;
             
             JSONObject result = new JSONObject();
-            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            try (PreparedStatement stmt = DatabaseConfig.prepareStatement(conn, query)) {
                 stmt.setInt(1, userId);
                 try (ResultSet rs = stmt.executeQuery()) {
                     int idx = 0;
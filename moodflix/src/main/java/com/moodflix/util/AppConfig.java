@@ -0,0 +1,329 @@
+package com.moodflix.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Typed performance settings. Each value is resolved in this order:
+ * environment (MOODFLIX_CACHE_MAX_SIZE), system property (-Dmoodflix.cache.max.size),
+ * the config file (cache.max.size=...), then the built-in default.
+ *
+ * The config file is ~/.moodflix/moodflix.properties unless -Dmoodflix.config or
+ * MOODFLIX_CONFIG points elsewhere. Once startWatching() runs, edits to the file are
+ * picked up within a few seconds; reloadable settings change in place, the others are
+ * reported as needing a restart. Invalid values are rejected and the previous value kept.
+ */
+public class AppConfig {
+
+    /**
+     * One validated setting
+     */
+    public static final class Setting<T extends Comparable<T>> {
+        private final String key;
+        private final T defaultValue;
+        private final T min;
+        private final T max;
+        private final Function<String, T> parser;
+        private final boolean reloadable;
+        private final List<Consumer<T>> listeners = new CopyOnWriteArrayList<>();
+        private volatile T value;
+        private volatile String source = "default";
+
+        private Setting(String key, T defaultValue, T min, T max, Function<String, T> parser, boolean reloadable) {
+            this.key = key;
+            this.defaultValue = defaultValue;
+            this.min = min;
+            this.max = max;
+            this.parser = parser;
+            this.reloadable = reloadable;
+            this.value = defaultValue;
+        }
+
+        public T get() {
+            return value;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public boolean isReloadable() {
+            return reloadable;
+        }
+
+        /**
+         * Called with the new value after a reload changes it
+         */
+        public void onChange(Consumer<T> listener) {
+            listeners.add(listener);
+        }
+
+        private T parse(String raw) {
+            T parsed = parser.apply(raw.trim());
+            if (min != null && (parsed.compareTo(min) < 0 || parsed.compareTo(max) > 0)) {
+                throw new IllegalArgumentException("must be between " + min + " and " + max);
+            }
+            return parsed;
+        }
+    }
+
+    private static final List<Setting<?>> settings = new ArrayList<>();
+    private static final List<String> problems = new CopyOnWriteArrayList<>();
+    private static volatile long configFileModified = -1;
+
+    // Database pools: sizes need a restart, timeouts apply on reload
+    public static final Setting<Integer> DB_INTERACTIVE_POOL_SIZE = intSetting("db.interactive.pool.size", 12, 1, 100, false);
+    public static final Setting<Long> DB_INTERACTIVE_ACQUIRE_TIMEOUT_MS = longSetting("db.interactive.acquire.timeout.ms", 3000L, 250L, 60000L, true);
+    public static final Setting<Integer> DB_INTERACTIVE_STATEMENT_TIMEOUT_SECONDS = intSetting("db.interactive.statement.timeout.seconds", 10, 1, 600, true);
+    public static final Setting<Integer> DB_ADMIN_POOL_SIZE = intSetting("db.admin.pool.size", 4, 1, 100, false);
+    public static final Setting<Long> DB_ADMIN_ACQUIRE_TIMEOUT_MS = longSetting("db.admin.acquire.timeout.ms", 5000L, 250L, 60000L, true);
+    public static final Setting<Integer> DB_ADMIN_STATEMENT_TIMEOUT_SECONDS = intSetting("db.admin.statement.timeout.seconds", 30, 1, 600, true);
+    public static final Setting<Integer> DB_BACKGROUND_POOL_SIZE = intSetting("db.background.pool.size", 3, 1, 100, false);
+    public static final Setting<Long> DB_BACKGROUND_ACQUIRE_TIMEOUT_MS = longSetting("db.background.acquire.timeout.ms", 1000L, 250L, 60000L, true);
+    public static final Setting<Integer> DB_BACKGROUND_STATEMENT_TIMEOUT_SECONDS = intSetting("db.background.statement.timeout.seconds", 5, 1, 600, true);
+    public static final Setting<Integer> DB_BULK_POOL_SIZE = intSetting("db.bulk.pool.size", 1, 1, 100, false);
+    public static final Setting<Long> DB_BULK_ACQUIRE_TIMEOUT_MS = longSetting("db.bulk.acquire.timeout.ms", 10000L, 250L, 60000L, true);
+    public static final Setting<Integer> DB_BULK_STATEMENT_TIMEOUT_SECONDS = intSetting("db.bulk.statement.timeout.seconds", 120, 1, 3600, true);
+    // Connections held longer than this are reported with their borrowing stack (0 disables)
+    public static final Setting<Long> DB_LEAK_DETECTION_MS = longSetting("db.leak.detection.ms", 15000L, 0L, 10 * 60 * 1000L, true);
+    // More threads than this waiting on one pool triggers a dump of every borrower
+    public static final Setting<Integer> DB_PENDING_DUMP_THRESHOLD = intSetting("db.pending.dump.threshold", 3, 1, 1000, true);
+
+    // Caches
+    public static final Setting<Long> CACHE_DEFAULT_TTL_MS = longSetting("cache.default.ttl.ms", 5 * 60 * 1000L, 1000L, 24 * 60 * 60 * 1000L, true);
+    public static final Setting<Long> CACHE_USER_TTL_MS = longSetting("cache.user.ttl.ms", 10 * 60 * 1000L, 1000L, 24 * 60 * 60 * 1000L, true);
+    public static final Setting<Long> CACHE_CONTENT_TTL_MS = longSetting("cache.content.ttl.ms", 15 * 60 * 1000L, 1000L, 24 * 60 * 60 * 1000L, true);
+    public static final Setting<Integer> CACHE_MAX_SIZE = intSetting("cache.max.size", 1000, 10, 100000, true);
+    public static final Setting<Long> NAVIGATION_CACHE_TTL_MS = longSetting("navigation.cache.ttl.ms", 10 * 60 * 1000L, 1000L, 24 * 60 * 60 * 1000L, true);
+    public static final Setting<Long> PROFILE_CACHE_TTL_MS = longSetting("profile.cache.ttl.ms", 10 * 60 * 1000L, 1000L, 24 * 60 * 60 * 1000L, true);
+    public static final Setting<Integer> NAVIGATION_PREFETCH_MIN_PROBABILITY_PERCENT = intSetting("navigation.prefetch.min.probability.percent", 35, 1, 100, true);
+    public static final Setting<Integer> NAVIGATION_PREFETCH_MIN_SAMPLES = intSetting("navigation.prefetch.min.samples", 3, 1, 1000, true);
+    public static final Setting<Integer> NAVIGATION_PREFETCH_MAX_HEAP_PERCENT = intSetting("navigation.prefetch.max.heap.percent", 75, 10, 100, true);
+    public static final Setting<Integer> NAVIGATION_PREFETCH_MAX_CPU_PERCENT = intSetting("navigation.prefetch.max.cpu.percent", 70, 10, 100, true);
+    public static final Setting<Integer> MOOD_PREFETCH_COUNT = intSetting("mood.prefetch.count", 2, 0, 10, true);
+    // How long a mood click waits on an in-flight prefetch before querying itself
+    public static final Setting<Long> MOOD_PREFETCH_WAIT_MS = longSetting("mood.prefetch.wait.ms", 1500L, 0L, 30000L, true);
+    public static final Setting<Integer> SCENE_CACHE_BUDGET_MB = intSetting("scene.cache.budget.mb", 64, 4, 2048, true);
+    // Grid cards drawn as one snapshot image until hovered; off by default, each costs ~350 KB of texture
+    public static final Setting<Integer> CARD_SNAPSHOTS = intSetting("card.snapshots", 0, 0, 1, true);
+    public static final Setting<Integer> CARD_SNAPSHOT_CACHE_MB = intSetting("card.snapshot.cache.mb", 96, 4, 2048, true);
+
+    // UI and HTTP
+    public static final Setting<Integer> FX_STALL_THRESHOLD_MS = intSetting("fx.stall.threshold.ms", 100, 16, 10000, true);
+    public static final Setting<Integer> FX_STALL_SAMPLE_INTERVAL_MS = intSetting("fx.stall.sample.interval.ms", 10, 1, 1000, true);
+    // Idle mode after this long without input (0: only while minimized)
+    public static final Setting<Integer> IDLE_TIMEOUT_SECONDS = intSetting("idle.timeout.seconds", 300, 0, 24 * 60 * 60, true);
+    // FX thread time per pulse for queued UI updates; the rest waits for the next pulse
+    public static final Setting<Integer> FX_UPDATE_BUDGET_MS = intSetting("fx.update.budget.ms", 8, 1, 100, true);
+    // Frames slower than this (p90) for several seconds switch on low-overhead rendering; 1 forces it on
+    public static final Setting<Integer> RENDER_FRAME_BUDGET_MS = intSetting("render.frame.budget.ms", 25, 8, 500, true);
+    public static final Setting<Integer> RENDER_LOW_OVERHEAD_FORCED = intSetting("render.low.overhead.forced", 0, 0, 1, true);
+    public static final Setting<Long> CLICK_DEBOUNCE_MS = longSetting("click.debounce.ms", 100L, 0L, 2000L, true);
+    public static final Setting<Integer> HTTP_MAX_CONNECTIONS = intSetting("http.max.connections", 20, 1, 500, true);
+    public static final Setting<Integer> HTTP_CONNECT_TIMEOUT_MS = intSetting("http.connect.timeout.ms", 3000, 100, 120000, true);
+    public static final Setting<Integer> HTTP_READ_TIMEOUT_MS = intSetting("http.read.timeout.ms", 5000, 100, 300000, true);
+    // Blocking JDBC/HTTP calls on the FX thread throw instead of only being logged
+    public static final Setting<Boolean> FX_STRICT = booleanSetting("fx.strict", false, true);
+
+    // Per-user rate limits: burst size and sustained operations per minute
+    public static final Setting<Integer> RATE_LIMIT_ACTIVITY_BURST = intSetting("ratelimit.activity.burst", 20, 1, 10000, true);
+    public static final Setting<Integer> RATE_LIMIT_ACTIVITY_PER_MINUTE = intSetting("ratelimit.activity.per.minute", 300, 1, 100000, true);
+    public static final Setting<Integer> RATE_LIMIT_SEARCH_BURST = intSetting("ratelimit.search.burst", 10, 1, 10000, true);
+    public static final Setting<Integer> RATE_LIMIT_SEARCH_PER_MINUTE = intSetting("ratelimit.search.per.minute", 120, 1, 100000, true);
+    public static final Setting<Integer> RATE_LIMIT_FEEDBACK_BURST = intSetting("ratelimit.feedback.burst", 3, 1, 10000, true);
+    public static final Setting<Integer> RATE_LIMIT_FEEDBACK_PER_MINUTE = intSetting("ratelimit.feedback.per.minute", 6, 1, 100000, true);
+
+    // Executor lanes (restart required)
+    public static final Setting<Integer> EXECUTOR_DB_THREADS = intSetting("executor.db.threads", 8, 1, 256, false);
+    public static final Setting<Integer> EXECUTOR_PREFETCH_THREADS = intSetting("executor.prefetch.threads", 2, 1, 64, false);
+    public static final Setting<Integer> EXECUTOR_IO_THREADS = intSetting("executor.io.threads", 8, 1, 256, false);
+    // Thread kind for the blocking lanes; virtual needs Java 21+
+    public static final Setting<String> THREADS = choiceSetting("threads", "platform", false, "platform", "virtual");
+
+    // Read replicas as host:port,host:port; empty sends every read to the primary (restart required)
+    public static final Setting<String> DB_REPLICAS = stringSetting("db.replicas", "", false);
+
+    static {
+        load(false);
+    }
+
+    private static Setting<Integer> intSetting(String key, int defaultValue, int min, int max, boolean reloadable) {
+        Setting<Integer> setting = new Setting<>(key, defaultValue, min, max, Integer::valueOf, reloadable);
+        settings.add(setting);
+        return setting;
+    }
+
+    private static Setting<Long> longSetting(String key, long defaultValue, long min, long max, boolean reloadable) {
+        Setting<Long> setting = new Setting<>(key, defaultValue, min, max, Long::valueOf, reloadable);
+        settings.add(setting);
+        return setting;
+    }
+
+    private static Setting<Boolean> booleanSetting(String key, boolean defaultValue, boolean reloadable) {
+        Setting<Boolean> setting = new Setting<>(key, defaultValue, false, true, raw -> {
+            if (!raw.equalsIgnoreCase("true") && !raw.equalsIgnoreCase("false")) {
+                throw new IllegalArgumentException("must be true or false");
+            }
+            return Boolean.valueOf(raw);
+        }, reloadable);
+        settings.add(setting);
+        return setting;
+    }
+
+    private static Setting<String> stringSetting(String key, String defaultValue, boolean reloadable) {
+        Setting<String> setting = new Setting<>(key, defaultValue, null, null, raw -> raw, reloadable);
+        settings.add(setting);
+        return setting;
+    }
+
+    private static Setting<String> choiceSetting(String key, String defaultValue, boolean reloadable, String... choices) {
+        List<String> allowed = List.of(choices);
+        Setting<String> setting = new Setting<>(key, defaultValue, null, null, raw -> {
+            String choice = raw.toLowerCase();
+            if (!allowed.contains(choice)) {
+                throw new IllegalArgumentException("must be one of " + String.join(", ", allowed));
+            }
+            return choice;
+        }, reloadable);
+        settings.add(setting);
+        return setting;
+    }
+
+    /**
+     * Poll the config file for changes; call once at startup
+     */
+    public static void startWatching() {
+        AppExecutors.scheduler().scheduleWithFixedDelay(() -> {
+            Path file = configFile();
+            long modified = Files.exists(file) ? file.toFile().lastModified() : -1;
+            if (modified != configFileModified) {
+                System.out.println("[CONFIG] " + file + " changed, reloading");
+                reload();
+            }
+        }, 5, 5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Re-read all sources and apply changed reloadable settings
+     */
+    public static synchronized void reload() {
+        load(true);
+    }
+
+    private static synchronized void load(boolean isReload) {
+        Properties file = readConfigFile();
+        Map<String, String> env = System.getenv();
+        problems.clear();
+
+        for (Setting<?> setting : settings) {
+            apply(setting, file, env, isReload);
+        }
+    }
+
+    private static <T extends Comparable<T>> void apply(Setting<T> setting, Properties file, Map<String, String> env, boolean isReload) {
+        String envKey = "MOODFLIX_" + setting.key.toUpperCase().replace('.', '_');
+        String raw;
+        String source;
+        if (env.containsKey(envKey)) {
+            raw = env.get(envKey);
+            source = "env";
+        } else if (System.getProperty("moodflix." + setting.key) != null) {
+            raw = System.getProperty("moodflix." + setting.key);
+            source = "property";
+        } else if (file.containsKey(setting.key)) {
+            raw = file.getProperty(setting.key);
+            source = "file";
+        } else {
+            raw = null;
+            source = "default";
+        }
+
+        T resolved = setting.defaultValue;
+        if (raw != null) {
+            try {
+                resolved = setting.parse(raw);
+            } catch (RuntimeException e) {
+                String message = setting.key + "=" + raw + " rejected (" + e.getMessage() + ")";
+                problems.add(message);
+                System.err.println("[CONFIG] " + message);
+                if (isReload) return;
+                source = "default";
+            }
+        }
+
+        if (resolved.equals(setting.value)) {
+            setting.source = source;
+            return;
+        }
+        if (isReload && !setting.reloadable) {
+            problems.add(setting.key + " changed to " + resolved + "; restart to apply");
+            System.out.println("[CONFIG] " + setting.key + " changed to " + resolved + "; takes effect after restart");
+            return;
+        }
+
+        T previous = setting.value;
+        setting.value = resolved;
+        setting.source = source;
+        if (isReload) {
+            System.out.println("[CONFIG] " + setting.key + ": " + previous + " -> " + resolved);
+            for (Consumer<T> listener : setting.listeners) {
+                try {
+                    listener.accept(resolved);
+                } catch (RuntimeException e) {
+                    System.err.println("[CONFIG] Failed to apply " + setting.key + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static Path configFile() {
+        String configured = System.getProperty("moodflix.config", System.getenv("MOODFLIX_CONFIG"));
+        if (configured != null && !configured.isBlank()) {
+            return Paths.get(configured);
+        }
+        return Paths.get(System.getProperty("user.home"), ".moodflix", "moodflix.properties");
+    }
+
+    private static Properties readConfigFile() {
+        Properties properties = new Properties();
+        Path file = configFile();
+        if (!Files.exists(file)) {
+            configFileModified = -1;
+            return properties;
+        }
+        configFileModified = file.toFile().lastModified();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            problems.add("Could not read " + file + ": " + e.getMessage());
+            System.err.println("[CONFIG] Could not read " + file + ": " + e.getMessage());
+        }
+        return properties;
+    }
+
+    /**
+     * Get effective configuration, marking where each value came from
+     */
+    public static String getConfigSummary() {
+        StringBuilder summary = new StringBuilder("Effective Configuration (" + configFile() + "):");
+        for (Setting<?> setting : settings) {
+            summary.append(String.format("\n- %s = %s [%s%s]", setting.key, setting.value, setting.source,
+                setting.reloadable ? "" : ", restart"));
+        }
+        for (String problem : problems) {
+            summary.append("\n⚠ ").append(problem);
+        }
+        return summary.toString();
+    }
+}
@@ -0,0 +1,458 @@
+package com.moodflix.util;
+
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Central scheduler: every background task in the app runs on one of a few named,
+ * bounded lanes instead of ad hoc pools and raw threads
+ */
+public class AppExecutors {
+
+    public enum Lane {
+        // User-visible database reads and writes
+        INTERACTIVE_DB("db", AppConfig.EXECUTOR_DB_THREADS.get(), 200, Thread.NORM_PRIORITY + 1),
+        // Speculative preloading; stale work is dropped when the queue is full
+        BACKGROUND_PREFETCH("prefetch", AppConfig.EXECUTOR_PREFETCH_THREADS.get(), 32, Thread.MIN_PRIORITY + 1),
+        // Scene construction and other CPU-bound work
+        CPU("cpu", Math.max(2, Runtime.getRuntime().availableProcessors()), 128, Thread.NORM_PRIORITY),
+        // HTTP calls, image downloads and file access
+        IO("io", AppConfig.EXECUTOR_IO_THREADS.get(), 256, Thread.NORM_PRIORITY);
+
+        final String threadPrefix;
+        final int threads;
+        final int queueCapacity;
+        final int priority;
+
+        Lane(String threadPrefix, int threads, int queueCapacity, int priority) {
+            this.threadPrefix = threadPrefix;
+            this.threads = threads;
+            this.queueCapacity = queueCapacity;
+            this.priority = priority;
+        }
+    }
+
+    /**
+     * How blocking lanes (INTERACTIVE_DB, IO) run their tasks; chosen once at startup
+     * with the threads setting (-Dmoodflix.threads=virtual or MOODFLIX_THREADS=virtual)
+     */
+    public enum ThreadMode { PLATFORM, VIRTUAL }
+
+    // Permits for the IO lane in virtual mode; DB permits follow the interactive connection pool
+    private static final int VIRTUAL_IO_PERMITS = 64;
+
+    private static final Map<Lane, ExecutorService> lanes = new EnumMap<>(Lane.class);
+    private static final Map<Lane, LaneStats> laneStats = new EnumMap<>(Lane.class);
+    private static final ScheduledExecutorService scheduler =
+        Executors.newSingleThreadScheduledExecutor(threadFactory("scheduler", Thread.MIN_PRIORITY + 1));
+    private static final ThreadMode threadMode = resolveThreadMode();
+    private static volatile boolean shutdown = false;
+
+    static {
+        for (Lane lane : Lane.values()) {
+            LaneStats stats = new LaneStats();
+            laneStats.put(lane, stats);
+            lanes.put(lane, createLaneExecutor(lane, threadMode, stats));
+        }
+        System.out.println("[EXEC] Thread mode: " + threadMode);
+        Runtime.getRuntime().addShutdownHook(new Thread(AppExecutors::shutdown, "moodflix-shutdown"));
+    }
+
+    private static ThreadMode resolveThreadMode() {
+        if (!"virtual".equals(AppConfig.THREADS.get())) {
+            return ThreadMode.PLATFORM;
+        }
+        if (!isVirtualThreadSupported()) {
+            System.err.println("[EXEC] Virtual threads need Java 21+, running " + Runtime.version().feature() + "; using platform threads");
+            return ThreadMode.PLATFORM;
+        }
+        return ThreadMode.VIRTUAL;
+    }
+
+    public static boolean isVirtualThreadSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    public static ThreadMode getThreadMode() {
+        return threadMode;
+    }
+
+    /**
+     * Build the executor for a lane; CPU and prefetch lanes always use platform threads
+     */
+    static ExecutorService createLaneExecutor(Lane lane, ThreadMode mode, LaneStats stats) {
+        boolean blockingLane = lane == Lane.INTERACTIVE_DB || lane == Lane.IO;
+        if (mode == ThreadMode.VIRTUAL && blockingLane) {
+            int permits = lane == Lane.INTERACTIVE_DB ? AppConfig.DB_INTERACTIVE_POOL_SIZE.get() : VIRTUAL_IO_PERMITS;
+            return new VirtualLaneExecutor(lane, permits, stats);
+        }
+        return new LaneExecutor(lane, stats);
+    }
+
+    /**
+     * Carry the submitting interaction's trace into the task; speculative prefetch
+     * work is left out so it can't hold a trace open
+     */
+    private static Runnable traced(Lane lane, Runnable command) {
+        return lane == Lane.BACKGROUND_PREFETCH ? command : InteractionTracer.propagate(command, lane.name());
+    }
+
+    /**
+     * Queue-wait and run-time accounting shared by both executor kinds
+     */
+    static class LaneStats {
+        final AtomicLong submitted = new AtomicLong();
+        final AtomicLong completed = new AtomicLong();
+        final AtomicLong rejected = new AtomicLong();
+        final AtomicLong dropped = new AtomicLong();
+        final AtomicLong totalQueueWaitMs = new AtomicLong();
+        final AtomicLong maxQueueWaitMs = new AtomicLong();
+        final AtomicLong totalRunMs = new AtomicLong();
+
+        void run(Runnable command, long enqueuedAt) {
+            long startedAt = System.currentTimeMillis();
+            long queueWait = startedAt - enqueuedAt;
+            totalQueueWaitMs.addAndGet(queueWait);
+            maxQueueWaitMs.accumulateAndGet(queueWait, Math::max);
+            try {
+                command.run();
+            } finally {
+                totalRunMs.addAndGet(System.currentTimeMillis() - startedAt);
+                completed.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * A task waiting in a platform lane's queue, kept so a dropped one can be cancelled
+     */
+    private static final class QueuedTask implements Runnable {
+        final Runnable task;
+        final Runnable command;
+        final LaneStats stats;
+        final long enqueuedAt;
+
+        QueuedTask(Runnable task, Runnable command, LaneStats stats, long enqueuedAt) {
+            this.task = task;
+            this.command = command;
+            this.stats = stats;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        @Override
+        public void run() {
+            stats.run(command, enqueuedAt);
+        }
+    }
+
+    /**
+     * Work behind a future returned by supplyAsync/runAsync
+     */
+    private static final class AsyncTask implements Runnable {
+        final CompletableFuture<?> future;
+        final Runnable body;
+
+        AsyncTask(CompletableFuture<?> future, Runnable body) {
+            this.future = future;
+            this.body = body;
+        }
+
+        @Override
+        public void run() {
+            if (!future.isDone()) body.run();
+        }
+    }
+
+    /**
+     * Complete the future of a task that will never run, so nobody waits on it forever
+     */
+    private static void cancelDropped(Runnable task) {
+        Runnable original = task instanceof QueuedTask ? ((QueuedTask) task).task : task;
+        if (original instanceof AsyncTask) {
+            ((AsyncTask) original).future.cancel(false);
+        } else if (original instanceof Future) {
+            ((Future<?>) original).cancel(false);
+        }
+    }
+
+    private interface LaneOccupancy {
+        int activeCount();
+        int maxActive();
+        int queuedCount();
+        int maxQueued();
+    }
+
+    /**
+     * Fixed platform-thread pool with a bounded queue
+     */
+    private static class LaneExecutor extends ThreadPoolExecutor implements LaneOccupancy {
+        final Lane lane;
+        final LaneStats stats;
+
+        LaneExecutor(Lane lane, LaneStats stats) {
+            super(lane.threads, lane.threads, 0L, TimeUnit.MILLISECONDS,
+                  new ArrayBlockingQueue<>(lane.queueCapacity),
+                  threadFactory(lane.threadPrefix, lane.priority));
+            this.lane = lane;
+            this.stats = stats;
+            setRejectedExecutionHandler(lane == Lane.BACKGROUND_PREFETCH ? dropOldest() : new AbortPolicy());
+        }
+
+        private RejectedExecutionHandler dropOldest() {
+            return (task, executor) -> {
+                if (executor.isShutdown()) {
+                    cancelDropped(task);
+                    return;
+                }
+                Runnable dropped = executor.getQueue().poll();
+                if (dropped != null) {
+                    stats.dropped.incrementAndGet();
+                    cancelDropped(dropped);
+                }
+                executeUnwrapped(task);
+            };
+        }
+
+        private void executeUnwrapped(Runnable task) {
+            super.execute(task);
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            Runnable command = traced(lane, task);
+            long enqueuedAt = System.currentTimeMillis();
+            stats.submitted.incrementAndGet();
+            try {
+                super.execute(new QueuedTask(task, command, stats, enqueuedAt));
+            } catch (RejectedExecutionException e) {
+                stats.rejected.incrementAndGet();
+                System.err.println("[EXEC] " + lane + " lane saturated, task rejected");
+                throw e;
+            }
+        }
+
+        public int activeCount() { return getActiveCount(); }
+        public int maxActive() { return lane.threads; }
+        public int queuedCount() { return getQueue().size(); }
+        public int maxQueued() { return lane.queueCapacity; }
+    }
+
+    /**
+     * One virtual thread per task, gated by a semaphore so no more tasks run at once
+     * than the backing resource (connection pool, sockets) can serve
+     */
+    private static class VirtualLaneExecutor extends AbstractExecutorService implements LaneOccupancy {
+        final Lane lane;
+        final LaneStats stats;
+        final int permits;
+        final Semaphore gate;
+        final AtomicInteger pending = new AtomicInteger();
+        final ExecutorService delegate;
+
+        VirtualLaneExecutor(Lane lane, int permits, LaneStats stats) {
+            this.lane = lane;
+            this.stats = stats;
+            this.permits = permits;
+            this.gate = new Semaphore(permits, true);
+            this.delegate = newVirtualThreadExecutor(lane.threadPrefix);
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            Runnable command = traced(lane, task);
+            long enqueuedAt = System.currentTimeMillis();
+            stats.submitted.incrementAndGet();
+            // Same admission bound as the platform lane: running plus queued
+            if (pending.incrementAndGet() > permits + lane.queueCapacity) {
+                pending.decrementAndGet();
+                stats.rejected.incrementAndGet();
+                System.err.println("[EXEC] " + lane + " lane saturated, task rejected");
+                throw new RejectedExecutionException(lane + " lane saturated");
+            }
+            try {
+                delegate.execute(() -> {
+                    try {
+                        gate.acquire();
+                    } catch (InterruptedException e) {
+                        pending.decrementAndGet();
+                        cancelDropped(task);
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    try {
+                        stats.run(command, enqueuedAt);
+                    } finally {
+                        gate.release();
+                        pending.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                pending.decrementAndGet();
+                stats.rejected.incrementAndGet();
+                throw e;
+            }
+        }
+
+        public int activeCount() { return permits - gate.availablePermits(); }
+        public int maxActive() { return permits; }
+        public int queuedCount() { return Math.max(0, pending.get() - activeCount()); }
+        public int maxQueued() { return lane.queueCapacity; }
+
+        @Override public void shutdown() { delegate.shutdown(); }
+        @Override public List<Runnable> shutdownNow() { return delegate.shutdownNow(); }
+        @Override public boolean isShutdown() { return delegate.isShutdown(); }
+        @Override public boolean isTerminated() { return delegate.isTerminated(); }
+        @Override public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+
+    /**
+     * Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(...).factory()), looked up
+     * reflectively so the code still compiles for the Java 17 target
+     */
+    private static ExecutorService newVirtualThreadExecutor(String prefix) {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, "moodflix-v" + prefix + "-", 1L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads are not available on this JVM", e);
+        }
+    }
+
+    /**
+     * Named daemon threads: moodflix-&lt;prefix&gt;-N
+     */
+    public static ThreadFactory threadFactory(String prefix, int priority) {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, "moodflix-" + prefix + "-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            t.setPriority(priority);
+            return t;
+        };
+    }
+
+    /**
+     * True on BACKGROUND_PREFETCH threads, whose work is shed first under load
+     */
+    public static boolean isBackgroundThread() {
+        return Thread.currentThread().getName().startsWith("moodflix-" + Lane.BACKGROUND_PREFETCH.threadPrefix + "-");
+    }
+
+    public static ExecutorService lane(Lane lane) {
+        return lanes.get(lane);
+    }
+
+    public static void execute(Lane lane, Runnable task) {
+        lanes.get(lane).execute(task);
+    }
+
+    /**
+     * Like CompletableFuture.supplyAsync, except the future is cancelled if the lane
+     * drops the task before it runs
+     */
+    public static <T> CompletableFuture<T> supplyAsync(Lane lane, Supplier<T> supplier) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        execute(lane, new AsyncTask(future, () -> {
+            try {
+                future.complete(supplier.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e instanceof CompletionException ? e : new CompletionException(e));
+            }
+        }));
+        return future;
+    }
+
+    public static CompletableFuture<Void> runAsync(Lane lane, Runnable task) {
+        return supplyAsync(lane, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Shared scheduler for periodic maintenance (cache cleanup, stats refresh)
+     */
+    public static ScheduledExecutorService scheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Get per-lane executor statistics
+     */
+    public static String getExecutorStats() {
+        StringBuilder sb = new StringBuilder("Executor Lanes (" + threadMode + "):");
+        for (Lane lane : Lane.values()) {
+            sb.append("\n- ").append(formatLaneStats(lane, (LaneOccupancy) lanes.get(lane), laneStats.get(lane)));
+        }
+        return sb.toString();
+    }
+
+    private static String formatLaneStats(Lane lane, LaneOccupancy occupancy, LaneStats stats) {
+        long completed = stats.completed.get();
+        double avgWait = completed > 0 ? (double) stats.totalQueueWaitMs.get() / completed : 0;
+        double avgRun = completed > 0 ? (double) stats.totalRunMs.get() / completed : 0;
+        return String.format(
+            "%s: Active %d/%d, Queue %d/%d, Done %d, Rejected %d, Dropped %d, Avg Wait %.1fms (max %dms), Avg Run %.1fms",
+            lane, occupancy.activeCount(), occupancy.maxActive(),
+            occupancy.queuedCount(), occupancy.maxQueued(),
+            completed, stats.rejected.get(), stats.dropped.get(),
+            avgWait, stats.maxQueueWaitMs.get(), avgRun);
+    }
+
+    public static int getQueueDepth(Lane lane) {
+        return ((LaneOccupancy) lanes.get(lane)).queuedCount();
+    }
+
+    /**
+     * Stop all lanes; registered once as a JVM shutdown hook
+     */
+    public static synchronized void shutdown() {
+        if (shutdown) return;
+        shutdown = true;
+        System.out.println("[EXEC] Shutting down executor lanes");
+        scheduler.shutdownNow();
+        for (ExecutorService executor : lanes.values()) {
+            executor.shutdown();
+        }
+        PasswordHasher.shutdown();
+        for (ExecutorService executor : lanes.values()) {
+            try {
+                if (!executor.awaitTermination(2, TimeUnit.SECONDS)) {
+                    executor.shutdownNow().forEach(AppExecutors::cancelDropped);
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow().forEach(AppExecutors::cancelDropped);
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
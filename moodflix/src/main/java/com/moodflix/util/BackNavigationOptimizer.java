@@ -13,8 +13,7 @@ import com.moodflix.Main;
  */
 public class BackNavigationOptimizer {
     
-    // Preloaded dashboard scenes
-    private static final Map<String, Scene> dashboardScenes = new ConcurrentHashMap<>();
+    // Preloaded dashboards live in SceneLifecycleManager, shared with NavigationCache
     private static final Map<String, CompletableFuture<Scene>> loadingDashboards = new ConcurrentHashMap<>();
     
     // Back navigation metrics
@@ -22,18 +21,16 @@ public class BackNavigationOptimizer {
     private static final AtomicInteger cachedBackNavigations = new AtomicInteger(0);
     private static final AtomicInteger slowBackNavigations = new AtomicInteger(0);
     
-    // Thread pool for background dashboard loading
-    private static final ExecutorService dashboardExecutor = Executors.newFixedThreadPool(2);
-    
     /**
      * Navigate back to dashboard instantly with optimization
      */
     public static void navigateBackToDashboard(String userEmail, String userRole) {
         long startTime = System.currentTimeMillis();
-        String dashboardKey = userEmail + "_" + userRole;
+        String dashboardKey = SceneLifecycleManager.dashboardKey(userEmail, userRole);
+        NavigationOptimizer.onPageShown("admin".equalsIgnoreCase(userRole) ? "AdminDashboard" : "UserDashboard");
         
         // Check if dashboard is preloaded
-        Scene preloadedDashboard = dashboardScenes.get(dashboardKey);
+        Scene preloadedDashboard = SceneLifecycleManager.get(dashboardKey);
         if (preloadedDashboard != null) {
             Main.setScene(preloadedDashboard);
             instantBackNavigations.incrementAndGet();
@@ -45,8 +42,14 @@ public class BackNavigationOptimizer {
         // Check if dashboard is currently loading
         CompletableFuture<Scene> loadingDashboard = loadingDashboards.get(dashboardKey);
         if (loadingDashboard != null && !loadingDashboard.isDone()) {
-            loadingDashboard.thenAccept(scene -> {
+            loadingDashboard.whenComplete((scene, error) -> {
                 Platform.runLater(() -> {
+                    if (error != null) {
+                        // Preload failed or was dropped by the prefetch lane; build it now
+                        Main.setScene(createDashboardScene(userEmail, userRole));
+                        slowBackNavigations.incrementAndGet();
+                        return;
+                    }
                     Main.setScene(scene);
                     cachedBackNavigations.incrementAndGet();
                     System.out.println("[BACK-OPT] Cached back navigation to " + userRole + " dashboard (" + 
@@ -77,28 +80,31 @@ public class BackNavigationOptimizer {
      * Preload dashboard in background
      */
     public static void preloadDashboard(String userEmail, String userRole) {
-        String dashboardKey = userEmail + "_" + userRole;
+        String dashboardKey = SceneLifecycleManager.dashboardKey(userEmail, userRole);
         
-        if (dashboardScenes.containsKey(dashboardKey) || loadingDashboards.containsKey(dashboardKey)) {
+        // A failed or dropped preload doesn't block the next attempt
+        loadingDashboards.computeIfPresent(dashboardKey, (key, loading) -> loading.isCompletedExceptionally() ? null : loading);
+        if (SceneLifecycleManager.contains(dashboardKey) || loadingDashboards.containsKey(dashboardKey)) {
             return; // Already loading or loaded
         }
         
-        CompletableFuture<Scene> future = CompletableFuture.supplyAsync(() -> {
+        long generation = SceneLifecycleManager.generation();
+        CompletableFuture<Scene> future = AppExecutors.supplyAsync(AppExecutors.Lane.BACKGROUND_PREFETCH, () -> {
             try {
                 System.out.println("[BACK-OPT] Preloading " + userRole + " dashboard for " + userEmail + "...");
                 Scene scene = createDashboardScene(userEmail, userRole);
-                dashboardScenes.put(dashboardKey, scene);
-                loadingDashboards.remove(dashboardKey);
+                SceneLifecycleManager.put(dashboardKey, scene, userEmail, SceneLifecycleManager.Priority.DASHBOARD, generation);
                 System.out.println("[BACK-OPT] " + userRole + " dashboard preloaded successfully");
                 return scene;
             } catch (Exception e) {
                 System.err.println("[BACK-OPT] Failed to preload " + userRole + " dashboard: " + e.getMessage());
-                loadingDashboards.remove(dashboardKey);
                 throw e;
             }
-        }, dashboardExecutor);
+        });
         
         loadingDashboards.put(dashboardKey, future);
+        // Registered after put so a preload that already finished still leaves the map
+        future.whenComplete((scene, error) -> loadingDashboards.remove(dashboardKey, future));
     }
     
     /**
@@ -156,7 +162,7 @@ public class BackNavigationOptimizer {
                     } catch (Exception e) {
                         System.err.println("[BACK-OPT] Background role check failed: " + e.getMessage());
                     }
-                }, dashboardExecutor);
+                }, AppExecutors.lane(AppExecutors.Lane.INTERACTIVE_DB));
                 
                 return;
             }
@@ -205,7 +211,7 @@ public class BackNavigationOptimizer {
             cached, cachedRate,
             slow, total > 0 ? (double) slow / total * 100 : 0,
             total,
-            dashboardScenes.size(),
+            SceneLifecycleManager.count(SceneLifecycleManager.Priority.DASHBOARD),
             loadingDashboards.size()
         );
     }
@@ -214,7 +220,7 @@ public class BackNavigationOptimizer {
      * Clear all preloaded dashboards
      */
     public static void clearPreloadedDashboards() {
-        dashboardScenes.clear();
+        SceneLifecycleManager.purge(SceneLifecycleManager.Priority.DASHBOARD);
         loadingDashboards.clear();
         System.out.println("[BACK-OPT] All preloaded dashboards cleared");
     }
@@ -223,23 +229,8 @@ public class BackNavigationOptimizer {
      * Clear specific user's preloaded dashboards
      */
     public static void clearUserDashboards(String userEmail) {
-        dashboardScenes.entrySet().removeIf(entry -> entry.getKey().startsWith(userEmail + "_"));
-        loadingDashboards.entrySet().removeIf(entry -> entry.getKey().startsWith(userEmail + "_"));
+        SceneLifecycleManager.purgeOwner(userEmail);
+        loadingDashboards.entrySet().removeIf(entry -> entry.getKey().endsWith("_dashboard_" + userEmail));
         System.out.println("[BACK-OPT] Preloaded dashboards cleared for user: " + userEmail);
     }
-    
-    /**
-     * Shutdown dashboard executor
-     */
-    public static void shutdown() {
-        dashboardExecutor.shutdown();
-        try {
-            if (!dashboardExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
-                dashboardExecutor.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            dashboardExecutor.shutdownNow();
-            Thread.currentThread().interrupt();
-        }
-    }
 } 
\ No newline at end of file
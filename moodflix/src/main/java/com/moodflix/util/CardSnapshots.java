@@ -0,0 +1,233 @@
+package com.moodflix.util;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.geometry.Bounds;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.effect.Effect;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Transform;
+import javafx.stage.Screen;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Draws static grid cards as a single ImageView. Each card is built once off-screen,
+ * rendered to a WritableImage and cached by content id and theme; the grid then holds
+ * one node per card instead of the card's whole control tree, so CSS and layout passes
+ * skip it. Hovering or focusing a snapshot swaps the live card in from its factory,
+ * and it goes back to the snapshot once the pointer and focus have left.
+ *
+ * The card's own drop shadow is left out of the image and set on the ImageView, so
+ * the snapshot has the card's layout size and the grid doesn't shift on swap.
+ * FX thread only.
+ */
+public class CardSnapshots {
+
+    private static final Map<String, Snapshot> cache = new LinkedHashMap<>(64, 0.75f, true);
+    private static long cachedBytes = 0;
+
+    // Off-screen scene the cards are styled and laid out in before rendering
+    private static Group stagingRoot;
+    private static Scene stagingScene;
+
+    // Metrics
+    private static long rendered = 0;
+    private static long renderNanos = 0;
+    private static long hits = 0;
+    private static long evictions = 0;
+    private static long liveSwaps = 0;
+    private static int live = 0;
+    private static long notReady = 0;
+
+    private static class Snapshot {
+        final WritableImage image;
+        final Effect effect;
+        final double width;
+        final double height;
+        final long bytes;
+
+        Snapshot(WritableImage image, Effect effect, double width, double height) {
+            this.image = image;
+            this.effect = effect;
+            this.width = width;
+            this.height = height;
+            this.bytes = (long) (image.getWidth() * image.getHeight() * 4);
+        }
+    }
+
+    static {
+        AppConfig.CARD_SNAPSHOT_CACHE_MB.onChange(budget -> javafx.application.Platform.runLater(CardSnapshots::evictToBudget));
+    }
+
+    /**
+     * A snapshot of the card when card.snapshots is on, otherwise the live card. A card
+     * whose poster is still loading or failed to load stays live, so a blank or broken
+     * poster is never cached; it is snapshotted the next time the grid is built.
+     */
+    public static Node create(String contentId, Image poster, Supplier<? extends Region> factory) {
+        if (AppConfig.CARD_SNAPSHOTS.get() == 0) {
+            return factory.get();
+        }
+        if (poster != null && (poster.isError() || poster.getProgress() < 1)) {
+            notReady++;
+            return factory.get();
+        }
+        return snapshot(contentId, factory);
+    }
+
+    /**
+     * A snapshot of the card that turns into the live card on hover or focus
+     */
+    public static Node snapshot(String contentId, Supplier<? extends Region> factory) {
+        String key = contentId + "@" + ThemeManager.themeKey();
+        Snapshot snapshot = cache.get(key);
+        if (snapshot != null) {
+            hits++;
+        } else {
+            snapshot = render(factory.get());
+            cache.put(key, snapshot);
+            cachedBytes += snapshot.bytes;
+            evictToBudget();
+        }
+
+        ImageView view = new ImageView(snapshot.image);
+        view.setFitWidth(snapshot.width);
+        view.setFitHeight(snapshot.height);
+        view.setEffect(snapshot.effect);
+        // Transparent rounded corners still count as the card
+        view.setPickOnBounds(true);
+        view.setFocusTraversable(true);
+        ThemeManager.cacheStatic(view);
+        view.setOnMouseEntered(e -> showLive(view, factory, false));
+        view.focusedProperty().addListener((obs, wasFocused, isFocused) -> {
+            if (isFocused) showLive(view, factory, true);
+        });
+        return view;
+    }
+
+    private static Snapshot render(Region card) {
+        long start = System.nanoTime();
+        if (stagingScene == null) {
+            stagingRoot = new Group();
+            stagingScene = new Scene(stagingRoot);
+        }
+        stagingScene.getStylesheets().clear();
+        ThemeManager.applyTheme(stagingScene);
+        RenderingMode.applyStylesheet(stagingScene);
+
+        stagingRoot.getChildren().setAll(card);
+        stagingRoot.applyCss();
+        stagingRoot.layout();
+        Effect effect = card.getEffect();
+        card.setEffect(null);
+
+        double scale = Screen.getPrimary().getOutputScaleX();
+        Bounds bounds = card.getBoundsInParent();
+        double width = card.getWidth();
+        double height = card.getHeight();
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        params.setTransform(Transform.scale(scale, scale));
+        params.setViewport(new Rectangle2D(bounds.getMinX() * scale, bounds.getMinY() * scale, width * scale, height * scale));
+        WritableImage image = card.snapshot(params, null);
+        stagingRoot.getChildren().clear();
+
+        rendered++;
+        renderNanos += System.nanoTime() - start;
+        return new Snapshot(image, effect, width, height);
+    }
+
+    private static void showLive(ImageView view, Supplier<? extends Region> factory, boolean focus) {
+        if (!(view.getParent() instanceof Pane) || view.getScene() == null) return;
+        Pane parent = (Pane) view.getParent();
+        Region card = factory.get();
+        // Layout constraints (grid cell, margins) live in the node properties
+        card.getProperties().putAll(view.getProperties());
+        parent.getChildren().set(parent.getChildren().indexOf(view), card);
+        liveSwaps++;
+        live++;
+
+        Scene scene = parent.getScene();
+        ChangeListener<Node> focusListener = new ChangeListener<>() {
+            @Override
+            public void changed(ObservableValue<? extends Node> obs, Node oldOwner, Node newOwner) {
+                if (card.isHover() || holdsFocus(card, newOwner)) return;
+                scene.focusOwnerProperty().removeListener(this);
+                if (card.getParent() == parent) {
+                    parent.getChildren().set(parent.getChildren().indexOf(card), view);
+                    live--;
+                }
+            }
+        };
+        scene.focusOwnerProperty().addListener(focusListener);
+        card.hoverProperty().addListener((obs, wasHover, isHover) ->
+            focusListener.changed(scene.focusOwnerProperty(), null, scene.getFocusOwner()));
+        if (focus) {
+            for (Node node : card.lookupAll("*")) {
+                if (node != card && node.isFocusTraversable() && !node.isDisabled()) {
+                    node.requestFocus();
+                    break;
+                }
+            }
+        }
+    }
+
+    private static boolean holdsFocus(Node card, Node focusOwner) {
+        for (Node node = focusOwner; node != null; node = node.getParent()) {
+            if (node == card) return true;
+        }
+        return false;
+    }
+
+    private static void evictToBudget() {
+        long budget = AppConfig.CARD_SNAPSHOT_CACHE_MB.get() * 1024L * 1024L;
+        Iterator<Snapshot> eldest = cache.values().iterator();
+        while (cachedBytes > budget && eldest.hasNext()) {
+            cachedBytes -= eldest.next().bytes;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Drop every cached snapshot; cards already on screen keep their image
+     */
+    public static void clear() {
+        cache.clear();
+        cachedBytes = 0;
+    }
+
+    /**
+     * Get card snapshot statistics
+     */
+    public static String getSnapshotStats() {
+        return String.format(
+            "Card Snapshots:\n" +
+            "- Enabled: %s\n" +
+            "- Cached: %d (%.1f MB of %d MB)\n" +
+            "- Rendered: %d (avg %.1fms)\n" +
+            "- Cache Hits: %d, Evictions: %d\n" +
+            "- Live Swaps: %d (%d live now)\n" +
+            "- Left Live (poster not ready): %d",
+            AppConfig.CARD_SNAPSHOTS.get() == 1 ? "yes" : "no",
+            cache.size(), cachedBytes / (1024.0 * 1024.0), AppConfig.CARD_SNAPSHOT_CACHE_MB.get(),
+            rendered, rendered > 0 ? renderNanos / (double) rendered / 1_000_000.0 : 0.0,
+            hits, evictions,
+            liveSwaps, live,
+            notReady
+        );
+    }
+}
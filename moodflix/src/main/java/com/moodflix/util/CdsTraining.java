@@ -0,0 +1,82 @@
+package com.moodflix.util;
+
+import java.io.File;
+import java.util.Enumeration;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Class-list training run for the AppCDS archive built by the shaded package step.
+ * Loads (without initializing) the app, driver, pool, JSON and JavaFX scene/control
+ * classes from the shaded jar so -XX:DumpLoadedClassList captures them. No window,
+ * database or network is needed.
+ *
+ * Run: java -XX:SharedArchiveFile=target/moodflix.jsa -jar target/moodflix-1.0-SNAPSHOT.jar
+ */
+public class CdsTraining {
+
+    private static final String[] PREFIXES = {
+        "com/moodflix/",
+        "org/json/",
+        "org/mindrot/",
+        "com/zaxxer/hikari/",
+        "org/postgresql/",
+        "javafx/application/",
+        "javafx/beans/",
+        "javafx/collections/",
+        "javafx/css/",
+        "javafx/event/",
+        "javafx/geometry/",
+        "javafx/scene/",
+        "javafx/stage/",
+        "javafx/animation/",
+        "com/sun/javafx/scene/",
+        "com/sun/javafx/css/",
+        "com/sun/javafx/application/"
+    };
+
+    // Optional integrations whose dependencies aren't bundled
+    private static final String[] EXCLUDED = {
+        "com/zaxxer/hikari/metrics/",
+        "com/zaxxer/hikari/util/JavassistProxyFactory",
+        "org/postgresql/sspi/"
+    };
+
+    public static void main(String[] args) throws Exception {
+        File jar = new File(CdsTraining.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        if (!jar.isFile()) {
+            System.err.println("[CDS] Training must run from the shaded jar, not " + jar);
+            return;
+        }
+
+        ClassLoader loader = CdsTraining.class.getClassLoader();
+        int loaded = 0;
+        int skipped = 0;
+        try (JarFile jarFile = new JarFile(jar)) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                String name = entries.nextElement().getName();
+                if (!name.endsWith(".class") || name.contains("module-info") || !matches(name)) continue;
+                if (name.equals("com/moodflix/util/CdsTraining.class")) continue;
+                try {
+                    Class.forName(name.substring(0, name.length() - 6).replace('/', '.'), false, loader);
+                    loaded++;
+                } catch (Throwable e) {
+                    // Platform-specific or optional classes
+                    skipped++;
+                }
+            }
+        }
+        System.out.println("[CDS] Loaded " + loaded + " classes for the archive (" + skipped + " skipped)");
+    }
+
+    private static boolean matches(String name) {
+        for (String excluded : EXCLUDED) {
+            if (name.startsWith(excluded)) return false;
+        }
+        for (String prefix : PREFIXES) {
+            if (name.startsWith(prefix)) return true;
+        }
+        return false;
+    }
+}
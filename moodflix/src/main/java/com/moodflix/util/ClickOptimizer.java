@@ -37,7 +37,6 @@ public class ClickOptimizer {
     
     // Click debouncing to prevent rapid-fire clicks
     private static final Map<String, Long> lastClickTimes = new ConcurrentHashMap<>();
-    private static final long CLICK_DEBOUNCE_MS = 100; // 100ms debounce
     
     // Click metrics
     private static final AtomicInteger totalClicks = new AtomicInteger(0);
@@ -47,9 +46,6 @@ public class ClickOptimizer {
     // Pre-computed event handlers for common actions
     private static final Map<String, EventHandler<ActionEvent>> cachedHandlers = new ConcurrentHashMap<>();
     
-    // Thread pool for background click processing
-    private static final ExecutorService clickExecutor = Executors.newFixedThreadPool(2);
-    
     /**
      * Optimized button click with debouncing and instant feedback
      */
@@ -60,7 +56,7 @@ public class ClickOptimizer {
             
             // Check debouncing
             Long lastClick = lastClickTimes.get(buttonId);
-            if (lastClick != null && (currentTime - lastClick) < CLICK_DEBOUNCE_MS) {
+            if (lastClick != null && (currentTime - lastClick) < AppConfig.CLICK_DEBOUNCE_MS.get()) {
                 debouncedClicks.incrementAndGet();
                 System.out.println("[CLICK-OPT] Debounced click for " + actionId);
                 return;
@@ -76,7 +72,7 @@ public class ClickOptimizer {
             // Execute handler with performance monitoring
             long startTime = System.currentTimeMillis();
             try {
-                handler.accept(e);
+                InteractionTracer.trace(actionId, () -> handler.accept(e));
                 instantClicks.incrementAndGet();
                 System.out.println("[CLICK-OPT] " + actionId + " executed in " + 
                     (System.currentTimeMillis() - startTime) + "ms");
@@ -85,7 +81,7 @@ public class ClickOptimizer {
                 showErrorDialog("Action Failed", "Error executing " + actionId, ex.getMessage());
             } finally {
                 // Re-enable button after short delay
-                Platform.runLater(() -> {
+                FxUpdateCoalescer.submit(button, "click-feedback", () -> {
                     button.setDisable(false);
                     button.setStyle(button.getStyle().replace("; -fx-opacity: 0.7;", ""));
                 });
@@ -112,14 +108,14 @@ public class ClickOptimizer {
                 table.setStyle(table.getStyle() + "; -fx-background-color: rgba(0,255,0,0.1);");
                 
                 // Execute handler
-                Platform.runLater(() -> {
+                FxUpdateCoalescer.submit(table, "selection", () -> {
                     try {
                         selectionHandler.accept(newVal);
                     } catch (Exception ex) {
                         System.err.println("[CLICK-OPT] Table selection error: " + ex.getMessage());
                     } finally {
                         // Remove highlight after short delay
-                        Platform.runLater(() -> {
+                        FxUpdateCoalescer.submit(table, "highlight", () -> {
                             table.setStyle(table.getStyle().replace("; -fx-background-color: rgba(0,255,0,0.1);", ""));
                         });
                     }
@@ -138,14 +134,14 @@ public class ClickOptimizer {
                 list.setStyle(list.getStyle() + "; -fx-background-color: rgba(0,255,0,0.1);");
                 
                 // Execute handler
-                Platform.runLater(() -> {
+                FxUpdateCoalescer.submit(list, "selection", () -> {
                     try {
                         selectionHandler.accept(newVal);
                     } catch (Exception ex) {
                         System.err.println("[CLICK-OPT] List selection error: " + ex.getMessage());
                     } finally {
                         // Remove highlight after short delay
-                        Platform.runLater(() -> {
+                        FxUpdateCoalescer.submit(list, "highlight", () -> {
                             list.setStyle(list.getStyle().replace("; -fx-background-color: rgba(0,255,0,0.1);", ""));
                         });
                     }
@@ -165,14 +161,14 @@ public class ClickOptimizer {
                 comboBox.setStyle(comboBox.getStyle() + "; -fx-background-color: rgba(0,255,0,0.2);");
                 
                 // Execute handler
-                Platform.runLater(() -> {
+                FxUpdateCoalescer.submit(comboBox, "selection", () -> {
                     try {
                         selectionHandler.accept(selected);
                     } catch (Exception ex) {
                         System.err.println("[CLICK-OPT] ComboBox selection error: " + ex.getMessage());
                     } finally {
                         // Remove highlight after short delay
-                        Platform.runLater(() -> {
+                        FxUpdateCoalescer.submit(comboBox, "highlight", () -> {
                             comboBox.setStyle(comboBox.getStyle().replace("; -fx-background-color: rgba(0,255,0,0.2);", ""));
                         });
                     }
@@ -191,14 +187,14 @@ public class ClickOptimizer {
                 textField.setStyle(textField.getStyle() + "; -fx-border-color: #17a2b8;");
                 
                 // Execute validation
-                Platform.runLater(() -> {
+                FxUpdateCoalescer.submit(textField, "validation", () -> {
                     try {
                         validationHandler.accept(newVal);
                     } catch (Exception ex) {
                         System.err.println("[CLICK-OPT] TextField validation error: " + ex.getMessage());
                     } finally {
                         // Remove highlight after short delay
-                        Platform.runLater(() -> {
+                        FxUpdateCoalescer.submit(textField, "highlight", () -> {
                             textField.setStyle(textField.getStyle().replace("; -fx-border-color: #17a2b8;", ""));
                         });
                     }
@@ -216,14 +212,14 @@ public class ClickOptimizer {
             checkBox.setStyle(checkBox.getStyle() + "; -fx-text-fill: #28a745;");
             
             // Execute handler
-            Platform.runLater(() -> {
+            FxUpdateCoalescer.submit(checkBox, "change", () -> {
                 try {
                     changeHandler.accept(newVal);
                 } catch (Exception ex) {
                     System.err.println("[CLICK-OPT] CheckBox change error: " + ex.getMessage());
                 } finally {
                     // Remove highlight after short delay
-                    Platform.runLater(() -> {
+                    FxUpdateCoalescer.submit(checkBox, "highlight", () -> {
                         checkBox.setStyle(checkBox.getStyle().replace("; -fx-text-fill: #28a745;", ""));
                     });
                 }
@@ -241,14 +237,14 @@ public class ClickOptimizer {
                 radioButton.setStyle(radioButton.getStyle() + "; -fx-text-fill: #28a745; -fx-font-weight: bold;");
                 
                 // Execute handler
-                Platform.runLater(() -> {
+                FxUpdateCoalescer.submit(radioButton, "change", () -> {
                     try {
                         changeHandler.accept(newVal);
                     } catch (Exception ex) {
                         System.err.println("[CLICK-OPT] RadioButton change error: " + ex.getMessage());
                     } finally {
                         // Remove highlight after short delay
-                        Platform.runLater(() -> {
+                        FxUpdateCoalescer.submit(radioButton, "highlight", () -> {
                             radioButton.setStyle(radioButton.getStyle().replace("; -fx-text-fill: #28a745; -fx-font-weight: bold;", ""));
                         });
                     }
@@ -339,19 +335,4 @@ public class ClickOptimizer {
         lastClickTimes.clear();
         System.out.println("[CLICK-OPT] Click statistics cleared");
     }
-    
-    /**
-     * Shutdown click executor
-     */
-    public static void shutdown() {
-        clickExecutor.shutdown();
-        try {
-            if (!clickExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
-                clickExecutor.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            clickExecutor.shutdownNow();
-            Thread.currentThread().interrupt();
-        }
-    }
 } 
\ No newline at end of file
@@ -0,0 +1,177 @@
+package com.moodflix.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Adaptive concurrency limiter (gradient style). Compares a short-term round-trip
+ * average against a long-term baseline: when the database slows down the allowed
+ * in-flight count shrinks, and it grows back as latency recovers. Background work
+ * may only use part of the limit, so it is shed before interactive requests.
+ */
+public class ConcurrencyLimiter {
+
+    public enum Priority { INTERACTIVE, BACKGROUND }
+
+    /**
+     * Thrown when a request is shed instead of queued
+     */
+    public static class LimitExceededException extends RuntimeException {
+        public LimitExceededException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Held for the duration of one request; release exactly once
+     */
+    public class Permit {
+        private final long startNanos = rttClock.getAsLong();
+        private boolean released;
+
+        public void release() {
+            synchronized (ConcurrencyLimiter.this) {
+                if (released) return;
+                released = true;
+            }
+            onRelease(rttClock.getAsLong() - startNanos);
+        }
+    }
+
+    // Share of the limit background work may occupy
+    private static final double BACKGROUND_SHARE = 0.5;
+    // Weight of each new sample in the short and long RTT averages
+    private static final double SHORT_SMOOTHING = 0.2;
+    private static final double LONG_SMOOTHING = 0.01;
+    // How fast the limit moves towards its new target
+    private static final double LIMIT_SMOOTHING = 0.2;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long maxWaitNanos;
+    // Times round trips; waits for a slot always use System.nanoTime
+    private final LongSupplier rttClock;
+
+    private double limit;
+    private int inFlight;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    // Metrics
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejectedInteractive = new AtomicLong();
+    private final AtomicLong shedBackground = new AtomicLong();
+    private final AtomicLong limitDecreases = new AtomicLong();
+    private volatile int peakInFlight;
+
+    /**
+     * @param initialLimit starting in-flight limit
+     * @param maxWaitMs how long an interactive request may wait for a slot before it is rejected
+     */
+    public ConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, long maxWaitMs) {
+        this(name, initialLimit, minLimit, maxLimit, maxWaitMs, System::nanoTime);
+    }
+
+    ConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, long maxWaitMs, LongSupplier rttClock) {
+        this.rttClock = rttClock;
+        this.name = name;
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+    }
+
+    /**
+     * Take a slot. Background requests never wait: they are shed as soon as they would
+     * exceed their share. Interactive requests wait up to maxWaitMs.
+     */
+    public Permit acquire(Priority priority) throws InterruptedException {
+        long deadline = System.nanoTime() + maxWaitNanos;
+        synchronized (this) {
+            if (priority == Priority.BACKGROUND) {
+                if (inFlight >= Math.max(1, (int) (limit * BACKGROUND_SHARE))) {
+                    shedBackground.incrementAndGet();
+                    throw new LimitExceededException(name + " overloaded: background request shed");
+                }
+            } else {
+                while (inFlight >= (int) limit) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        rejectedInteractive.incrementAndGet();
+                        throw new LimitExceededException(name + " overloaded: please try again in a moment");
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                }
+            }
+            inFlight++;
+            if (inFlight > peakInFlight) peakInFlight = inFlight;
+        }
+        accepted.incrementAndGet();
+        return new Permit();
+    }
+
+    private synchronized void onRelease(long rttNanos) {
+        inFlight--;
+        if (longRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+        } else {
+            shortRttNanos += (rttNanos - shortRttNanos) * SHORT_SMOOTHING;
+            longRttNanos += (rttNanos - longRttNanos) * LONG_SMOOTHING;
+        }
+
+        // gradient < 1 means latency is rising above the baseline
+        double gradient = Math.max(0.5, Math.min(1.0, longRttNanos / shortRttNanos));
+        // Headroom lets the limit probe upwards while latency is steady
+        double target = limit * gradient + Math.sqrt(limit);
+        double newLimit = limit * (1 - LIMIT_SMOOTHING) + target * LIMIT_SMOOTHING;
+        newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        if ((int) newLimit < (int) limit) {
+            limitDecreases.incrementAndGet();
+        }
+        limit = newLimit;
+
+        // Follow improvements immediately; the baseline only creeps upward after a long slow period
+        if (shortRttNanos < longRttNanos) {
+            longRttNanos = shortRttNanos;
+        }
+        notifyAll();
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public long getRejectedCount() {
+        return rejectedInteractive.get();
+    }
+
+    public long getShedCount() {
+        return shedBackground.get();
+    }
+
+    /**
+     * Get limiter statistics
+     */
+    public synchronized String getLimiterStats() {
+        return String.format(
+            "Concurrency Limiter (%s):\n" +
+            "- Limit: %d (min %d, max %d)\n" +
+            "- In Flight: %d (peak %d)\n" +
+            "- RTT short/long: %.1fms / %.1fms\n" +
+            "- Accepted: %d\n" +
+            "- Rejected Interactive: %d\n" +
+            "- Shed Background: %d\n" +
+            "- Limit Decreases: %d",
+            name, (int) limit, minLimit, maxLimit, inFlight, peakInFlight,
+            shortRttNanos / 1_000_000.0, longRttNanos / 1_000_000.0,
+            accepted.get(), rejectedInteractive.get(), shedBackground.get(), limitDecreases.get()
+        );
+    }
+}
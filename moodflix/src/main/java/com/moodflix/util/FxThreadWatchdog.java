@@ -0,0 +1,283 @@
+package com.moodflix.util;
+
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Detects when the FX application thread stops responding. A watcher thread posts a
+ * heartbeat with Platform.runLater; once a heartbeat has waited longer than
+ * fx.stall.threshold.ms, the FX thread's stack is sampled until it responds, and the
+ * samples are aggregated by the UI-side application frame that was running (the hot
+ * spot), so a slow query is charged to the controller that issued it.
+ *
+ * Blocking JDBC and HTTP entry points call {@link #checkBlockingCall(String)}. Those
+ * calls are counted and logged when made on the FX thread; in strict mode
+ * (the fx.strict setting, e.g. -Dmoodflix.fx.strict=true) they throw, so tests and
+ * development runs fail fast.
+ */
+public class FxThreadWatchdog {
+
+    private static final long HEARTBEAT_MS = 20;
+    private static final long PAUSED_POLL_MS = 500;
+    private static final int MAX_SITES = 200;
+    private static final int EXAMPLE_FRAMES = 8;
+    private static final int REPORT_SITES = 10;
+
+    private static volatile Thread fxThread;
+    private static volatile long pingSentNanos = 0; // 0 when no heartbeat is outstanding
+    private static volatile boolean strict = AppConfig.FX_STRICT.get();
+    private static volatile boolean paused = false;
+    private static Thread watcher;
+
+    // Stall statistics, guarded by the class lock
+    private static final Map<String, Site> sites = new HashMap<>();
+    private static final Set<Site> sitesInCurrentStall = new HashSet<>();
+    private static long stalls = 0;
+    private static long totalStallMs = 0;
+    private static long worstStallMs = 0;
+    private static long samples = 0;
+
+    // Blocking calls made on the FX thread, by "kind at site"
+    private static final Map<String, AtomicInteger> blockingCalls = new ConcurrentHashMap<>();
+
+    /**
+     * Where the FX thread was when sampled
+     */
+    private static class Site {
+        final String frame;
+        final List<String> exampleStack;
+        String blockedIn;
+        long samples;
+        long stalls;
+        long worstMs;
+
+        Site(String frame, List<String> exampleStack) {
+            this.frame = frame;
+            this.exampleStack = exampleStack;
+        }
+    }
+
+    /**
+     * Start watching; call once from the FX thread after the toolkit is up
+     */
+    public static synchronized void start() {
+        if (watcher != null) return;
+        if (Platform.isFxApplicationThread()) {
+            fxThread = Thread.currentThread();
+        }
+        AppConfig.FX_STRICT.onChange(FxThreadWatchdog::setStrict);
+        watcher = new Thread(FxThreadWatchdog::watch, "moodflix-fx-watchdog");
+        watcher.setDaemon(true);
+        watcher.setPriority(Thread.MAX_PRIORITY);
+        watcher.start();
+        System.out.println("[FX-WATCHDOG] Watching the FX thread (threshold "
+            + AppConfig.FX_STALL_THRESHOLD_MS.get() + "ms" + (strict ? ", strict mode" : "") + ")");
+    }
+
+    public static void setStrict(boolean enabled) {
+        strict = enabled;
+    }
+
+    public static boolean isStrict() {
+        return strict;
+    }
+
+    static void setPaused(boolean isPaused) {
+        paused = isPaused;
+    }
+
+    private static void watch() {
+        try {
+            while (true) {
+                long sent = pingSentNanos;
+                if (sent == 0 && paused) {
+                    // No heartbeats while idle, so the FX thread can sleep
+                    Thread.sleep(PAUSED_POLL_MS);
+                    continue;
+                }
+                if (sent == 0) {
+                    pingSentNanos = System.nanoTime();
+                    Platform.runLater(FxThreadWatchdog::onHeartbeat);
+                    Thread.sleep(HEARTBEAT_MS);
+                    continue;
+                }
+
+                Thread thread = fxThread;
+                if (thread != null && !thread.isAlive()) return; // Toolkit exited
+                long blockedMs = (System.nanoTime() - sent) / 1_000_000;
+                if (thread != null && blockedMs >= AppConfig.FX_STALL_THRESHOLD_MS.get()) {
+                    sample(thread.getStackTrace());
+                    Thread.sleep(AppConfig.FX_STALL_SAMPLE_INTERVAL_MS.get());
+                } else {
+                    Thread.sleep(Math.min(HEARTBEAT_MS, AppConfig.FX_STALL_SAMPLE_INTERVAL_MS.get()));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IllegalStateException e) {
+            System.err.println("[FX-WATCHDOG] Stopped: " + e.getMessage());
+        }
+    }
+
+    private static void onHeartbeat() {
+        fxThread = Thread.currentThread();
+        long sent = pingSentNanos;
+        pingSentNanos = 0;
+        if (sent == 0) return;
+
+        long stallMs = (System.nanoTime() - sent) / 1_000_000;
+        if (stallMs < AppConfig.FX_STALL_THRESHOLD_MS.get()) return;
+
+        String hotSpot;
+        synchronized (FxThreadWatchdog.class) {
+            stalls++;
+            totalStallMs += stallMs;
+            worstStallMs = Math.max(worstStallMs, stallMs);
+            Site worst = null;
+            for (Site site : sitesInCurrentStall) {
+                site.stalls++;
+                site.worstMs = Math.max(site.worstMs, stallMs);
+                if (worst == null || site.samples > worst.samples) worst = site;
+            }
+            sitesInCurrentStall.clear();
+            hotSpot = worst != null ? worst.frame : "unsampled";
+        }
+        PerformanceMonitor.recordOperation("fx_stall", stallMs, false);
+        System.err.println("[FX-WATCHDOG] FX thread blocked for " + stallMs + "ms at " + hotSpot);
+    }
+
+    private static synchronized void sample(StackTraceElement[] stack) {
+        if (stack.length == 0) return;
+        samples++;
+        String frame = callerFrame(stack);
+        Site site = sites.get(frame);
+        if (site == null) {
+            if (sites.size() >= MAX_SITES) return;
+            List<String> example = new ArrayList<>();
+            for (StackTraceElement element : stack) {
+                if (example.size() >= EXAMPLE_FRAMES) break;
+                if (element.getClassName().startsWith("com.moodflix.")) {
+                    example.add(element.toString());
+                }
+            }
+            site = new Site(frame, example);
+            sites.put(frame, site);
+        }
+        site.samples++;
+        site.blockedIn = stack[0].toString();
+        sitesInCurrentStall.add(site);
+    }
+
+    /**
+     * The innermost application frame, or the top frame when the FX thread is inside
+     * toolkit code (layout, CSS, rendering)
+     */
+    private static String appFrame(StackTraceElement[] stack) {
+        for (StackTraceElement element : stack) {
+            String className = element.getClassName();
+            if (className.startsWith("com.moodflix.") && !className.startsWith(FxThreadWatchdog.class.getName())) {
+                return element.toString();
+            }
+        }
+        return stack[0].toString();
+    }
+
+    /**
+     * The UI code that led to a blocking call: the innermost application frame outside
+     * the database, service and HTTP layers
+     */
+    private static String callerFrame(StackTraceElement[] stack) {
+        for (StackTraceElement element : stack) {
+            String className = element.getClassName();
+            if (className.startsWith("com.moodflix.")
+                    && !className.startsWith("com.moodflix.database.")
+                    && !className.startsWith("com.moodflix.service.")
+                    && !className.startsWith("com.moodflix.api.")
+                    && !className.equals(HttpConnectionManager.class.getName())
+                    && !className.equals(FxThreadWatchdog.class.getName())) {
+                return element.toString();
+            }
+        }
+        return appFrame(stack);
+    }
+
+    /**
+     * Record a blocking call (JDBC, HTTP) made on the FX thread; throws in strict mode
+     */
+    public static void checkBlockingCall(String kind) {
+        Thread thread = fxThread;
+        if (thread == null || Thread.currentThread() != thread) return;
+
+        String site = callerFrame(new Throwable().getStackTrace());
+        AtomicInteger count = blockingCalls.computeIfAbsent(kind + " at " + site, k -> new AtomicInteger());
+        if (count.incrementAndGet() == 1) {
+            System.err.println("[FX-WATCHDOG] Blocking " + kind + " call on the FX thread at " + site);
+        }
+        if (strict) {
+            throw new IllegalStateException("Blocking " + kind + " call on the FX application thread at " + site + " (strict mode)");
+        }
+    }
+
+    /**
+     * Stall sites ranked by samples, with an example stack for each
+     */
+    public static synchronized String getHotSpotReport() {
+        List<Site> ranked = new ArrayList<>(sites.values());
+        ranked.sort((a, b) -> Long.compare(b.samples, a.samples));
+
+        StringBuilder report = new StringBuilder(String.format(
+            "FX Thread Hot Spots (%d stalls, %d samples every %dms):",
+            stalls, samples, AppConfig.FX_STALL_SAMPLE_INTERVAL_MS.get()));
+        for (Site site : ranked.subList(0, Math.min(REPORT_SITES, ranked.size()))) {
+            report.append(String.format("\n%5d samples  %3d stalls  worst %5dms  %s",
+                site.samples, site.stalls, site.worstMs, site.frame));
+            report.append("\n        blocked in ").append(site.blockedIn);
+            for (String frame : site.exampleStack) {
+                report.append("\n          at ").append(frame);
+            }
+        }
+        if (!blockingCalls.isEmpty()) {
+            report.append("\nBlocking calls on the FX thread:");
+            blockingCalls.forEach((call, count) -> report.append(String.format("\n%5d  %s", count.get(), call)));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Get FX thread responsiveness statistics
+     */
+    public static synchronized String getStallStats() {
+        String top = "none";
+        long topSamples = 0;
+        for (Site site : sites.values()) {
+            if (site.samples > topSamples) {
+                topSamples = site.samples;
+                top = site.frame;
+            }
+        }
+        int blocking = 0;
+        for (AtomicInteger count : blockingCalls.values()) {
+            blocking += count.get();
+        }
+
+        return String.format(
+            "FX Thread:\n" +
+            "- Stalls (>%dms): %d\n" +
+            "- Total Stalled: %dms (worst %dms)\n" +
+            "- Blocking Calls on FX Thread: %d%s\n" +
+            "- Top Hot Spot: %s",
+            AppConfig.FX_STALL_THRESHOLD_MS.get(), stalls,
+            totalStallMs, worstStallMs,
+            blocking, strict ? " (strict)" : "",
+            top
+        );
+    }
+}
@@ -0,0 +1,196 @@
+package com.moodflix.util;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.Node;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Batches UI updates onto the FX thread. Any thread may submit; updates go on a
+ * lock-free queue that is drained by a single Platform.runLater, so a burst of
+ * updates costs one FX event instead of one each. An update keyed by a target node
+ * and property replaces one still queued for the same key, so only the latest value
+ * is applied. Each drain stops after fx.update.budget.ms and leaves the rest for the
+ * next pulse, so a flood of updates can't hold up rendering; updates submitted from
+ * the FX thread also wait for the next pulse.
+ *
+ * Drains run outside pulse processing, so updates may open dialogs with showAndWait.
+ */
+public class FxUpdateCoalescer {
+
+    private static final ConcurrentLinkedQueue<Update> queue = new ConcurrentLinkedQueue<>();
+    private static final Map<Key, Update> latest = new ConcurrentHashMap<>();
+    private static final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private static final AtomicLong sequence = new AtomicLong(0);
+    private static AnimationTimer nextPulse; // FX thread only
+
+    // Metrics
+    private static final AtomicLong submitted = new AtomicLong(0);
+    private static final AtomicLong coalesced = new AtomicLong(0);
+    private static final AtomicLong failures = new AtomicLong(0);
+    private static long applied = 0;
+    private static long drains = 0;
+    private static long carriedOver = 0;
+    private static long maxBatch = 0;
+    private static long totalDrainNanos = 0;
+    private static long maxDrainNanos = 0;
+
+    /**
+     * What an update writes to: a node and one of its properties
+     */
+    private static final class Key {
+        final Node target;
+        final String property;
+
+        Key(Node target, String property) {
+            this.target = target;
+            this.property = property;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return target == other.target && property.equals(other.property);
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(target) * 31 + property.hashCode();
+        }
+    }
+
+    private static final class Update {
+        final long seq = sequence.incrementAndGet();
+        final Key key;
+        final Runnable task;
+        final Runnable run;
+        volatile boolean superseded;
+
+        Update(Key key, Runnable task) {
+            this.key = key;
+            this.task = task;
+            // Superseded updates still run the wrapper so their interaction is released
+            this.run = InteractionTracer.forFxThread(this::apply);
+        }
+
+        private void apply() {
+            if (superseded) return;
+            try {
+                task.run();
+            } catch (Exception e) {
+                failures.incrementAndGet();
+                System.err.println("[FX-UPDATE] UI task failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Queue an update for the FX thread
+     */
+    public static void submit(Runnable update) {
+        enqueue(new Update(null, update));
+    }
+
+    /**
+     * Queue an update of one property of a node, replacing any update of the same
+     * node and property that hasn't been applied yet
+     */
+    public static void submit(Node target, String property, Runnable update) {
+        Update queued = new Update(new Key(target, property), update);
+        Update previous = latest.put(queued.key, queued);
+        if (previous != null) {
+            previous.superseded = true;
+            coalesced.incrementAndGet();
+        }
+        enqueue(queued);
+    }
+
+    private static void enqueue(Update update) {
+        submitted.incrementAndGet();
+        queue.offer(update);
+        if (Platform.isFxApplicationThread()) {
+            scheduleNextPulse();
+        } else if (scheduled.compareAndSet(false, true)) {
+            Platform.runLater(FxUpdateCoalescer::drain);
+        }
+    }
+
+    /**
+     * Drain once the next frame has been rendered; FX thread only
+     */
+    private static void scheduleNextPulse() {
+        if (!scheduled.compareAndSet(false, true)) return;
+        if (nextPulse == null) {
+            nextPulse = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    stop();
+                    // Not from inside the pulse, where showAndWait isn't allowed
+                    Platform.runLater(FxUpdateCoalescer::drain);
+                }
+            };
+        }
+        nextPulse.start();
+    }
+
+    private static void drain() {
+        // Updates submitted from here on schedule their own drain
+        scheduled.set(false);
+        long start = System.nanoTime();
+        long budget = AppConfig.FX_UPDATE_BUDGET_MS.get() * 1_000_000L;
+        long last = sequence.get();
+        long batch = 0;
+
+        Update update;
+        while ((update = queue.peek()) != null && update.seq <= last) {
+            if (batch > 0 && System.nanoTime() - start > budget) {
+                carriedOver++;
+                break;
+            }
+            queue.poll();
+            if (update.key != null) {
+                latest.remove(update.key, update);
+            }
+            boolean superseded = update.superseded;
+            update.run.run();
+            if (!superseded) batch++;
+        }
+
+        long elapsed = System.nanoTime() - start;
+        drains++;
+        applied += batch;
+        maxBatch = Math.max(maxBatch, batch);
+        totalDrainNanos += elapsed;
+        maxDrainNanos = Math.max(maxDrainNanos, elapsed);
+        if (!queue.isEmpty()) {
+            scheduleNextPulse();
+        }
+    }
+
+    /**
+     * Get FX update batching statistics
+     */
+    public static String getCoalescerStats() {
+        long events = drains;
+        return String.format(
+            "FX Updates:\n" +
+            "- Submitted: %d, Applied: %d, Coalesced: %d\n" +
+            "- Drains: %d (avg %.1f updates, max %d)\n" +
+            "- Drain Time: avg %.2fms, max %.2fms (budget %dms)\n" +
+            "- Carried to Next Pulse: %d\n" +
+            "- Queued: %d, Failed: %d",
+            submitted.get(), applied, coalesced.get(),
+            events, events > 0 ? (double) applied / events : 0.0, maxBatch,
+            events > 0 ? totalDrainNanos / (double) events / 1_000_000.0 : 0.0, maxDrainNanos / 1_000_000.0,
+            AppConfig.FX_UPDATE_BUDGET_MS.get(),
+            carriedOver,
+            queue.size(), failures.get()
+        );
+    }
+}
@@ -14,18 +14,12 @@ import java.util.function.Supplier;
  */
 public class HttpConnectionManager {
     
-    // Connection pool settings
-    private static final int MAX_CONNECTIONS = 20;
-    private static final int CONNECT_TIMEOUT = 3000; // 3 seconds
-    private static final int READ_TIMEOUT = 5000; // 5 seconds
-    
-    // Connection pool
+    // Connection pool (limits and timeouts come from AppConfig)
     private static final Map<String, HttpURLConnection> connectionPool = new ConcurrentHashMap<>();
     private static final AtomicInteger activeConnections = new AtomicInteger(0);
     
     // Request optimization
     private static final Map<String, CompletableFuture<?>> pendingRequests = new ConcurrentHashMap<>();
-    private static final ExecutorService httpExecutor = Executors.newFixedThreadPool(8);
     
     // Performance metrics
     private static final AtomicInteger totalRequests = new AtomicInteger(0);
@@ -153,9 +147,11 @@ public class HttpConnectionManager {
      * Get or create connection with pooling
      */
     private static HttpURLConnection getConnection(String urlString) throws Exception {
+        FxThreadWatchdog.checkBlockingCall("HTTP");
+        
         // Check if we have a reusable connection
         HttpURLConnection existing = connectionPool.get(urlString);
-        if (existing != null && activeConnections.get() < MAX_CONNECTIONS) {
+        if (existing != null && activeConnections.get() < AppConfig.HTTP_MAX_CONNECTIONS.get()) {
             try {
                 // Test if connection is still valid
                 existing.getResponseCode();
@@ -171,13 +167,13 @@ public class HttpConnectionManager {
         HttpURLConnection conn = (HttpURLConnection) url.openConnection();
         
         // Optimize connection settings
-        conn.setConnectTimeout(CONNECT_TIMEOUT);
-        conn.setReadTimeout(READ_TIMEOUT);
+        conn.setConnectTimeout(AppConfig.HTTP_CONNECT_TIMEOUT_MS.get());
+        conn.setReadTimeout(AppConfig.HTTP_READ_TIMEOUT_MS.get());
         conn.setUseCaches(true);
         conn.setDefaultUseCaches(true);
         
         // Add to pool if we have space
-        if (activeConnections.get() < MAX_CONNECTIONS) {
+        if (activeConnections.get() < AppConfig.HTTP_MAX_CONNECTIONS.get()) {
             connectionPool.put(urlString, conn);
             activeConnections.incrementAndGet();
         }
@@ -244,19 +240,4 @@ public class HttpConnectionManager {
         activeConnections.set(0);
         System.out.println("[HTTP-OPT] Connection pool cleared");
     }
-    
-    /**
-     * Shutdown HTTP executor
-     */
-    public static void shutdown() {
-        httpExecutor.shutdown();
-        try {
-            if (!httpExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
-                httpExecutor.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            httpExecutor.shutdownNow();
-            Thread.currentThread().interrupt();
-        }
-    }
 } 
\ No newline at end of file
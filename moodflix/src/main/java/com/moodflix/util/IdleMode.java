@@ -0,0 +1,190 @@
+package com.moodflix.util;
+
+import com.moodflix.database.DatabaseConfig;
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.scene.input.InputEvent;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Power saving while nobody is using the app. After idle.timeout.seconds without
+ * input, or while every window is minimized, ambient animations, frame measurement
+ * and the FX watchdog heartbeat pause, speculative prefetch stops, prefetched pages
+ * and card snapshots are dropped, expired cache entries are trimmed and the
+ * connection pools close their idle connections. The next input or restoring the
+ * window resumes everything and re-warms the interactive pool and the user's likely
+ * moods. Views with their own polling register a listener. FX thread only, except
+ * isIdle().
+ */
+public class IdleMode {
+
+    private static final long CHECK_INTERVAL_SECONDS = 5;
+
+    private static final List<Consumer<Boolean>> listeners = new CopyOnWriteArrayList<>();
+    private static final Set<Window> tracked = Collections.newSetFromMap(new WeakHashMap<>());
+    private static volatile boolean idle = false;
+    private static volatile long lastInputNanos = System.nanoTime();
+    private static boolean started = false;
+
+    // Metrics, FX thread only
+    private static long idlePeriods = 0;
+    private static long idleSinceNanos = 0;
+    private static long totalIdleNanos = 0;
+    private static String lastReason = "none";
+
+    /**
+     * Watch input and window state; call once on the FX thread
+     */
+    public static void start() {
+        if (started) return;
+        started = true;
+        Window.getWindows().addListener((ListChangeListener<Window>) change -> {
+            while (change.next()) {
+                for (Window window : change.getAddedSubList()) {
+                    track(window);
+                }
+            }
+        });
+        for (Window window : Window.getWindows()) {
+            track(window);
+        }
+        AppExecutors.scheduler().scheduleWithFixedDelay(IdleMode::checkInactivity,
+            CHECK_INTERVAL_SECONDS, CHECK_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private static void track(Window window) {
+        if (!tracked.add(window)) return;
+        window.addEventFilter(InputEvent.ANY, event -> {
+            lastInputNanos = System.nanoTime();
+            if (idle && !allMinimized()) {
+                resume("input");
+            }
+        });
+        if (window instanceof Stage) {
+            ((Stage) window).iconifiedProperty().addListener((obs, wasIconified, isIconified) -> {
+                if (isIconified && allMinimized()) {
+                    enter("window minimized");
+                } else if (!isIconified) {
+                    lastInputNanos = System.nanoTime();
+                    resume("window restored");
+                }
+            });
+        }
+    }
+
+    private static boolean allMinimized() {
+        boolean anyStage = false;
+        for (Window window : Window.getWindows()) {
+            if (window instanceof Stage && window.isShowing()) {
+                if (!((Stage) window).isIconified()) return false;
+                anyStage = true;
+            }
+        }
+        return anyStage;
+    }
+
+    private static void checkInactivity() {
+        int timeout = AppConfig.IDLE_TIMEOUT_SECONDS.get();
+        if (idle || timeout == 0) return;
+        long quietSeconds = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - lastInputNanos);
+        if (quietSeconds >= timeout) {
+            Platform.runLater(() -> {
+                // Input may have arrived while this was queued
+                if (System.nanoTime() - lastInputNanos >= TimeUnit.SECONDS.toNanos(timeout)) {
+                    enter("no input for " + quietSeconds + "s");
+                }
+            });
+        }
+    }
+
+    private static void enter(String reason) {
+        if (idle) return;
+        idle = true;
+        idlePeriods++;
+        idleSinceNanos = System.nanoTime();
+        lastReason = reason;
+        System.out.println("[IDLE] Entering idle mode: " + reason);
+
+        RenderingMode.setIdle(true);
+        FxThreadWatchdog.setPaused(true);
+        MoodPrefetcher.clear();
+        SceneLifecycleManager.purge(SceneLifecycleManager.Priority.PREFETCH);
+        CardSnapshots.clear();
+        AppExecutors.execute(AppExecutors.Lane.IO, PerformanceOptimizer::trimCaches);
+        if (StartupPipeline.isDatabaseReady()) {
+            AppExecutors.execute(AppExecutors.Lane.IO, () -> DatabaseConfig.setIdle(true));
+        }
+        notifyListeners(true);
+    }
+
+    private static void resume(String reason) {
+        if (!idle) return;
+        idle = false;
+        long idleNanos = System.nanoTime() - idleSinceNanos;
+        totalIdleNanos += idleNanos;
+        System.out.println("[IDLE] Resuming on " + reason + " after " + TimeUnit.NANOSECONDS.toSeconds(idleNanos) + "s idle");
+
+        RenderingMode.setIdle(false);
+        FxThreadWatchdog.setPaused(false);
+        if (StartupPipeline.isDatabaseReady()) {
+            AppExecutors.execute(AppExecutors.Lane.IO, () -> DatabaseConfig.setIdle(false));
+        }
+        if (SessionManager.isUser()) {
+            MoodPrefetcher.prefetchFor(SessionManager.getEmail());
+        }
+        notifyListeners(false);
+    }
+
+    private static void notifyListeners(boolean isIdle) {
+        for (Consumer<Boolean> listener : listeners) {
+            try {
+                listener.accept(isIdle);
+            } catch (RuntimeException e) {
+                System.err.println("[IDLE] Listener failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Called on the FX thread with true when idle mode starts and false when it ends
+     */
+    public static void addListener(Consumer<Boolean> listener) {
+        listeners.add(listener);
+    }
+
+    public static void removeListener(Consumer<Boolean> listener) {
+        listeners.remove(listener);
+    }
+
+    public static boolean isIdle() {
+        return idle;
+    }
+
+    /**
+     * Get idle mode statistics
+     */
+    public static String getIdleStats() {
+        long current = idle ? System.nanoTime() - idleSinceNanos : 0;
+        int timeout = AppConfig.IDLE_TIMEOUT_SECONDS.get();
+        return String.format(
+            "Idle Mode:\n" +
+            "- State: %s\n" +
+            "- Timeout: %s\n" +
+            "- Idle Periods: %d (%ds total)\n" +
+            "- Last Reason: %s",
+            idle ? "idle for " + TimeUnit.NANOSECONDS.toSeconds(current) + "s" : "active",
+            timeout > 0 ? timeout + "s without input" : "minimized only",
+            idlePeriods, TimeUnit.NANOSECONDS.toSeconds(totalIdleNanos + current),
+            lastReason
+        );
+    }
+}
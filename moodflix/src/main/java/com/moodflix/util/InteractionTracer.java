@@ -0,0 +1,416 @@
+package com.moodflix.util;
+
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-to-end latency of user actions, from the click to the frame that shows the
+ * result. Each action gets a correlation id that follows it through executor lanes,
+ * JDBC connections and Platform.runLater hops; once no work for it is outstanding, the
+ * trace closes at the next pulse (after CSS and layout). Traces are broken down into
+ * queue wait, DB, FX wait, FX work and layout, and can be exported in the Chrome
+ * trace-event format (chrome://tracing, Perfetto).
+ */
+public class InteractionTracer {
+
+    // Work still running after this long (dropped or rejected tasks) closes the trace as incomplete
+    private static final long TIMEOUT_SECONDS = 30;
+    private static final int MAX_SPANS = 256;
+    private static final int HISTORY = 200;
+    private static final int SAMPLES_PER_ACTION = 100;
+
+    // Phases of the breakdown, in display order
+    public static final String QUEUE = "queue";
+    public static final String DB = "db";
+    public static final String FX_WAIT = "fx_wait";
+    public static final String FX_RUN = "fx_run";
+    public static final String TASK = "task";
+    public static final String LAYOUT = "layout";
+    private static final List<String> PHASES = Arrays.asList(QUEUE, DB, FX_WAIT, FX_RUN, LAYOUT);
+
+    private static final long baseNanos = System.nanoTime();
+    private static final long baseEpochMicros = System.currentTimeMillis() * 1000;
+    private static final ThreadLocal<Trace> current = new ThreadLocal<>();
+    private static final AtomicLong sequence = new AtomicLong(0);
+
+    // Completed traces and per-action aggregates, guarded by the class lock
+    private static final Deque<Trace> completed = new ArrayDeque<>();
+    private static final Map<String, ActionStats> actions = new LinkedHashMap<>();
+    private static final AtomicInteger started = new AtomicInteger(0);
+    private static final AtomicInteger incomplete = new AtomicInteger(0);
+
+    /**
+     * One user action and everything done on its behalf
+     */
+    public static final class Trace {
+        final String id;
+        final String action;
+        final long startNanos;
+        final List<Span> spans = new ArrayList<>();
+        // The handler itself plus every hop submitted but not yet finished
+        final AtomicInteger pending = new AtomicInteger(1);
+        volatile boolean closed;
+        long endNanos;
+        boolean complete;
+        final Map<String, Long> phaseNanos = new HashMap<>();
+
+        Trace(String action) {
+            this.id = "ix-" + sequence.incrementAndGet();
+            this.action = action;
+            this.startNanos = System.nanoTime();
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        synchronized void addSpan(String category, String name, long start, long end) {
+            if (closed || spans.size() >= MAX_SPANS) return;
+            spans.add(new Span(category, name, Thread.currentThread().getName(), start, end));
+        }
+
+        long totalNanos() {
+            return endNanos - startNanos;
+        }
+    }
+
+    private static final class Span {
+        final String category;
+        final String name;
+        final String thread;
+        final long start;
+        final long end;
+
+        Span(String category, String name, String thread, long start, long end) {
+            this.category = category;
+            this.name = name;
+            this.thread = thread;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    private static final class ActionStats {
+        long count;
+        long incomplete;
+        final Map<String, Long> phaseNanos = new HashMap<>();
+        final long[] totals = new long[SAMPLES_PER_ACTION];
+        int samples;
+
+        void add(Trace trace) {
+            count++;
+            if (!trace.complete) incomplete++;
+            trace.phaseNanos.forEach((phase, nanos) -> phaseNanos.merge(phase, nanos, Long::sum));
+            totals[(int) ((count - 1) % SAMPLES_PER_ACTION)] = trace.totalNanos();
+            samples = (int) Math.min(count, SAMPLES_PER_ACTION);
+        }
+
+        double avgMs(String phase) {
+            return count > 0 ? phaseNanos.getOrDefault(phase, 0L) / (double) count / 1_000_000 : 0;
+        }
+
+        double percentileMs(double p) {
+            if (samples == 0) return 0;
+            long[] sorted = Arrays.copyOf(totals, samples);
+            Arrays.sort(sorted);
+            return sorted[Math.min(samples - 1, (int) Math.ceil(p * samples) - 1)] / 1_000_000.0;
+        }
+    }
+
+    /**
+     * Run an event handler as a new traced interaction. Called from inside another
+     * traced handler, it just runs as part of the outer one.
+     */
+    public static void trace(String action, Runnable handler) {
+        if (current.get() != null) {
+            handler.run();
+            return;
+        }
+        Trace trace = new Trace(action);
+        started.incrementAndGet();
+        AppExecutors.scheduler().schedule(() -> timeout(trace), TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        current.set(trace);
+        try {
+            handler.run();
+        } finally {
+            current.remove();
+            trace.addSpan(FX_RUN, "handler " + action, trace.startNanos, System.nanoTime());
+            release(trace);
+        }
+    }
+
+    /**
+     * The interaction the current thread is working for, or null
+     */
+    public static Trace current() {
+        Trace trace = current.get();
+        return trace != null && !trace.closed ? trace : null;
+    }
+
+    /**
+     * Attribute a timed span (e.g. a JDBC connection) to a trace; no-op for null
+     */
+    public static void recordSpan(Trace trace, String category, String name, long startNanos, long endNanos) {
+        if (trace != null) {
+            trace.addSpan(category, name, startNanos, endNanos);
+        }
+    }
+
+    /**
+     * Carry the current interaction, if any, into a task submitted to an executor lane;
+     * the time until it starts is charged as queue wait
+     */
+    public static Runnable propagate(Runnable task, String lane) {
+        Trace trace = current();
+        if (trace == null) return task;
+        trace.pending.incrementAndGet();
+        long queued = System.nanoTime();
+        return () -> runInTrace(trace, task, lane, QUEUE, TASK, queued);
+    }
+
+    /**
+     * Platform.runLater that carries the current interaction to the FX thread;
+     * the time until it runs is charged as FX wait
+     */
+    public static void runLater(Runnable task) {
+        Platform.runLater(forFxThread(task));
+    }
+
+    /**
+     * Wrap a task bound for the FX thread so it runs in the current interaction;
+     * the wrapper must be run exactly once
+     */
+    static Runnable forFxThread(Runnable task) {
+        Trace trace = current();
+        if (trace == null) return task;
+        trace.pending.incrementAndGet();
+        long queued = System.nanoTime();
+        return () -> runInTrace(trace, task, "fx update", FX_WAIT, FX_RUN, queued);
+    }
+
+    private static void runInTrace(Trace trace, Runnable task, String name, String waitCategory,
+                                   String runCategory, long queued) {
+        long start = System.nanoTime();
+        trace.addSpan(waitCategory, "wait for " + name, queued, start);
+        Trace previous = current.get();
+        current.set(trace);
+        try {
+            task.run();
+        } finally {
+            if (previous != null) current.set(previous); else current.remove();
+            trace.addSpan(runCategory, name, start, System.nanoTime());
+            release(trace);
+        }
+    }
+
+    private static void release(Trace trace) {
+        if (trace.pending.decrementAndGet() == 0) {
+            closeAtNextPulse(trace);
+        }
+    }
+
+    /**
+     * Close once the scenes have been laid out for the next frame
+     */
+    private static void closeAtNextPulse(Trace trace) {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> closeAtNextPulse(trace));
+            return;
+        }
+        long uiDone = System.nanoTime();
+        List<Scene> scenes = new ArrayList<>();
+        for (Window window : Window.getWindows()) {
+            if (window.isShowing() && window.getScene() != null) {
+                scenes.add(window.getScene());
+            }
+        }
+        if (scenes.isEmpty()) {
+            close(trace, true);
+            return;
+        }
+        Runnable[] listener = new Runnable[1];
+        listener[0] = () -> {
+            // Removing from inside the pulse's own iteration isn't safe
+            Platform.runLater(() -> scenes.forEach(scene -> scene.removePostLayoutPulseListener(listener[0])));
+            if (trace.closed) return;
+            trace.addSpan(LAYOUT, "css + layout", uiDone, System.nanoTime());
+            close(trace, true);
+        };
+        for (Scene scene : scenes) {
+            scene.addPostLayoutPulseListener(listener[0]);
+        }
+        Platform.requestNextPulse();
+    }
+
+    private static void timeout(Trace trace) {
+        if (trace.closed) return;
+        System.err.println("[TRACE] " + trace.id + " " + trace.action + " still had "
+            + trace.pending.get() + " tasks outstanding after " + TIMEOUT_SECONDS + "s");
+        close(trace, false);
+    }
+
+    private static void close(Trace trace, boolean complete) {
+        synchronized (trace) {
+            if (trace.closed) return;
+            trace.closed = true;
+            trace.complete = complete;
+            trace.endNanos = System.nanoTime();
+            for (Span span : trace.spans) {
+                trace.phaseNanos.merge(span.category, span.end - span.start, Long::sum);
+            }
+        }
+        synchronized (InteractionTracer.class) {
+            completed.addLast(trace);
+            if (completed.size() > HISTORY) completed.removeFirst();
+            actions.computeIfAbsent(trace.action, a -> new ActionStats()).add(trace);
+        }
+        if (!complete) incomplete.incrementAndGet();
+
+        long totalMs = TimeUnit.NANOSECONDS.toMillis(trace.totalNanos());
+        PerformanceMonitor.recordOperation("interaction_" + trace.action, totalMs, complete);
+        System.out.println(String.format("[TRACE] %s %s: %dms (queue %.1f, db %.1f, fx wait %.1f, fx %.1f, layout %.1f)",
+            trace.id, trace.action, totalMs,
+            phaseMs(trace, QUEUE), phaseMs(trace, DB), phaseMs(trace, FX_WAIT), phaseMs(trace, FX_RUN), phaseMs(trace, LAYOUT)));
+    }
+
+    private static double phaseMs(Trace trace, String phase) {
+        return trace.phaseNanos.getOrDefault(phase, 0L) / 1_000_000.0;
+    }
+
+    private static Path traceDirectory() {
+        String configured = System.getProperty("moodflix.trace.dir");
+        if (configured != null && !configured.isBlank()) {
+            return Paths.get(configured);
+        }
+        return Paths.get(System.getProperty("user.home"), ".moodflix", "traces");
+    }
+
+    /**
+     * Write the recent traces as a Chrome trace-event JSON file; returns its path
+     */
+    public static Path exportTraces() throws IOException {
+        List<Trace> traces;
+        synchronized (InteractionTracer.class) {
+            traces = new ArrayList<>(completed);
+        }
+
+        JSONArray events = new JSONArray();
+        Map<String, Integer> threadIds = new LinkedHashMap<>();
+        threadIds.put("interactions", 0);
+        for (Trace trace : traces) {
+            JSONObject args = new JSONObject();
+            args.put("correlationId", trace.id);
+            args.put("complete", trace.complete);
+            for (String phase : PHASES) {
+                args.put(phase + "_ms", phaseMs(trace, phase));
+            }
+            events.put(event(trace.action, "interaction", 0, trace.startNanos, trace.endNanos, args));
+
+            List<Span> spans;
+            synchronized (trace) {
+                spans = new ArrayList<>(trace.spans);
+            }
+            for (Span span : spans) {
+                int tid = threadIds.computeIfAbsent(span.thread, t -> threadIds.size());
+                events.put(event(span.name, span.category, tid, span.start, span.end,
+                    new JSONObject().put("correlationId", trace.id)));
+            }
+        }
+        threadIds.forEach((thread, tid) -> events.put(new JSONObject()
+            .put("name", "thread_name").put("ph", "M").put("pid", 1).put("tid", tid)
+            .put("args", new JSONObject().put("name", thread))));
+
+        JSONObject root = new JSONObject();
+        root.put("traceEvents", events);
+        root.put("displayTimeUnit", "ms");
+
+        Path directory = traceDirectory();
+        Files.createDirectories(directory);
+        Path file = directory.resolve("interactions-"
+            + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        Files.writeString(file, root.toString());
+        System.out.println("[TRACE] Exported " + traces.size() + " traces to " + file);
+        return file;
+    }
+
+    private static JSONObject event(String name, String category, int tid, long start, long end, JSONObject args) {
+        return new JSONObject()
+            .put("name", name)
+            .put("cat", category)
+            .put("ph", "X")
+            .put("pid", 1)
+            .put("tid", tid)
+            .put("ts", baseEpochMicros + (start - baseNanos) / 1000)
+            .put("dur", Math.max(0, (end - start) / 1000))
+            .put("args", args);
+    }
+
+    /**
+     * Per-action breakdown: average time in each phase and the end-to-end p50/p95
+     */
+    public static synchronized String getBreakdownReport() {
+        StringBuilder report = new StringBuilder(String.format(
+            "Interaction Breakdown (avg ms, %d traces):\n%-28s %5s %7s %7s %7s %7s %7s %7s %7s %7s",
+            completed.size(), "action", "n", "queue", "db", "fx wait", "fx", "layout", "p50", "p95", "worst"));
+        for (Map.Entry<String, ActionStats> entry : actions.entrySet()) {
+            ActionStats stats = entry.getValue();
+            report.append(String.format("\n%-28s %5d %7.1f %7.1f %7.1f %7.1f %7.1f %7.1f %7.1f %7.1f",
+                entry.getKey(), stats.count,
+                stats.avgMs(QUEUE), stats.avgMs(DB), stats.avgMs(FX_WAIT), stats.avgMs(FX_RUN), stats.avgMs(LAYOUT),
+                stats.percentileMs(0.50), stats.percentileMs(0.95), stats.percentileMs(1.0)));
+            if (stats.incomplete > 0) {
+                report.append(" (").append(stats.incomplete).append(" incomplete)");
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * Get interaction tracing statistics
+     */
+    public static synchronized String getTraceStats() {
+        String slowest = "none";
+        double slowestP95 = 0;
+        for (Map.Entry<String, ActionStats> entry : actions.entrySet()) {
+            double p95 = entry.getValue().percentileMs(0.95);
+            if (p95 > slowestP95) {
+                slowestP95 = p95;
+                slowest = entry.getKey();
+            }
+        }
+        Trace last = completed.peekLast();
+
+        return String.format(
+            "Interactions:\n" +
+            "- Traced: %d (%d open, %d incomplete)\n" +
+            "- Actions: %d\n" +
+            "- Slowest p95: %s (%.0fms)\n" +
+            "- Last: %s",
+            started.get(), started.get() - actions.values().stream().mapToLong(a -> a.count).sum(), incomplete.get(),
+            actions.size(),
+            slowest, slowestP95,
+            last != null ? String.format("%s %.0fms", last.action, last.totalNanos() / 1_000_000.0) : "none"
+        );
+    }
+}
@@ -1,12 +1,14 @@
 package com.moodflix.util;
 
 import com.moodflix.service.PostgreSQLAuthService;
+import com.moodflix.service.PostgreSQLSessionService;
 import com.moodflix.util.SessionManager;
 import com.moodflix.util.NavigationCache;
 import org.json.JSONObject;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -16,119 +18,200 @@ import java.util.concurrent.TimeUnit;
  */
 public class LoginOptimizer {
     
-    private static final ExecutorService loginExecutor = Executors.newFixedThreadPool(5);
+    private static final ExecutorService loginExecutor = AppExecutors.lane(AppExecutors.Lane.INTERACTIVE_DB);
+    private static final ExecutorService sceneExecutor = AppExecutors.lane(AppExecutors.Lane.CPU);
     private static final PostgreSQLAuthService authService = new PostgreSQLAuthService();
+    private static final PostgreSQLSessionService sessionService = new PostgreSQLSessionService();
     
     /**
-     * Optimized login with parallel processing
+     * Optimized login: one round trip for credentials and profile, then the
+     * dashboard view is pre-built while BCrypt verification runs on the hashing pool
      */
     public static CompletableFuture<LoginResult> loginAsync(String email, String password) {
         String loginOperationId = PerformanceMonitor.startOperation("optimized_login");
         
+        // Step 1: Fetch password hash and full profile in a single statement
         return CompletableFuture.supplyAsync(() -> {
             try {
-                // Step 1: Start authentication (this is the main bottleneck)
-                CompletableFuture<Boolean> authFuture = authService.loginUserAsync(email, password);
-                
-                // Step 2: Start user details fetch in parallel (if cached, this will be instant)
-                CompletableFuture<JSONObject> userDetailsFuture = getUserDetailsOptimized(email);
-                
-                // Wait for authentication to complete first
-                Boolean authSuccess = authFuture.get(10, TimeUnit.SECONDS);
-                
-                if (!authSuccess) {
-                    PerformanceMonitor.endOperation(loginOperationId, false);
-                    return new LoginResult(false, null, null, "Authentication failed");
+                return authService.fetchLoginRecord(email);
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, loginExecutor).thenCompose(record -> {
+            if (record == null) {
+                return CompletableFuture.completedFuture(new LoginResult(false, null, null, null, "Authentication failed"));
+            }
+            
+            JSONObject userDetails = record.getProfile();
+            String role = determineUserRole(userDetails);
+            
+            // Step 2: Build the dashboard view while the hash check runs; the controller,
+            // and with it every data load, waits for the password to check out
+            CompletableFuture<Object> viewFuture = prepareDashboardViewAsync(role);
+            
+            // Step 3: BCrypt verification (the main bottleneck); no lane thread waits on it
+            return authService.verifyPasswordAsync(record, password).whenComplete((verified, error) -> {
+                if (error != null || !verified) {
+                    viewFuture.cancel(false);
+                    MoodPrefetcher.clear();
+                }
+            }).thenApplyAsync(verified -> {
+                if (!verified) {
+                    return new LoginResult(false, null, null, null, "Authentication failed");
+                }
+                try {
+                    Scene dashboard = prepareDashboardAsync(email, role, viewFuture.get(5, TimeUnit.SECONDS))
+                        .get(5, TimeUnit.SECONDS);
+                    
+                    // Store session
+                    SessionManager.setSession(email, role);
+                    return new LoginResult(true, userDetails, dashboard, role);
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, loginExecutor);
+        }).handle((result, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                PerformanceMonitor.endOperation(loginOperationId, false);
+                System.err.println("Login optimization error: " + cause.getMessage());
+                System.err.println("Stack trace:");
+                cause.printStackTrace();
+                return new LoginResult(false, null, null, null, cause.getMessage());
+            }
+            PerformanceMonitor.endOperation(loginOperationId, result.isSuccess());
+            return result;
+        });
+    }
+    
+    /**
+     * Resume a remembered session: one indexed token lookup, no BCrypt, then the dashboard
+     */
+    public static CompletableFuture<LoginResult> resumeSessionAsync() {
+        return CompletableFuture.supplyAsync(() -> {
+            String token = RememberMeStore.loadToken();
+            if (token == null) {
+                return new LoginResult(false, null, null, null, "No saved session");
+            }
+            String operationId = PerformanceMonitor.startOperation("session_resume");
+            try {
+                JSONObject userDetails = sessionService.validateSessionToken(token);
+                if (userDetails == null) {
+                    System.out.println("[LOGIN-OPT] Saved session expired or revoked");
+                    RememberMeStore.clearToken();
+                    PerformanceMonitor.endOperation(operationId, false);
+                    return new LoginResult(false, null, null, null, "Session expired");
                 }
                 
-                // Now wait for user details to determine role
-                JSONObject userDetails = userDetailsFuture.get(5, TimeUnit.SECONDS);
+                String email = userDetails.getString("email");
                 String role = determineUserRole(userDetails);
+                UserProfileCache.put(Integer.parseInt(userDetails.getString("localId")), email, userDetails);
                 
-                // Step 3: Prepare dashboard based on determined role
-                CompletableFuture<Scene> dashboardFuture = prepareDashboardAsync(email, role);
-                
-                // Wait for dashboard preparation
-                Scene dashboard = dashboardFuture.get(5, TimeUnit.SECONDS);
-                
-                // Store session
+                Scene dashboard = prepareDashboardAsync(email, role).get(5, TimeUnit.SECONDS);
                 SessionManager.setSession(email, role);
                 
-                PerformanceMonitor.endOperation(loginOperationId, true);
-                
+                PerformanceMonitor.endOperation(operationId, true);
+                System.out.println("[LOGIN-OPT] Resumed saved session for: " + email);
                 return new LoginResult(true, userDetails, dashboard, role);
-                
             } catch (Exception e) {
-                PerformanceMonitor.endOperation(loginOperationId, false);
-                System.err.println("Login optimization error: " + e.getMessage());
-                System.err.println("Stack trace:");
-                e.printStackTrace();
-                return new LoginResult(false, null, null, e.getMessage());
+                PerformanceMonitor.endOperation(operationId, false);
+                System.err.println("Session resume error: " + e.getMessage());
+                return new LoginResult(false, null, null, null, e.getMessage());
             }
         }, loginExecutor);
     }
     
     /**
-     * Optimized user details fetch with intelligent caching
+     * Issue and store a remember-me token after a successful password login
      */
-    private static CompletableFuture<JSONObject> getUserDetailsOptimized(String email) {
-        return CompletableFuture.supplyAsync(() -> {
+    public static void rememberUserAsync(String email) {
+        CompletableFuture.runAsync(() -> {
             try {
-                // Check cache first
-                JSONObject cachedUser = getCachedUser(email);
-                if (cachedUser != null) {
-                    System.out.println("[LOGIN-OPT] Using cached user details for: " + email);
-                    return cachedUser;
-                }
-                
-                // Fetch from PostgreSQL if not cached
-                System.out.println("[LOGIN-OPT] Fetching user details from PostgreSQL for: " + email);
-                return authService.getUserDetails(email);
-                
+                RememberMeStore.saveToken(sessionService.createSessionToken(email));
             } catch (Exception e) {
-                System.err.println("Error fetching user details: " + e.getMessage());
-                return null;
+                System.err.println("Error creating session token: " + e.getMessage());
             }
         }, loginExecutor);
     }
     
     /**
-     * Prepare dashboard in parallel based on role
+     * Revoke the remembered session on logout
      */
+    public static void forgetUserAsync() {
+        String token = RememberMeStore.loadToken();
+        if (token == null) return;
+        RememberMeStore.clearToken();
+        CompletableFuture.runAsync(() -> {
+            try {
+                sessionService.revokeSessionToken(token);
+            } catch (Exception e) {
+                System.err.println("Error revoking session token: " + e.getMessage());
+            }
+        }, loginExecutor);
+    }
+    
+    /**
+     * Build the role's dashboard view without a controller, so nothing is loaded for
+     * a user who has not been authenticated yet
+     */
+    private static CompletableFuture<Object> prepareDashboardViewAsync(String role) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return "admin".equals(role)
+                    ? new com.moodflix.view.AdminDashboard()
+                    : NavigationCache.createUserDashboardView();
+            } catch (Exception e) {
+                // The dashboard is built from scratch after verification instead
+                System.err.println("Error pre-building dashboard view: " + e.getMessage());
+                return null;
+            }
+        }, sceneExecutor);
+    }
+    
     private static CompletableFuture<Scene> prepareDashboardAsync(String email, String role) {
+        return prepareDashboardAsync(email, role, null);
+    }
+    
+    /**
+     * Prepare dashboard based on role, reusing a view built during the password check
+     */
+    private static CompletableFuture<Scene> prepareDashboardAsync(String email, String role, Object prebuilt) {
         return CompletableFuture.supplyAsync(() -> {
             try {
                 // Use role-specific dashboard creation
                 if ("admin".equals(role)) {
                     System.out.println("[LOGIN-OPT] Preparing admin dashboard for: " + email);
-                    return NavigationCache.getAdminDashboardScene(email);
+                    return NavigationCache.getAdminDashboardScene(email,
+                        prebuilt instanceof com.moodflix.view.AdminDashboard ? (com.moodflix.view.AdminDashboard) prebuilt : null);
                 } else {
                     System.out.println("[LOGIN-OPT] Preparing user dashboard for: " + email);
+                    com.moodflix.view.UserDashboard userView = prebuilt instanceof com.moodflix.view.UserDashboard
+                        ? (com.moodflix.view.UserDashboard) prebuilt : null;
                     // Get HostServices safely
                     javafx.application.HostServices hostServices = com.moodflix.Main.getAppHostServices();
                     if (hostServices == null) {
                         System.out.println("[LOGIN-OPT] HostServices is null, using fallback dashboard creation");
                         // Create dashboard without HostServices as fallback
-                        return createUserDashboardFallback(email);
+                        return createUserDashboardFallback(email, userView);
                     }
-                    return NavigationCache.getUserDashboardScene(email);
+                    return NavigationCache.getUserDashboardScene(email, userView);
                 }
             } catch (Exception e) {
                 System.err.println("Error preparing dashboard: " + e.getMessage());
                 e.printStackTrace(); // Add stack trace for debugging
                 return null;
             }
-        }, loginExecutor);
+        }, sceneExecutor);
     }
     
     /**
      * Create user dashboard fallback when HostServices is not available
      */
-    private static Scene createUserDashboardFallback(String email) {
+    private static Scene createUserDashboardFallback(String email, com.moodflix.view.UserDashboard prebuilt) {
         try {
             System.out.println("[LOGIN-OPT] Creating user dashboard fallback for: " + email);
-            com.moodflix.view.UserDashboard userDashboard = new com.moodflix.view.UserDashboard();
-            com.moodflix.controller.UserDashboardController userController = new com.moodflix.controller.UserDashboardController(userDashboard);
+            com.moodflix.view.UserDashboard userDashboard = prebuilt != null ? prebuilt : new com.moodflix.view.UserDashboard();
+            com.moodflix.controller.UserDashboardController userController = new com.moodflix.controller.UserDashboardController(userDashboard, email);
             return new javafx.scene.Scene(userDashboard.getView(), 1200, 800);
         } catch (Exception e) {
             System.err.println("Error creating fallback dashboard: " + e.getMessage());
@@ -202,13 +285,8 @@ public class LoginOptimizer {
     /**
      * Get cached user details
      */
-    private static JSONObject getCachedUser(String email) {
-        try {
-            // No reflection needed for PostgreSQL - return null to always fetch fresh
-            return null;
-        } catch (Exception e) {
-            return null;
-        }
+    public static JSONObject getCachedUser(String email) {
+        return UserProfileCache.getByEmail(email);
     }
     
     /**
@@ -240,21 +318,6 @@ public class LoginOptimizer {
         public String getErrorMessage() { return errorMessage; }
     }
     
-    /**
-     * Shutdown the login executor
-     */
-    public static void shutdown() {
-        loginExecutor.shutdown();
-        try {
-            if (!loginExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
-                loginExecutor.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            loginExecutor.shutdownNow();
-            Thread.currentThread().interrupt();
-        }
-    }
-    
     /**
      * Test login performance
      */
@@ -27,16 +27,19 @@ public class LogoutManager {
         System.out.println("🚪 " + (isAdmin ? "Admin" : "User") + " logout initiated");
         
         try {
-            // Step 1: Clear session data
+            // Step 1: Clear session data and revoke any remembered session
             String userEmail = SessionManager.getEmail();
             SessionManager.clear();
+            LoginOptimizer.forgetUserAsync();
+            RequestScope.cancelAll();
             System.out.println("✅ Session cleared successfully");
             
-            // Step 2: Clear navigation cache for this user
-            if (userEmail != null) {
-                NavigationCache.clearUserCache(userEmail);
-                System.out.println("✅ Navigation cache cleared for: " + userEmail);
-            }
+            // Step 2: Drop every cached scene, including preloads still in flight
+            SceneLifecycleManager.purgeAll();
+            NavigationOptimizer.clearPreloadedScenes();
+            NavigationPredictor.resetSession();
+            MoodPrefetcher.clear();
+            System.out.println("✅ Cached scenes purged for: " + userEmail);
             
             // Step 3: Clear application cache
             // No Firebase cache to clear - using PostgreSQL
@@ -184,7 +187,12 @@ public class LogoutManager {
         try {
             // Clear all data immediately
             SessionManager.clear();
-            NavigationCache.clearAllCache();
+            LoginOptimizer.forgetUserAsync();
+            RequestScope.cancelAll();
+            SceneLifecycleManager.purgeAll();
+            NavigationOptimizer.clearPreloadedScenes();
+            NavigationPredictor.resetSession();
+            MoodPrefetcher.clear();
             // No Firebase cache to clear - using PostgreSQL
             PerformanceMonitor.clearStats();
             
@@ -0,0 +1,360 @@
+package com.moodflix.util;
+
+import com.moodflix.database.DatabaseConfig;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixed-memory history of key metrics: every second a sample is written to a per-second
+ * ring (last 5 minutes) and folded into a per-minute ring (last 3 hours), so a spike stays
+ * visible after the cumulative totals have averaged it away. Latency percentiles come from
+ * operations recorded in PerformanceMonitor during each interval.
+ */
+public class MetricsHistory {
+
+    public enum Resolution {
+        SECOND(1, 300),
+        MINUTE(60, 180);
+
+        final int seconds;
+        final int capacity;
+
+        Resolution(int seconds, int capacity) {
+            this.seconds = seconds;
+            this.capacity = capacity;
+        }
+    }
+
+    public enum Metric {
+        LATENCY_P50("latency_p50_ms", "p50 latency", "ms"),
+        LATENCY_P95("latency_p95_ms", "p95 latency", "ms"),
+        LATENCY_P99("latency_p99_ms", "p99 latency", "ms"),
+        OPERATIONS("operations", "Operations", ""),
+        POOL_ACTIVE("pool_active", "Pool active", ""),
+        POOL_USAGE("pool_usage_pct", "Pool usage", "%"),
+        CACHE_HIT_RATE("cache_hit_pct", "Cache hits", "%"),
+        HEAP_USED("heap_used_mb", "Heap used", "MB"),
+        GC_COUNT("gc_count", "GC count", ""),
+        GC_TIME("gc_time_ms", "GC time", "ms");
+
+        public final String key;
+        public final String label;
+        public final String unit;
+
+        Metric(String key, String label, String unit) {
+            this.key = key;
+            this.label = label;
+            this.unit = unit;
+        }
+    }
+
+    // Sub-timings of other operations; left out so they don't swamp the percentiles
+    private static final String[] EXCLUDED_PREFIXES = { "db_acquire_", "db_limiter_", "db_usage_", "db_pool_timeout_" };
+
+    private static final Map<Resolution, Ring> rings = new EnumMap<>(Resolution.class);
+    private static final Reservoir secondLatencies = new Reservoir(1024);
+    private static final Reservoir minuteLatencies = new Reservoir(4096);
+
+    // Running totals at the previous sample, and the minute being accumulated; sampler thread only
+    private static long lastCacheHits, lastCacheLookups, lastGcCount, lastGcTime;
+    private static long minuteBucket = -1;
+    private static final double[] minuteSums = new double[Metric.values().length];
+    private static final int[] minuteSamples = new int[Metric.values().length];
+    private static long minuteCacheHits, minuteCacheLookups;
+    private static boolean started = false;
+
+    static {
+        for (Resolution resolution : Resolution.values()) {
+            rings.put(resolution, new Ring(resolution.capacity));
+        }
+    }
+
+    /**
+     * One value per metric per bucket; a slot is valid only if its stamp matches the bucket
+     */
+    private static class Ring {
+        final double[][] values;
+        final long[] stamps;
+
+        Ring(int capacity) {
+            values = new double[capacity][Metric.values().length];
+            stamps = new long[capacity];
+            Arrays.fill(stamps, -1);
+        }
+
+        void put(long bucket, double[] sample) {
+            int slot = (int) (bucket % stamps.length);
+            System.arraycopy(sample, 0, values[slot], 0, sample.length);
+            stamps[slot] = bucket;
+        }
+
+        double get(long bucket, Metric metric) {
+            int slot = (int) (bucket % stamps.length);
+            return stamps[slot] == bucket ? values[slot][metric.ordinal()] : Double.NaN;
+        }
+    }
+
+    /**
+     * Bounded latency sample: keeps a uniform random subset once full
+     */
+    private static class Reservoir {
+        final long[] samples;
+        int size;
+        long seen;
+
+        Reservoir(int capacity) {
+            samples = new long[capacity];
+        }
+
+        synchronized void add(long value) {
+            seen++;
+            if (size < samples.length) {
+                samples[size++] = value;
+            } else {
+                long slot = ThreadLocalRandom.current().nextLong(seen);
+                if (slot < samples.length) samples[(int) slot] = value;
+            }
+        }
+
+        /**
+         * p50, p95, p99 and the number of operations seen, then reset
+         */
+        synchronized double[] drain() {
+            double[] result = { Double.NaN, Double.NaN, Double.NaN, seen };
+            if (size > 0) {
+                long[] sorted = Arrays.copyOf(samples, size);
+                Arrays.sort(sorted);
+                result[0] = percentile(sorted, 0.50);
+                result[1] = percentile(sorted, 0.95);
+                result[2] = percentile(sorted, 0.99);
+            }
+            size = 0;
+            seen = 0;
+            return result;
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+        }
+    }
+
+    /**
+     * Start sampling once per second; safe to call more than once
+     */
+    public static synchronized void start() {
+        if (started) return;
+        started = true;
+        // Baselines, so the first interval doesn't report everything since JVM start
+        lastCacheHits = PerformanceOptimizer.getCacheHits();
+        lastCacheLookups = lastCacheHits + PerformanceOptimizer.getCacheMisses();
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            lastGcCount += Math.max(0, gc.getCollectionCount());
+            lastGcTime += Math.max(0, gc.getCollectionTime());
+        }
+        AppExecutors.scheduler().scheduleAtFixedRate(MetricsHistory::sample, 1, 1, TimeUnit.SECONDS);
+        System.out.println("[METRICS] Recording per-second and per-minute metric history");
+    }
+
+    /**
+     * Called by PerformanceMonitor for every completed operation
+     */
+    static void recordLatency(String operationName, long durationMs) {
+        for (String prefix : EXCLUDED_PREFIXES) {
+            if (operationName.startsWith(prefix)) return;
+        }
+        secondLatencies.add(durationMs);
+        minuteLatencies.add(durationMs);
+    }
+
+    private static void sample() {
+        try {
+            long now = System.currentTimeMillis() / 1000;
+            double[] sample = new double[Metric.values().length];
+
+            double[] latency = secondLatencies.drain();
+            sample[Metric.LATENCY_P50.ordinal()] = latency[0];
+            sample[Metric.LATENCY_P95.ordinal()] = latency[1];
+            sample[Metric.LATENCY_P99.ordinal()] = latency[2];
+            sample[Metric.OPERATIONS.ordinal()] = latency[3];
+
+            // The pools only exist once startup has connected to the database
+            if (StartupPipeline.isDatabaseReady()) {
+                int active = DatabaseConfig.getActiveConnections();
+                sample[Metric.POOL_ACTIVE.ordinal()] = active;
+                sample[Metric.POOL_USAGE.ordinal()] = (double) active / DatabaseConfig.MAX_POOL_SIZE * 100;
+            } else {
+                sample[Metric.POOL_ACTIVE.ordinal()] = Double.NaN;
+                sample[Metric.POOL_USAGE.ordinal()] = Double.NaN;
+            }
+
+            long cacheHits = PerformanceOptimizer.getCacheHits();
+            long cacheLookups = cacheHits + PerformanceOptimizer.getCacheMisses();
+            long hits = cacheHits - lastCacheHits;
+            long lookups = cacheLookups - lastCacheLookups;
+            lastCacheHits = cacheHits;
+            lastCacheLookups = cacheLookups;
+            sample[Metric.CACHE_HIT_RATE.ordinal()] = lookups > 0 ? (double) hits / lookups * 100 : Double.NaN;
+
+            Runtime runtime = Runtime.getRuntime();
+            sample[Metric.HEAP_USED.ordinal()] = (runtime.totalMemory() - runtime.freeMemory()) / (1024.0 * 1024.0);
+
+            long gcCount = 0;
+            long gcTime = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                gcCount += Math.max(0, gc.getCollectionCount());
+                gcTime += Math.max(0, gc.getCollectionTime());
+            }
+            sample[Metric.GC_COUNT.ordinal()] = gcCount - lastGcCount;
+            sample[Metric.GC_TIME.ordinal()] = gcTime - lastGcTime;
+            lastGcCount = gcCount;
+            lastGcTime = gcTime;
+
+            synchronized (MetricsHistory.class) {
+                rings.get(Resolution.SECOND).put(now, sample);
+                accumulateMinute(now / 60, sample, hits, lookups);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("[METRICS] Sample failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Fold a per-second sample into the current minute, flushing the previous one when
+     * the minute changes: gauges are averaged, counts summed, percentiles recomputed
+     */
+    private static void accumulateMinute(long bucket, double[] sample, long hits, long lookups) {
+        if (bucket != minuteBucket) {
+            if (minuteBucket >= 0) {
+                flushMinute();
+            }
+            minuteBucket = bucket;
+            Arrays.fill(minuteSums, 0);
+            Arrays.fill(minuteSamples, 0);
+            minuteCacheHits = 0;
+            minuteCacheLookups = 0;
+        }
+        for (Metric metric : Metric.values()) {
+            double value = sample[metric.ordinal()];
+            if (!Double.isNaN(value)) {
+                minuteSums[metric.ordinal()] += value;
+                minuteSamples[metric.ordinal()]++;
+            }
+        }
+        minuteCacheHits += hits;
+        minuteCacheLookups += lookups;
+    }
+
+    private static void flushMinute() {
+        double[] minute = new double[Metric.values().length];
+        for (Metric metric : Metric.values()) {
+            int n = minuteSamples[metric.ordinal()];
+            double sum = minuteSums[metric.ordinal()];
+            boolean counter = metric == Metric.GC_COUNT || metric == Metric.GC_TIME;
+            minute[metric.ordinal()] = n == 0 ? Double.NaN : counter ? sum : sum / n;
+        }
+        double[] latency = minuteLatencies.drain();
+        minute[Metric.LATENCY_P50.ordinal()] = latency[0];
+        minute[Metric.LATENCY_P95.ordinal()] = latency[1];
+        minute[Metric.LATENCY_P99.ordinal()] = latency[2];
+        minute[Metric.OPERATIONS.ordinal()] = latency[3];
+        minute[Metric.CACHE_HIT_RATE.ordinal()] = minuteCacheLookups > 0
+            ? (double) minuteCacheHits / minuteCacheLookups * 100 : Double.NaN;
+        rings.get(Resolution.MINUTE).put(minuteBucket, minute);
+    }
+
+    private static long currentBucket(Resolution resolution) {
+        return System.currentTimeMillis() / 1000 / resolution.seconds;
+    }
+
+    /**
+     * A metric's history, oldest first, one value per bucket; NaN where nothing was recorded
+     */
+    public static synchronized double[] series(Metric metric, Resolution resolution) {
+        Ring ring = rings.get(resolution);
+        // The current minute is still accumulating, so per-minute history ends at the previous one
+        long last = currentBucket(resolution) - (resolution == Resolution.MINUTE ? 1 : 0);
+        double[] values = new double[resolution.capacity];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = ring.get(last - (values.length - 1 - i), metric);
+        }
+        return values;
+    }
+
+    /**
+     * Most recent value of a series, or NaN
+     */
+    public static double latest(Metric metric, Resolution resolution) {
+        double[] values = series(metric, resolution);
+        for (int i = values.length - 1; i >= 0; i--) {
+            if (!Double.isNaN(values[i])) return values[i];
+        }
+        return Double.NaN;
+    }
+
+    private static Path metricsDirectory() {
+        String configured = System.getProperty("moodflix.metrics.dir");
+        if (configured != null && !configured.isBlank()) {
+            return Paths.get(configured);
+        }
+        return Paths.get(System.getProperty("user.home"), ".moodflix", "metrics");
+    }
+
+    /**
+     * Write both resolutions as CSV (one row per recorded bucket); returns the file
+     */
+    public static Path dump() throws IOException {
+        Path directory = metricsDirectory();
+        Files.createDirectories(directory);
+        Path file = directory.resolve("metrics-"
+            + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".csv");
+
+        DateTimeFormatter timestamp = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+        int rows = 0;
+        try (Writer out = Files.newBufferedWriter(file)) {
+            out.write("resolution,timestamp");
+            for (Metric metric : Metric.values()) {
+                out.write("," + metric.key);
+            }
+            out.write("\n");
+            synchronized (MetricsHistory.class) {
+                for (Resolution resolution : Resolution.values()) {
+                    Ring ring = rings.get(resolution);
+                    long last = currentBucket(resolution);
+                    for (long bucket = last - resolution.capacity + 1; bucket <= last; bucket++) {
+                        int slot = (int) (bucket % resolution.capacity);
+                        if (ring.stamps[slot] != bucket) continue;
+                        LocalDateTime time = LocalDateTime.ofInstant(
+                            Instant.ofEpochSecond(bucket * resolution.seconds), ZoneId.systemDefault());
+                        StringBuilder row = new StringBuilder(resolution.name().toLowerCase())
+                            .append(',').append(time.format(timestamp));
+                        for (Metric metric : Metric.values()) {
+                            double value = ring.values[slot][metric.ordinal()];
+                            row.append(',');
+                            if (!Double.isNaN(value)) row.append(String.format(Locale.ROOT, "%.2f", value));
+                        }
+                        out.write(row.append('\n').toString());
+                        rows++;
+                    }
+                }
+            }
+        }
+        System.out.println("[METRICS] Dumped " + rows + " rows to " + file);
+        return file;
+    }
+}
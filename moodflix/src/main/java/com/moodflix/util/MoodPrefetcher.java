@@ -0,0 +1,234 @@
+package com.moodflix.util;
+
+import com.moodflix.database.DatabaseConfig;
+import com.moodflix.database.Workload;
+import com.moodflix.model.Content;
+import com.moodflix.model.MoodEntry;
+import com.moodflix.service.PostgreSQLContentService;
+import com.moodflix.service.PostgreSQLDatabaseService;
+import javafx.scene.image.Image;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Speculative prefetch of mood recommendations. When the dashboard opens, the moods
+ * the user is likely to pick (from their mood history and the time of day) are queried
+ * on the background lane along with their first posters, so the first mood click can
+ * be answered without a round trip. Everything is dropped on logout.
+ */
+public class MoodPrefetcher {
+
+    private static final int POSTERS_PER_MOOD = 3;
+    private static final int MAX_POSTERS = 64;
+
+    private static final Map<String, Prefetched> results = new ConcurrentHashMap<>();
+    private static final Map<String, Image> posters = new LinkedHashMap<>(32, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Image> eldest) {
+            return size() > MAX_POSTERS;
+        }
+    };
+    private static final AtomicLong generation = new AtomicLong(0);
+    private static volatile String sessionEmail;
+
+    // Metrics
+    private static final AtomicInteger moodsPrefetched = new AtomicInteger(0);
+    private static final AtomicInteger postersPrefetched = new AtomicInteger(0);
+    private static final AtomicInteger instantHits = new AtomicInteger(0);
+    private static final AtomicInteger inFlightHits = new AtomicInteger(0);
+    private static final AtomicInteger misses = new AtomicInteger(0);
+
+    private static final PostgreSQLDatabaseService databaseService = new PostgreSQLDatabaseService();
+    private static final PostgreSQLContentService contentService = new PostgreSQLContentService();
+
+    private static class Prefetched {
+        final CompletableFuture<List<Content>> future;
+        final long timestamp;
+
+        Prefetched(CompletableFuture<List<Content>> future) {
+            this.future = future;
+            this.timestamp = System.currentTimeMillis();
+        }
+
+        boolean isUsable() {
+            return !future.isCompletedExceptionally() && !future.isCancelled()
+                && (System.currentTimeMillis() - timestamp) <= AppConfig.CACHE_CONTENT_TTL_MS.get();
+        }
+    }
+
+    /**
+     * Predict and prefetch the user's likely moods; returns immediately
+     */
+    public static void prefetchFor(String email) {
+        int count = AppConfig.MOOD_PREFETCH_COUNT.get();
+        if (email == null || count <= 0 || IdleMode.isIdle()) return;
+        if (!email.equals(sessionEmail)) {
+            clear();
+            sessionEmail = email;
+        }
+        long started = generation.get();
+
+        AppExecutors.supplyAsync(AppExecutors.Lane.BACKGROUND_PREFETCH, () -> {
+            try {
+                return databaseService.getLikelyMoods(email, LocalTime.now().getHour(), count);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }).thenAccept(moods -> {
+            for (String mood : moods) {
+                prefetchMood(mood, started);
+            }
+        }).exceptionally(error -> {
+            Throwable cause = error.getCause() != null ? error.getCause() : error;
+            System.err.println("[PREFETCH] Mood prediction skipped: " + cause.getMessage());
+            return null;
+        });
+    }
+
+    private static void prefetchMood(String mood, long started) {
+        if (started != generation.get()) return;
+        Prefetched existing = results.get(mood);
+        if (existing != null && existing.isUsable()) return;
+
+        CompletableFuture<List<Content>> future = AppExecutors.supplyAsync(AppExecutors.Lane.BACKGROUND_PREFETCH, () -> {
+            try {
+                return contentService.getFilteredContentList(mood, null);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Prefetched entry = new Prefetched(future);
+        results.put(mood, entry);
+        moodsPrefetched.incrementAndGet();
+        System.out.println("[PREFETCH] Prefetching " + mood + " recommendations");
+
+        future.whenComplete((contents, error) -> {
+            if (error != null) {
+                results.remove(mood, entry);
+            } else {
+                prefetchPosters(contents, started);
+            }
+        });
+    }
+
+    /**
+     * Start decoding the first posters of a result page in the background
+     */
+    private static void prefetchPosters(List<Content> contents, long started) {
+        int count = 0;
+        for (Content content : contents) {
+            if (count >= POSTERS_PER_MOOD || started != generation.get()) break;
+            String url = content.getImageUrl();
+            if (url == null || url.isEmpty()) continue;
+            synchronized (posters) {
+                if (!posters.containsKey(url)) {
+                    try {
+                        // Same size and smoothing as the recommendation grid
+                        posters.put(url, new Image(url, 120, 160, true, true, true));
+                        postersPrefetched.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        // Not a loadable URL; the grid shows its placeholder, the results stay
+                        System.err.println("[PREFETCH] Skipping poster " + url + ": " + e.getMessage());
+                    }
+                }
+            }
+            count++;
+        }
+    }
+
+    /**
+     * Prefetched results for a mood: completed (served instantly), still loading
+     * (the click waits on it instead of querying again), or null on a miss
+     */
+    public static CompletableFuture<List<Content>> lookup(String email, String mood) {
+        Prefetched entry = (email != null && email.equals(sessionEmail)) ? results.get(mood) : null;
+        if (entry == null || !entry.isUsable()) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (entry.future.isDone()) {
+            instantHits.incrementAndGet();
+        } else {
+            inFlightHits.incrementAndGet();
+        }
+        return entry.future;
+    }
+
+    /**
+     * Poster decoded ahead of time, or null
+     */
+    public static Image cachedPoster(String url) {
+        if (url == null) return null;
+        synchronized (posters) {
+            return posters.get(url);
+        }
+    }
+
+    /**
+     * Append the pick to mood_entries so future predictions learn from it. The write
+     * must not be dropped like a prefetch, so it queues on the DB lane but borrows from
+     * the background pool, since nothing waits on it
+     */
+    public static void recordMoodPick(String email, String mood) {
+        if (email == null || mood == null) return;
+        AppExecutors.execute(AppExecutors.Lane.INTERACTIVE_DB, () ->
+            DatabaseConfig.runWithWorkload(Workload.BACKGROUND, () -> {
+                try {
+                    databaseService.addMoodEntry(new MoodEntry(mood, Timestamp.valueOf(LocalDateTime.now()).toString()), email);
+                } catch (Exception e) {
+                    System.err.println("[PREFETCH] Could not record mood pick: " + e.getMessage());
+                }
+            }));
+    }
+
+    /**
+     * Drop the session's prefetched results and posters; called on logout
+     */
+    public static void clear() {
+        generation.incrementAndGet();
+        results.clear();
+        synchronized (posters) {
+            posters.clear();
+        }
+        sessionEmail = null;
+    }
+
+    /**
+     * Get mood prefetch statistics
+     */
+    public static String getPrefetchStats() {
+        int instant = instantHits.get();
+        int inFlight = inFlightHits.get();
+        int missed = misses.get();
+        int clicks = instant + inFlight + missed;
+        int cachedPosters;
+        synchronized (posters) {
+            cachedPosters = posters.size();
+        }
+
+        return String.format(
+            "Mood Prefetch:\n" +
+            "- Mood Clicks: %d\n" +
+            "- Served Instantly: %d (%.1f%%)\n" +
+            "- Joined In-Flight Prefetch: %d\n" +
+            "- Misses: %d\n" +
+            "- Moods Prefetched: %d (%d cached)\n" +
+            "- Posters Prefetched: %d (%d cached)",
+            clicks,
+            instant, clicks > 0 ? (double) instant / clicks * 100 : 0,
+            inFlight,
+            missed,
+            moodsPrefetched.get(), results.size(),
+            postersPrefetched.get(), cachedPosters
+        );
+    }
+}
@@ -5,71 +5,46 @@ import com.moodflix.view.AdminDashboard;
 import com.moodflix.controller.UserDashboardController;
 import com.moodflix.controller.AdminDashboardController;
 import javafx.scene.Scene;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Navigation cache to store dashboard instances and avoid recreation
+ * Navigation cache to store dashboard instances and avoid recreation;
+ * scenes are held by SceneLifecycleManager
  */
 public class NavigationCache {
     
-    private static final ConcurrentHashMap<String, CachedDashboard> dashboardCache = new ConcurrentHashMap<>();
-    private static final long CACHE_TTL_MS = 10 * 60 * 1000; // 10 minutes
-    
-    private static class CachedDashboard {
-        final Scene scene;
-        final long timestamp;
-        final String userEmail;
-        
-        CachedDashboard(Scene scene, String userEmail) {
-            this.scene = scene;
-            this.timestamp = System.currentTimeMillis();
-            this.userEmail = userEmail;
-        }
-        
-        boolean isExpired() {
-            return (System.currentTimeMillis() - timestamp) > CACHE_TTL_MS;
-        }
-        
-        boolean isForUser(String email) {
-            return userEmail != null && userEmail.equals(email);
-        }
-    }
-    
     /**
      * Get cached user dashboard or create new one
      */
     public static Scene getUserDashboardScene(String userEmail) {
-        String cacheKey = "user_dashboard_" + userEmail;
-        CachedDashboard cached = dashboardCache.get(cacheKey);
+        return getUserDashboardScene(userEmail, null);
+    }
+    
+    /**
+     * Get cached user dashboard, or wire a controller onto a view built ahead of
+     * time (login pre-warm); a null view is built here
+     */
+    public static Scene getUserDashboardScene(String userEmail, UserDashboard prebuilt) {
+        String cacheKey = SceneLifecycleManager.dashboardKey(userEmail, "user");
+        Scene cached = SceneLifecycleManager.get(cacheKey);
         
-        if (cached != null && !cached.isExpired() && cached.isForUser(userEmail)) {
+        if (cached != null) {
             System.out.println("[NAV-CACHE] Returning cached user dashboard for: " + userEmail);
-            return cached.scene;
+            return cached;
         }
         
         // Create new dashboard
         System.out.println("[NAV-CACHE] Creating new user dashboard for: " + userEmail);
         long startTime = System.currentTimeMillis();
         
-        // Get HostServices safely
-        javafx.application.HostServices hostServices = com.moodflix.Main.getAppHostServices();
-        UserDashboard userDashboard;
-        
-        if (hostServices != null) {
-            userDashboard = new UserDashboard(hostServices);
-        } else {
-            System.out.println("[NAV-CACHE] HostServices is null, creating dashboard without it");
-            userDashboard = new UserDashboard(); // Uses default constructor with null HostServices
-        }
-        
-        UserDashboardController userController = new UserDashboardController(userDashboard);
+        UserDashboard userDashboard = prebuilt != null ? prebuilt : createUserDashboardView();
+        UserDashboardController userController = new UserDashboardController(userDashboard, userEmail);
         Scene scene = new Scene(userDashboard.getView(), 1200, 800);
         
         long endTime = System.currentTimeMillis();
         System.out.println("[NAV-CACHE] User dashboard creation took: " + (endTime - startTime) + "ms");
         
         // Cache the new dashboard
-        dashboardCache.put(cacheKey, new CachedDashboard(scene, userEmail));
+        SceneLifecycleManager.put(cacheKey, scene, userEmail, SceneLifecycleManager.Priority.DASHBOARD);
         
         return scene;
     }
@@ -78,31 +53,51 @@ public class NavigationCache {
      * Get cached admin dashboard or create new one
      */
     public static Scene getAdminDashboardScene(String adminEmail) {
-        String cacheKey = "admin_dashboard_" + adminEmail;
-        CachedDashboard cached = dashboardCache.get(cacheKey);
+        return getAdminDashboardScene(adminEmail, null);
+    }
+    
+    /**
+     * Get cached admin dashboard, or wire a controller onto a view built ahead of time
+     */
+    public static Scene getAdminDashboardScene(String adminEmail, AdminDashboard prebuilt) {
+        String cacheKey = SceneLifecycleManager.dashboardKey(adminEmail, "admin");
+        Scene cached = SceneLifecycleManager.get(cacheKey);
         
-        if (cached != null && !cached.isExpired() && cached.isForUser(adminEmail)) {
+        if (cached != null) {
             System.out.println("[NAV-CACHE] Returning cached admin dashboard for: " + adminEmail);
-            return cached.scene;
+            return cached;
         }
         
         // Create new dashboard
         System.out.println("[NAV-CACHE] Creating new admin dashboard for: " + adminEmail);
         long startTime = System.currentTimeMillis();
         
-        AdminDashboard adminDashboard = new AdminDashboard();
-        AdminDashboardController adminController = new AdminDashboardController(adminDashboard);
+        AdminDashboard adminDashboard = prebuilt != null ? prebuilt : new AdminDashboard();
+        AdminDashboardController adminController = new AdminDashboardController(adminDashboard, adminEmail);
         Scene scene = new Scene(adminDashboard.getView(), 1200, 800);
         
         long endTime = System.currentTimeMillis();
         System.out.println("[NAV-CACHE] Admin dashboard creation took: " + (endTime - startTime) + "ms");
         
         // Cache the new dashboard
-        dashboardCache.put(cacheKey, new CachedDashboard(scene, adminEmail));
+        SceneLifecycleManager.put(cacheKey, scene, adminEmail, SceneLifecycleManager.Priority.DASHBOARD);
         
         return scene;
     }
     
+    /**
+     * Build the user dashboard view only; no controller, so nothing is loaded
+     */
+    public static UserDashboard createUserDashboardView() {
+        // Get HostServices safely
+        javafx.application.HostServices hostServices = com.moodflix.Main.getAppHostServices();
+        if (hostServices != null) {
+            return new UserDashboard(hostServices);
+        }
+        System.out.println("[NAV-CACHE] HostServices is null, creating dashboard without it");
+        return new UserDashboard(); // Uses default constructor with null HostServices
+    }
+    
     /**
      * Get appropriate dashboard based on user role
      */
@@ -118,8 +113,7 @@ public class NavigationCache {
      * Clear cache for specific user
      */
     public static void clearUserCache(String userEmail) {
-        dashboardCache.remove("user_dashboard_" + userEmail);
-        dashboardCache.remove("admin_dashboard_" + userEmail);
+        SceneLifecycleManager.purgeOwner(userEmail);
         System.out.println("[NAV-CACHE] Cleared cache for user: " + userEmail);
     }
     
@@ -127,7 +121,7 @@ public class NavigationCache {
      * Clear all cache
      */
     public static void clearAllCache() {
-        dashboardCache.clear();
+        SceneLifecycleManager.purgeAll();
         System.out.println("[NAV-CACHE] Cleared all navigation cache");
     }
     
@@ -135,23 +129,14 @@ public class NavigationCache {
      * Get cache statistics
      */
     public static String getCacheStats() {
-        int totalCached = dashboardCache.size();
-        int expiredCount = 0;
-        
-        for (CachedDashboard cached : dashboardCache.values()) {
-            if (cached.isExpired()) {
-                expiredCount++;
-            }
-        }
-        
-        return String.format("Navigation Cache - Total: %d, Expired: %d, Active: %d", 
-                           totalCached, expiredCount, totalCached - expiredCount);
+        return String.format("Navigation Cache - Dashboards: %d",
+                           SceneLifecycleManager.count(SceneLifecycleManager.Priority.DASHBOARD));
     }
     
     /**
      * Clean up expired entries
      */
     public static void cleanupExpired() {
-        dashboardCache.entrySet().removeIf(entry -> entry.getValue().isExpired());
+        SceneLifecycleManager.cleanupExpired();
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
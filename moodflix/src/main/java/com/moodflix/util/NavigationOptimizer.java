@@ -14,8 +14,7 @@ import com.moodflix.Main;
  */
 public class NavigationOptimizer {
     
-    // Preloaded scenes cache
-    private static final Map<String, Scene> preloadedScenes = new ConcurrentHashMap<>();
+    // Preloaded scenes live in SceneLifecycleManager; these are the ones still building, by page key
     private static final Map<String, CompletableFuture<Scene>> loadingScenes = new ConcurrentHashMap<>();
     
     // Navigation metrics
@@ -23,40 +22,11 @@ public class NavigationOptimizer {
     private static final AtomicInteger preloadedNavigations = new AtomicInteger(0);
     private static final AtomicInteger slowNavigations = new AtomicInteger(0);
     
-    // Thread pool for background loading
-    private static final ExecutorService navigationExecutor = Executors.newFixedThreadPool(4);
-    
-    // Preload prediction based on user behavior
-    private static final Map<String, String[]> likelyNextPages = new ConcurrentHashMap<>();
-    
-    static {
-        initializePredictions();
-    }
-    
-    /**
-     * Initialize navigation predictions based on common user flows
-     */
-    private static void initializePredictions() {
-        // User dashboard likely next pages
-        likelyNextPages.put("UserDashboard", new String[]{
-            "ProfilePage", "WatchlistPage", "FeedbackPage", "ActivityHistoryPage"
-        });
-        
-        // Admin dashboard likely next pages
-        likelyNextPages.put("AdminDashboard", new String[]{
-            "AdminUserManagementPage", "AdminProfilePage", "UserStatsPage"
-        });
-        
-        // Profile page likely next pages
-        likelyNextPages.put("ProfilePage", new String[]{
-            "UserDashboard", "AdminDashboard"
-        });
-        
-        // Watchlist likely next pages
-        likelyNextPages.put("WatchlistPage", new String[]{
-            "UserDashboard", "ProfilePage"
-        });
-    }
+    // Predicted preloads not yet used: cache key -> page name
+    private static final Map<String, String> predictedPreloads = new ConcurrentHashMap<>();
+    private static final AtomicInteger predictedBuilds = new AtomicInteger(0);
+    private static final AtomicInteger predictionHits = new AtomicInteger(0);
+    private static final AtomicInteger wastedBuilds = new AtomicInteger(0);
     
     /**
      * Navigate instantly with preloaded scene or create new one
@@ -65,22 +35,39 @@ public class NavigationOptimizer {
         long startTime = System.currentTimeMillis();
         
         // Check if scene is preloaded
-        Scene preloadedScene = preloadedScenes.get(pageName);
+        Scene preloadedScene = SceneLifecycleManager.get(pageKey(pageName));
         if (preloadedScene != null) {
             Main.setScene(preloadedScene);
             instantNavigations.incrementAndGet();
+            if (predictedPreloads.remove(pageKey(pageName)) != null) {
+                predictionHits.incrementAndGet();
+            }
+            onPageShown(pageName);
             System.out.println("[NAV-OPT] Instant navigation to " + pageName + " (" + 
                 (System.currentTimeMillis() - startTime) + "ms)");
             return;
         }
         
         // Check if scene is currently loading
-        CompletableFuture<Scene> loadingScene = loadingScenes.get(pageName);
+        CompletableFuture<Scene> loadingScene = loadingScenes.get(pageKey(pageName));
         if (loadingScene != null && !loadingScene.isDone()) {
-            loadingScene.thenAccept(scene -> {
+            long generation = SceneLifecycleManager.generation();
+            loadingScene.whenComplete((scene, error) -> {
                 Platform.runLater(() -> {
+                    if (generation != SceneLifecycleManager.generation()) {
+                        return; // Logged out while the page was building
+                    }
+                    if (error != null) {
+                        // Preload failed or was dropped by the prefetch lane; build it now
+                        navigateInstantly(pageName, sceneCreator);
+                        return;
+                    }
                     Main.setScene(scene);
                     preloadedNavigations.incrementAndGet();
+                    if (predictedPreloads.remove(pageKey(pageName)) != null) {
+                        predictionHits.incrementAndGet();
+                    }
+                    onPageShown(pageName);
                     System.out.println("[NAV-OPT] Preloaded navigation to " + pageName + " (" + 
                         (System.currentTimeMillis() - startTime) + "ms)");
                 });
@@ -96,8 +83,8 @@ public class NavigationOptimizer {
             System.out.println("[NAV-OPT] Slow navigation to " + pageName + " (" + 
                 (System.currentTimeMillis() - startTime) + "ms)");
             
-            // Preload likely next pages
-            preloadLikelyPages(pageName);
+            // Learn the transition and preload likely next pages
+            onPageShown(pageName);
             
         } catch (Exception e) {
             System.err.println("[NAV-OPT] Navigation failed to " + pageName + ": " + e.getMessage());
@@ -106,40 +93,75 @@ public class NavigationOptimizer {
     }
     
     /**
-     * Preload a specific page in background
+     * Record that a page is now showing and preload the pages the navigation model
+     * predicts will follow it. Dashboards call this too so their transitions are learned.
+     */
+    public static void onPageShown(String pageName) {
+        NavigationPredictor.recordNavigation(pageName);
+        preloadLikelyPages(pageName);
+    }
+    
+    /**
+     * Preload a specific page in background; returns false if already loaded or loading
      */
-    public static void preloadPage(String pageName, Supplier<Scene> sceneCreator) {
-        if (preloadedScenes.containsKey(pageName) || loadingScenes.containsKey(pageName)) {
-            return; // Already loading or loaded
+    public static boolean preloadPage(String pageName, Supplier<Scene> sceneCreator) {
+        String owner = SessionManager.getEmail();
+        String key = pageKey(pageName);
+        // A failed or dropped preload doesn't block the next attempt
+        loadingScenes.computeIfPresent(key, (k, loading) -> loading.isCompletedExceptionally() ? null : loading);
+        if (SceneLifecycleManager.contains(key) || loadingScenes.containsKey(key)) {
+            return false; // Already loading or loaded
         }
         
-        CompletableFuture<Scene> future = CompletableFuture.supplyAsync(() -> {
+        long generation = SceneLifecycleManager.generation();
+        CompletableFuture<Scene> future = AppExecutors.supplyAsync(AppExecutors.Lane.BACKGROUND_PREFETCH, () -> {
             try {
                 System.out.println("[NAV-OPT] Preloading " + pageName + "...");
                 Scene scene = sceneCreator.get();
-                preloadedScenes.put(pageName, scene);
-                loadingScenes.remove(pageName);
+                SceneLifecycleManager.put(key, scene, owner, SceneLifecycleManager.Priority.PREFETCH, generation);
                 System.out.println("[NAV-OPT] " + pageName + " preloaded successfully");
                 return scene;
             } catch (Exception e) {
                 System.err.println("[NAV-OPT] Failed to preload " + pageName + ": " + e.getMessage());
-                loadingScenes.remove(pageName);
                 throw e;
             }
-        }, navigationExecutor);
+        });
         
-        loadingScenes.put(pageName, future);
+        loadingScenes.put(key, future);
+        // Registered after put so a preload that already finished still leaves the map
+        future.whenComplete((scene, error) -> {
+            loadingScenes.remove(key, future);
+            if (error != null) {
+                predictedPreloads.remove(key);
+            }
+        });
+        return true;
+    }
+    
+    /**
+     * Preloaded pages are per user so one user's page is never shown to the next
+     */
+    private static String pageKey(String pageName) {
+        return "page_" + pageName + "_" + SessionManager.getEmail();
     }
     
     /**
      * Preload likely next pages based on current page
      */
     private static void preloadLikelyPages(String currentPage) {
-        String[] likelyPages = likelyNextPages.get(currentPage);
-        if (likelyPages == null) return;
+        String email = SessionManager.getEmail();
+        if (email == null) return;
         
-        for (String pageName : likelyPages) {
-            preloadPage(pageName, () -> createSceneForPage(pageName));
+        for (String pageName : NavigationPredictor.predictNext(currentPage)) {
+            if (pageName.endsWith("Dashboard")) {
+                // Dashboards are built and kept by back navigation
+                BackNavigationOptimizer.preloadDashboard(email, "AdminDashboard".equals(pageName) ? "admin" : "user");
+                continue;
+            }
+            if (preloadPage(pageName, () -> createSceneForPage(pageName))) {
+                predictedPreloads.put(pageKey(pageName), pageName);
+                predictedBuilds.incrementAndGet();
+            }
         }
     }
     
@@ -199,6 +221,15 @@ public class NavigationOptimizer {
      * Get navigation statistics
      */
     public static String getNavigationStats() {
+        // A predicted page that left the cache without ever being opened was wasted work
+        predictedPreloads.entrySet().removeIf(entry -> {
+            boolean dropped = !SceneLifecycleManager.contains(entry.getKey()) && !loadingScenes.containsKey(entry.getKey());
+            if (dropped) wastedBuilds.incrementAndGet();
+            return dropped;
+        });
+        int builds = predictedBuilds.get();
+        int hits = predictionHits.get();
+        
         int instant = instantNavigations.get();
         int preloaded = preloadedNavigations.get();
         int slow = slowNavigations.get();
@@ -214,22 +245,27 @@ public class NavigationOptimizer {
             "- Slow Navigations: %d (%.1f%%)\n" +
             "- Total Navigations: %d\n" +
             "- Preloaded Scenes: %d\n" +
-            "- Loading Scenes: %d",
+            "- Loading Scenes: %d\n" +
+            "- Predicted Preloads: %d (hit rate %.1f%%, wasted %d, pending %d)\n" +
+            "%s",
             instant, instantRate,
             preloaded, preloadedRate,
             slow, total > 0 ? (double) slow / total * 100 : 0,
             total,
-            preloadedScenes.size(),
-            loadingScenes.size()
+            SceneLifecycleManager.count(SceneLifecycleManager.Priority.PREFETCH),
+            loadingScenes.size(),
+            builds, builds > 0 ? (double) hits / builds * 100 : 0, wastedBuilds.get(), predictedPreloads.size(),
+            NavigationPredictor.getPredictorStats()
         );
     }
     
     /**
-     * Clear all preloaded scenes
+     * Clear all preloaded scenes, including ones still building; called on logout
      */
     public static void clearPreloadedScenes() {
-        preloadedScenes.clear();
+        SceneLifecycleManager.purge(SceneLifecycleManager.Priority.PREFETCH);
         loadingScenes.clear();
+        predictedPreloads.clear();
         System.out.println("[NAV-OPT] All preloaded scenes cleared");
     }
     
@@ -237,23 +273,8 @@ public class NavigationOptimizer {
      * Clear specific preloaded scene
      */
     public static void clearPreloadedScene(String pageName) {
-        preloadedScenes.remove(pageName);
-        loadingScenes.remove(pageName);
+        SceneLifecycleManager.remove(pageKey(pageName));
+        loadingScenes.remove(pageKey(pageName));
         System.out.println("[NAV-OPT] Preloaded scene cleared: " + pageName);
     }
-    
-    /**
-     * Shutdown navigation executor
-     */
-    public static void shutdown() {
-        navigationExecutor.shutdown();
-        try {
-            if (!navigationExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
-                navigationExecutor.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            navigationExecutor.shutdownNow();
-            Thread.currentThread().interrupt();
-        }
-    }
 } 
\ No newline at end of file
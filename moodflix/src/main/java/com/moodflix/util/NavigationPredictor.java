@@ -0,0 +1,225 @@
+package com.moodflix.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First-order Markov model of page transitions, kept separately per role and
+ * persisted to ~/.moodflix/navigation-model.properties (-Dmoodflix.navigation.model
+ * overrides). Predicts which pages are worth preloading from the current one, but
+ * only when the machine has CPU and heap to spare.
+ */
+public class NavigationPredictor {
+
+    // Halve a page's counts past this many observations so the model keeps adapting
+    private static final int MAX_ROW_TOTAL = 1000;
+    private static final long SAVE_DELAY_SECONDS = 5;
+
+    // role -> from page -> to page -> count
+    private static final Map<String, Map<String, Map<String, Integer>>> transitions = new HashMap<>();
+    private static final OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+
+    private static String currentPage;
+    private static boolean saveScheduled = false;
+    private static long recorded = 0;
+    private static long skippedLowProbability = 0;
+    private static long skippedNoHeadroom = 0;
+
+    static {
+        load();
+    }
+
+    /**
+     * Record a navigation to page; returns the page navigated from, or null
+     */
+    public static synchronized String recordNavigation(String page) {
+        String previous = currentPage;
+        currentPage = page;
+        if (previous == null || previous.equals(page)) return previous;
+
+        Map<String, Integer> row = transitions
+            .computeIfAbsent(role(), r -> new HashMap<>())
+            .computeIfAbsent(previous, p -> new HashMap<>());
+        row.merge(page, 1, Integer::sum);
+        if (total(row) > MAX_ROW_TOTAL) {
+            row.replaceAll((to, count) -> count / 2);
+            row.values().removeIf(count -> count == 0);
+        }
+        recorded++;
+        scheduleSave();
+        return previous;
+    }
+
+    /**
+     * Pages likely to follow page, most likely first. Empty when no page clears the
+     * probability threshold or when CPU or heap headroom is too low for speculative work.
+     */
+    public static synchronized List<String> predictNext(String page) {
+        List<String> predicted = new ArrayList<>();
+        Map<String, Integer> row = transitions.getOrDefault(role(), Map.of()).get(page);
+        int total = row == null ? 0 : total(row);
+        if (total < AppConfig.NAVIGATION_PREFETCH_MIN_SAMPLES.get()) {
+            return predicted;
+        }
+
+        double threshold = AppConfig.NAVIGATION_PREFETCH_MIN_PROBABILITY_PERCENT.get() / 100.0;
+        for (Map.Entry<String, Integer> entry : row.entrySet()) {
+            if ((double) entry.getValue() / total >= threshold) {
+                predicted.add(entry.getKey());
+            } else {
+                skippedLowProbability++;
+            }
+        }
+        predicted.sort((a, b) -> row.get(b) - row.get(a));
+
+        if (!predicted.isEmpty() && !hasHeadroom()) {
+            skippedNoHeadroom += predicted.size();
+            predicted.clear();
+        }
+        return predicted;
+    }
+
+    /**
+     * Forget the current page (logout) without touching the learned model
+     */
+    public static synchronized void resetSession() {
+        currentPage = null;
+    }
+
+    private static boolean hasHeadroom() {
+        if (IdleMode.isIdle()) {
+            return false;
+        }
+        Runtime runtime = Runtime.getRuntime();
+        double heapUsed = (double) (runtime.totalMemory() - runtime.freeMemory()) / runtime.maxMemory() * 100;
+        if (heapUsed > AppConfig.NAVIGATION_PREFETCH_MAX_HEAP_PERCENT.get()) {
+            return false;
+        }
+        return cpuPercent() <= AppConfig.NAVIGATION_PREFETCH_MAX_CPU_PERCENT.get();
+    }
+
+    /**
+     * System CPU load in percent, or 0 if the platform doesn't report it
+     */
+    private static double cpuPercent() {
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            double load = ((com.sun.management.OperatingSystemMXBean) os).getCpuLoad();
+            if (load >= 0) return load * 100;
+        }
+        double loadAverage = os.getSystemLoadAverage();
+        return loadAverage >= 0 ? loadAverage / os.getAvailableProcessors() * 100 : 0;
+    }
+
+    private static String role() {
+        String role = SessionManager.getRole();
+        return "admin".equals(role) ? "admin" : "user";
+    }
+
+    private static int total(Map<String, Integer> row) {
+        int total = 0;
+        for (int count : row.values()) total += count;
+        return total;
+    }
+
+    private static Path modelFile() {
+        String configured = System.getProperty("moodflix.navigation.model");
+        if (configured != null && !configured.isBlank()) {
+            return Paths.get(configured);
+        }
+        return Paths.get(System.getProperty("user.home"), ".moodflix", "navigation-model.properties");
+    }
+
+    /**
+     * Load counts stored as role.from.to=count
+     */
+    private static synchronized void load() {
+        Path file = modelFile();
+        if (!Files.exists(file)) return;
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            System.err.println("[NAV-MODEL] Could not read " + file + ": " + e.getMessage());
+            return;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            String[] parts = key.split("\\.");
+            if (parts.length != 3) continue;
+            try {
+                int count = Integer.parseInt(properties.getProperty(key).trim());
+                if (count <= 0) continue;
+                transitions.computeIfAbsent(parts[0], r -> new HashMap<>())
+                    .computeIfAbsent(parts[1], p -> new HashMap<>())
+                    .put(parts[2], count);
+            } catch (NumberFormatException e) {
+                System.err.println("[NAV-MODEL] Ignoring " + key + ": not a count");
+            }
+        }
+        System.out.println("[NAV-MODEL] Loaded navigation model from " + file);
+    }
+
+    private static void scheduleSave() {
+        if (saveScheduled) return;
+        saveScheduled = true;
+        AppExecutors.scheduler().schedule(
+            () -> AppExecutors.execute(AppExecutors.Lane.IO, NavigationPredictor::save),
+            SAVE_DELAY_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private static void save() {
+        Properties properties = new Properties();
+        synchronized (NavigationPredictor.class) {
+            saveScheduled = false;
+            transitions.forEach((role, rows) -> rows.forEach((from, row) -> row.forEach(
+                (to, count) -> properties.setProperty(role + "." + from + "." + to, String.valueOf(count)))));
+        }
+
+        Path file = modelFile();
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, "MoodFlix navigation model: role.from.to=transition count");
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("[NAV-MODEL] Could not save " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Get prediction model statistics
+     */
+    public static synchronized String getPredictorStats() {
+        int pages = 0;
+        for (Map<String, Map<String, Integer>> rows : transitions.values()) {
+            pages += rows.size();
+        }
+        return String.format(
+            "Navigation Model:\n" +
+            "- Transitions Recorded: %d (%d source pages, %d roles)\n" +
+            "- Current Page: %s\n" +
+            "- Skipped (below %d%%): %d\n" +
+            "- Skipped (no headroom): %d",
+            recorded, pages, transitions.size(),
+            currentPage != null ? currentPage : "none",
+            AppConfig.NAVIGATION_PREFETCH_MIN_PROBABILITY_PERCENT.get(), skippedLowProbability,
+            skippedNoHeadroom
+        );
+    }
+}
@@ -0,0 +1,196 @@
+package com.moodflix.util;
+
+import org.mindrot.jbcrypt.BCrypt;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dedicated, bounded pool for BCrypt work so login bursts cannot starve DB-bound threads
+ */
+public class PasswordHasher {
+
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors();
+    private static final int MAX_QUEUE_DEPTH = POOL_SIZE * 4;
+    private static final long TARGET_HASH_MS = 250;
+    private static final int MIN_COST = 10;
+    private static final int MAX_COST = 14;
+
+    private static final ThreadPoolExecutor hashExecutor = new ThreadPoolExecutor(
+        POOL_SIZE, POOL_SIZE, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(MAX_QUEUE_DEPTH),
+        AppExecutors.threadFactory("hash", Thread.NORM_PRIORITY),
+        new ThreadPoolExecutor.AbortPolicy()
+    );
+
+    private static volatile int currentCost = MIN_COST;
+
+    private static final AtomicLong hashCount = new AtomicLong();
+    private static final AtomicLong totalQueueWaitMs = new AtomicLong();
+    private static final AtomicLong totalHashMs = new AtomicLong();
+    private static final AtomicLong maxQueueWaitMs = new AtomicLong();
+    private static final AtomicLong rejectedCount = new AtomicLong();
+    private static final AtomicLong rehashCount = new AtomicLong();
+
+    /**
+     * Pick the highest cost whose hash time stays within the target latency
+     */
+    public static void calibrate() {
+        int cost = MIN_COST;
+        for (int candidate = MIN_COST; candidate <= MAX_COST; candidate++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw("calibration-password", BCrypt.gensalt(candidate));
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            System.out.println("[HASH] Cost " + candidate + " took " + elapsedMs + "ms");
+            if (elapsedMs > TARGET_HASH_MS) {
+                break;
+            }
+            cost = candidate;
+            // Each step doubles the work, so stop before the next one overshoots
+            if (elapsedMs * 2 > TARGET_HASH_MS) {
+                break;
+            }
+        }
+        currentCost = cost;
+        System.out.println("[HASH] Calibrated BCrypt cost: " + cost + " (target " + TARGET_HASH_MS + "ms, pool " + POOL_SIZE + ")");
+    }
+
+    /**
+     * Calibrate on the hashing pool without blocking startup
+     */
+    public static void calibrateAsync() {
+        try {
+            hashExecutor.execute(PasswordHasher::calibrate);
+        } catch (RejectedExecutionException e) {
+            System.err.println("[HASH] Calibration skipped: " + e.getMessage());
+        }
+    }
+
+    public static CompletableFuture<String> hashAsync(String password) {
+        return submit(() -> BCrypt.hashpw(password, BCrypt.gensalt(currentCost)));
+    }
+
+    public static CompletableFuture<Boolean> verifyAsync(String password, String storedHash) {
+        return submit(() -> BCrypt.checkpw(password, storedHash));
+    }
+
+    public static String hash(String password) {
+        return await(hashAsync(password));
+    }
+
+    public static boolean verify(String password, String storedHash) {
+        return await(verifyAsync(password, storedHash));
+    }
+
+    /**
+     * True when the stored hash was produced with a lower cost than the calibrated one
+     */
+    public static boolean needsRehash(String storedHash) {
+        int cost = costOf(storedHash);
+        return cost > 0 && cost < currentCost;
+    }
+
+    public static int costOf(String storedHash) {
+        // BCrypt hashes look like $2a$10$...
+        if (storedHash == null || storedHash.length() < 7 || storedHash.charAt(0) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(storedHash.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    public static void recordRehash() {
+        rehashCount.incrementAndGet();
+    }
+
+    public static int getCurrentCost() {
+        return currentCost;
+    }
+
+    private static <T> CompletableFuture<T> submit(java.util.function.Supplier<T> work) {
+        long enqueuedAt = System.currentTimeMillis();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            hashExecutor.execute(() -> {
+                long startedAt = System.currentTimeMillis();
+                long queueWait = startedAt - enqueuedAt;
+                try {
+                    future.complete(work.get());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                } finally {
+                    long hashTime = System.currentTimeMillis() - startedAt;
+                    hashCount.incrementAndGet();
+                    totalQueueWaitMs.addAndGet(queueWait);
+                    totalHashMs.addAndGet(hashTime);
+                    maxQueueWaitMs.accumulateAndGet(queueWait, Math::max);
+                    PerformanceMonitor.recordOperation("hash_queue_wait", queueWait, true);
+                    PerformanceMonitor.recordOperation("hash_compute", hashTime, !future.isCompletedExceptionally());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            PerformanceMonitor.recordOperation("hash_compute", 0, false);
+            future.completeExceptionally(new RejectedExecutionException("Too many sign-in requests right now, please try again in a moment"));
+        }
+        return future;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    /**
+     * Get hashing statistics
+     */
+    public static String getHashingStats() {
+        long count = hashCount.get();
+        double avgWait = count > 0 ? (double) totalQueueWaitMs.get() / count : 0;
+        double avgHash = count > 0 ? (double) totalHashMs.get() / count : 0;
+        return String.format(
+            "Password Hashing:\n" +
+            "- Cost: %d, Pool: %d, Queue: %d/%d\n" +
+            "- Hashes: %d, Rejected: %d, Rehashed: %d\n" +
+            "- Avg Queue Wait: %.1fms (max %dms)\n" +
+            "- Avg Hash Time: %.1fms",
+            currentCost, POOL_SIZE, hashExecutor.getQueue().size(), MAX_QUEUE_DEPTH,
+            count, rejectedCount.get(), rehashCount.get(),
+            avgWait, maxQueueWaitMs.get(),
+            avgHash
+        );
+    }
+
+    /**
+     * Shutdown the hashing pool
+     */
+    public static void shutdown() {
+        hashExecutor.shutdown();
+        try {
+            if (!hashExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                hashExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            hashExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.moodflix.util;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import javafx.scene.text.Font;
@@ -13,6 +15,9 @@ import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.util.Duration;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * Performance monitoring dashboard for the Moodflix application
  */
@@ -25,6 +30,26 @@ public class PerformanceDashboard {
     private Label navigationStatsLabel;
     private Label clickStatsLabel;
     private Label backNavigationStatsLabel;
+    private Label executorStatsLabel;
+    private Label requestScopeStatsLabel;
+    private Label limiterStatsLabel;
+    private Label rateLimiterStatsLabel;
+    private Label replicaStatsLabel;
+    private Label poolStatsLabel;
+    private Label poolHealthLabel;
+    private Label renderingStatsLabel;
+    private Label snapshotStatsLabel;
+    private Label fxUpdateStatsLabel;
+    private Label idleStatsLabel;
+    private Label configStatsLabel;
+    private Label startupStatsLabel;
+    private Label sceneStatsLabel;
+    private Label prefetchStatsLabel;
+    private Label fxThreadStatsLabel;
+    private Label interactionStatsLabel;
+    private ChoiceBox<String> trendRange;
+    private final Map<MetricsHistory.Metric, Label> trendLabels = new EnumMap<>(MetricsHistory.Metric.class);
+    private final Map<MetricsHistory.Metric, Canvas> trendCharts = new EnumMap<>(MetricsHistory.Metric.class);
     private ProgressBar cacheHitRateBar;
     private ProgressBar httpSuccessRateBar;
     private ProgressBar navigationSuccessRateBar;
@@ -32,7 +57,20 @@ public class PerformanceDashboard {
     private Button refreshBtn;
     private Button clearCacheBtn;
     private Button clearConnectionsBtn;
+    private Button hotSpotsBtn;
+    private Button tracesBtn;
+    private Button dumpMetricsBtn;
+    private Button poolDumpBtn;
     private Timeline updateTimer;
+    // Stop polling while the app is idle, refresh at once on return
+    private final java.util.function.Consumer<Boolean> idleListener = idle -> {
+        if (idle) {
+            updateTimer.pause();
+        } else {
+            updateTimer.play();
+            updateStats();
+        }
+    };
     
     public PerformanceDashboard() {
         createView();
@@ -136,6 +174,182 @@ public class PerformanceDashboard {
         
         backNavigationBox.getChildren().addAll(backNavigationStatsLabel, backNavigationSuccessRateBar);
         
+        // Executor lane statistics
+        VBox executorBox = createStatBox("Executor Lanes", "🧵");
+        executorStatsLabel = new Label("Loading executor stats...");
+        executorStatsLabel.setFont(Font.font("Arial", 12));
+        executorStatsLabel.setTextFill(Color.LIGHTGRAY);
+        executorStatsLabel.setWrapText(true);
+        
+        executorBox.getChildren().add(executorStatsLabel);
+        
+        // Superseded / cancelled UI request statistics
+        VBox requestScopeBox = createStatBox("UI Requests", "🚫");
+        requestScopeStatsLabel = new Label("Loading request stats...");
+        requestScopeStatsLabel.setFont(Font.font("Arial", 12));
+        requestScopeStatsLabel.setTextFill(Color.LIGHTGRAY);
+        requestScopeStatsLabel.setWrapText(true);
+        
+        requestScopeBox.getChildren().add(requestScopeStatsLabel);
+        
+        // Adaptive DB concurrency limit
+        VBox limiterBox = createStatBox("DB Concurrency Limit", "🚦");
+        limiterStatsLabel = new Label("Loading limiter stats...");
+        limiterStatsLabel.setFont(Font.font("Arial", 12));
+        limiterStatsLabel.setTextFill(Color.LIGHTGRAY);
+        limiterStatsLabel.setWrapText(true);
+        
+        limiterBox.getChildren().add(limiterStatsLabel);
+        
+        // Per-user rate limits
+        VBox rateLimiterBox = createStatBox("Rate Limits", "⏱️");
+        rateLimiterStatsLabel = new Label("Loading rate limit stats...");
+        rateLimiterStatsLabel.setFont(Font.font("Arial", 12));
+        rateLimiterStatsLabel.setTextFill(Color.LIGHTGRAY);
+        rateLimiterStatsLabel.setWrapText(true);
+        
+        rateLimiterBox.getChildren().add(rateLimiterStatsLabel);
+        
+        // Read replica routing
+        VBox replicaBox = createStatBox("Read Replicas", "🗄️");
+        replicaStatsLabel = new Label("Loading replica stats...");
+        replicaStatsLabel.setFont(Font.font("Arial", 12));
+        replicaStatsLabel.setTextFill(Color.LIGHTGRAY);
+        replicaStatsLabel.setWrapText(true);
+        
+        replicaBox.getChildren().add(replicaStatsLabel);
+        
+        // Per-workload connection pools
+        VBox poolBox = createStatBox("Connection Pools", "🏊");
+        poolStatsLabel = new Label("Loading pool stats...");
+        poolStatsLabel.setFont(Font.font("Arial", 12));
+        poolStatsLabel.setTextFill(Color.LIGHTGRAY);
+        poolStatsLabel.setWrapText(true);
+        
+        poolBox.getChildren().add(poolStatsLabel);
+        
+        // Live pool state, acquire-time histogram and usage time from HikariCP
+        VBox poolHealthBox = createStatBox("Pool Health", "🩺");
+        poolHealthLabel = new Label("Loading pool health...");
+        poolHealthLabel.setFont(Font.font("Arial", 12));
+        poolHealthLabel.setTextFill(Color.LIGHTGRAY);
+        poolHealthLabel.setWrapText(true);
+        
+        poolHealthBox.getChildren().add(poolHealthLabel);
+        
+        // Frame pacing and whether effects have been degraded
+        VBox renderingBox = createStatBox("Rendering", "🖼️");
+        renderingStatsLabel = new Label("Loading rendering stats...");
+        renderingStatsLabel.setFont(Font.font("Arial", 12));
+        renderingStatsLabel.setTextFill(Color.LIGHTGRAY);
+        renderingStatsLabel.setWrapText(true);
+        
+        renderingBox.getChildren().add(renderingStatsLabel);
+        
+        // Grid cards drawn as snapshot images
+        VBox snapshotBox = createStatBox("Card Snapshots", "🃏");
+        snapshotStatsLabel = new Label("Loading snapshot stats...");
+        snapshotStatsLabel.setFont(Font.font("Arial", 12));
+        snapshotStatsLabel.setTextFill(Color.LIGHTGRAY);
+        snapshotStatsLabel.setWrapText(true);
+        
+        snapshotBox.getChildren().add(snapshotStatsLabel);
+        
+        // UI updates batched onto the FX thread
+        VBox fxUpdateBox = createStatBox("FX Updates", "📬");
+        fxUpdateStatsLabel = new Label("Loading FX update stats...");
+        fxUpdateStatsLabel.setFont(Font.font("Arial", 12));
+        fxUpdateStatsLabel.setTextFill(Color.LIGHTGRAY);
+        fxUpdateStatsLabel.setWrapText(true);
+        
+        fxUpdateBox.getChildren().add(fxUpdateStatsLabel);
+        
+        // Power saving while nobody is using the app
+        VBox idleBox = createStatBox("Idle Mode", "🌙");
+        idleStatsLabel = new Label("Loading idle stats...");
+        idleStatsLabel.setFont(Font.font("Arial", 12));
+        idleStatsLabel.setTextFill(Color.LIGHTGRAY);
+        idleStatsLabel.setWrapText(true);
+        
+        idleBox.getChildren().add(idleStatsLabel);
+        
+        // Effective configuration values
+        VBox configBox = createStatBox("Configuration", "⚙️");
+        configStatsLabel = new Label("Loading configuration...");
+        configStatsLabel.setFont(Font.font("Arial", 12));
+        configStatsLabel.setTextFill(Color.LIGHTGRAY);
+        configStatsLabel.setWrapText(true);
+        
+        configBox.getChildren().add(configStatsLabel);
+        
+        // Startup timings
+        VBox startupBox = createStatBox("Startup", "🚀");
+        startupStatsLabel = new Label("Loading startup stats...");
+        startupStatsLabel.setFont(Font.font("Arial", 12));
+        startupStatsLabel.setTextFill(Color.LIGHTGRAY);
+        startupStatsLabel.setWrapText(true);
+        
+        startupBox.getChildren().add(startupStatsLabel);
+        
+        // Cached scene graphs and their estimated memory
+        VBox sceneBox = createStatBox("Scene Cache", "🎞️");
+        sceneStatsLabel = new Label("Loading scene stats...");
+        sceneStatsLabel.setFont(Font.font("Arial", 12));
+        sceneStatsLabel.setTextFill(Color.LIGHTGRAY);
+        sceneStatsLabel.setWrapText(true);
+        
+        sceneBox.getChildren().add(sceneStatsLabel);
+        
+        // Speculative mood recommendation prefetch
+        VBox prefetchBox = createStatBox("Mood Prefetch", "🔮");
+        prefetchStatsLabel = new Label("Loading prefetch stats...");
+        prefetchStatsLabel.setFont(Font.font("Arial", 12));
+        prefetchStatsLabel.setTextFill(Color.LIGHTGRAY);
+        prefetchStatsLabel.setWrapText(true);
+        
+        prefetchBox.getChildren().add(prefetchStatsLabel);
+        
+        // FX thread stalls and blocking calls made on it
+        VBox fxThreadBox = createStatBox("FX Thread", "🧊");
+        fxThreadStatsLabel = new Label("Loading FX thread stats...");
+        fxThreadStatsLabel.setFont(Font.font("Arial", 12));
+        fxThreadStatsLabel.setTextFill(Color.LIGHTGRAY);
+        fxThreadStatsLabel.setWrapText(true);
+        
+        fxThreadBox.getChildren().add(fxThreadStatsLabel);
+        
+        // Click-to-frame latency of traced user actions
+        VBox interactionBox = createStatBox("Interactions", "⏱️");
+        interactionStatsLabel = new Label("Loading interaction stats...");
+        interactionStatsLabel.setFont(Font.font("Arial", 12));
+        interactionStatsLabel.setTextFill(Color.LIGHTGRAY);
+        interactionStatsLabel.setWrapText(true);
+        
+        interactionBox.getChildren().add(interactionStatsLabel);
+        
+        // Sparklines of recent metric history, so past spikes stay visible
+        VBox trendsBox = createStatBox("Trends", "📈");
+        trendRange = new ChoiceBox<>();
+        trendRange.getItems().addAll("Last 5 minutes", "Last 3 hours");
+        trendRange.getSelectionModel().selectFirst();
+        trendRange.setOnAction(e -> updateTrends());
+        trendsBox.getChildren().add(trendRange);
+        for (MetricsHistory.Metric metric : new MetricsHistory.Metric[] {
+                MetricsHistory.Metric.LATENCY_P95, MetricsHistory.Metric.POOL_USAGE,
+                MetricsHistory.Metric.CACHE_HIT_RATE, MetricsHistory.Metric.HEAP_USED,
+                MetricsHistory.Metric.GC_TIME }) {
+            Label trendLabel = new Label(metric.label);
+            trendLabel.setFont(Font.font("Arial", 11));
+            trendLabel.setTextFill(Color.LIGHTGRAY);
+            trendLabel.setPrefWidth(120);
+            Canvas chart = new Canvas(140, 20);
+            HBox row = new HBox(8, trendLabel, chart);
+            row.setAlignment(Pos.CENTER_LEFT);
+            trendLabels.put(metric, trendLabel);
+            trendCharts.put(metric, chart);
+            trendsBox.getChildren().add(row);
+        }
+        
         // Add to grid
         statsGrid.add(cacheBox, 0, 0);
         statsGrid.add(httpBox, 1, 0);
@@ -144,6 +358,24 @@ public class PerformanceDashboard {
         statsGrid.add(navigationBox, 0, 2);
         statsGrid.add(clickBox, 1, 2);
         statsGrid.add(backNavigationBox, 0, 3);
+        statsGrid.add(executorBox, 1, 3);
+        statsGrid.add(requestScopeBox, 0, 4);
+        statsGrid.add(limiterBox, 1, 4);
+        statsGrid.add(rateLimiterBox, 0, 5);
+        statsGrid.add(replicaBox, 1, 5);
+        statsGrid.add(poolBox, 0, 6);
+        statsGrid.add(configBox, 1, 6);
+        statsGrid.add(startupBox, 0, 7);
+        statsGrid.add(sceneBox, 1, 7);
+        statsGrid.add(prefetchBox, 0, 8);
+        statsGrid.add(fxThreadBox, 1, 8);
+        statsGrid.add(interactionBox, 0, 9);
+        statsGrid.add(trendsBox, 1, 9);
+        statsGrid.add(poolHealthBox, 0, 10);
+        statsGrid.add(renderingBox, 1, 10);
+        statsGrid.add(snapshotBox, 0, 11);
+        statsGrid.add(fxUpdateBox, 1, 11);
+        statsGrid.add(idleBox, 0, 12);
         
         // Control buttons
         HBox buttonBox = new HBox(15);
@@ -167,12 +399,134 @@ public class PerformanceDashboard {
             updateStats();
         });
         
-        buttonBox.getChildren().addAll(refreshBtn, clearCacheBtn, clearConnectionsBtn);
+        hotSpotsBtn = new Button("🔥 FX Hot Spots");
+        hotSpotsBtn.setStyle("-fx-background-color: #6f42c1; -fx-text-fill: white; -fx-font-weight: bold; -fx-padding: 10 20;");
+        hotSpotsBtn.setOnAction(e -> {
+            String report = FxThreadWatchdog.getHotSpotReport();
+            System.out.println(report);
+            TextArea reportArea = new TextArea(report);
+            reportArea.setEditable(false);
+            reportArea.setStyle("-fx-font-family: monospace;");
+            Alert alert = new Alert(Alert.AlertType.INFORMATION);
+            alert.setTitle("FX Thread Hot Spots");
+            alert.setHeaderText("Where the FX thread was blocked");
+            alert.getDialogPane().setContent(reportArea);
+            alert.show();
+        });
+        
+        tracesBtn = new Button("⏱️ Export Traces");
+        tracesBtn.setStyle("-fx-background-color: #20c997; -fx-text-fill: white; -fx-font-weight: bold; -fx-padding: 10 20;");
+        tracesBtn.setOnAction(e -> {
+            String report = InteractionTracer.getBreakdownReport();
+            System.out.println(report);
+            AppExecutors.execute(AppExecutors.Lane.IO, () -> {
+                String header;
+                try {
+                    header = "Trace file: " + InteractionTracer.exportTraces();
+                } catch (Exception ex) {
+                    header = "Export failed: " + ex.getMessage();
+                }
+                String result = header;
+                Platform.runLater(() -> {
+                    TextArea reportArea = new TextArea(report);
+                    reportArea.setEditable(false);
+                    reportArea.setStyle("-fx-font-family: monospace;");
+                    Alert alert = new Alert(Alert.AlertType.INFORMATION);
+                    alert.setTitle("Interaction Traces");
+                    alert.setHeaderText(result);
+                    alert.getDialogPane().setContent(reportArea);
+                    alert.show();
+                });
+            });
+        });
+        
+        dumpMetricsBtn = new Button("💾 Dump Metrics");
+        dumpMetricsBtn.setStyle("-fx-background-color: #fd7e14; -fx-text-fill: white; -fx-font-weight: bold; -fx-padding: 10 20;");
+        dumpMetricsBtn.setOnAction(e -> AppExecutors.execute(AppExecutors.Lane.IO, () -> {
+            String message;
+            try {
+                message = "Metric history written to " + MetricsHistory.dump();
+            } catch (Exception ex) {
+                message = "Dump failed: " + ex.getMessage();
+            }
+            String result = message;
+            Platform.runLater(() -> {
+                Alert alert = new Alert(Alert.AlertType.INFORMATION);
+                alert.setTitle("Metric History");
+                alert.setHeaderText(null);
+                alert.setContentText(result);
+                alert.show();
+            });
+        }));
+        
+        poolDumpBtn = new Button("🩺 Pool Borrowers");
+        poolDumpBtn.setStyle("-fx-background-color: #6610f2; -fx-text-fill: white; -fx-font-weight: bold; -fx-padding: 10 20;");
+        poolDumpBtn.setOnAction(e -> {
+            String report = com.moodflix.database.PoolTelemetry.getBorrowerReport()
+                + "\n\nLast automatic dump:\n" + com.moodflix.database.PoolTelemetry.getLastDump();
+            System.out.println(report);
+            TextArea reportArea = new TextArea(report);
+            reportArea.setEditable(false);
+            reportArea.setStyle("-fx-font-family: monospace;");
+            Alert alert = new Alert(Alert.AlertType.INFORMATION);
+            alert.setTitle("Connection Pool Borrowers");
+            alert.setHeaderText("Who holds each database connection");
+            alert.getDialogPane().setContent(reportArea);
+            alert.show();
+        });
+        
+        buttonBox.getChildren().addAll(refreshBtn, clearCacheBtn, clearConnectionsBtn, hotSpotsBtn, tracesBtn, dumpMetricsBtn, poolDumpBtn);
         
         // Add all components
         view.getChildren().addAll(headerLabel, statsGrid, buttonBox);
     }
     
+    private void updateTrends() {
+        MetricsHistory.Resolution resolution = trendRange.getSelectionModel().getSelectedIndex() == 1
+            ? MetricsHistory.Resolution.MINUTE : MetricsHistory.Resolution.SECOND;
+        for (Map.Entry<MetricsHistory.Metric, Canvas> entry : trendCharts.entrySet()) {
+            MetricsHistory.Metric metric = entry.getKey();
+            double[] values = MetricsHistory.series(metric, resolution);
+            double latest = MetricsHistory.latest(metric, resolution);
+            trendLabels.get(metric).setText(metric.label + " "
+                + (Double.isNaN(latest) ? "-" : String.format("%.0f%s", latest, metric.unit)));
+            drawSparkline(entry.getValue(), values);
+        }
+    }
+    
+    /**
+     * Line from zero to the series maximum; gaps where nothing was recorded
+     */
+    private void drawSparkline(Canvas canvas, double[] values) {
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+        g.clearRect(0, 0, width, height);
+        
+        double max = 0;
+        for (double value : values) {
+            if (!Double.isNaN(value)) max = Math.max(max, value);
+        }
+        if (max == 0) max = 1;
+        
+        g.setStroke(Color.web("#17a2b8"));
+        g.setLineWidth(1.2);
+        g.beginPath();
+        boolean drawing = false;
+        double step = width / (values.length - 1);
+        for (int i = 0; i < values.length; i++) {
+            if (Double.isNaN(values[i])) {
+                drawing = false;
+                continue;
+            }
+            double x = i * step;
+            double y = height - 1 - values[i] / max * (height - 2);
+            if (drawing) g.lineTo(x, y); else g.moveTo(x, y);
+            drawing = true;
+        }
+        g.stroke();
+    }
+    
     private VBox createStatBox(String title, String icon) {
         VBox box = new VBox(10);
         box.setAlignment(Pos.CENTER);
@@ -195,6 +549,7 @@ public class PerformanceDashboard {
         updateTimer = new Timeline(new KeyFrame(Duration.seconds(2), e -> updateStats()));
         updateTimer.setCycleCount(Animation.INDEFINITE);
         updateTimer.play();
+        IdleMode.addListener(idleListener);
         
         // Initial update
         updateStats();
@@ -316,6 +671,26 @@ public class PerformanceDashboard {
                     }
                 }
                 
+                // Update executor lane stats
+                executorStatsLabel.setText(AppExecutors.getExecutorStats());
+                requestScopeStatsLabel.setText(RequestScope.getRequestScopeStats());
+                limiterStatsLabel.setText(com.moodflix.database.DatabaseConfig.getLimiterStats());
+                rateLimiterStatsLabel.setText(RateLimiter.getRateLimiterStats());
+                replicaStatsLabel.setText(com.moodflix.database.DatabaseConfig.getReplicaStats());
+                poolStatsLabel.setText(com.moodflix.database.DatabaseConfig.getPoolStats());
+                poolHealthLabel.setText(com.moodflix.database.PoolTelemetry.getTelemetryStats());
+                renderingStatsLabel.setText(RenderingMode.getRenderingStats());
+                snapshotStatsLabel.setText(CardSnapshots.getSnapshotStats());
+                fxUpdateStatsLabel.setText(FxUpdateCoalescer.getCoalescerStats());
+                idleStatsLabel.setText(IdleMode.getIdleStats());
+                configStatsLabel.setText(AppConfig.getConfigSummary());
+                startupStatsLabel.setText(StartupPipeline.getStartupStats());
+                sceneStatsLabel.setText(SceneLifecycleManager.getSceneStats());
+                prefetchStatsLabel.setText(MoodPrefetcher.getPrefetchStats());
+                fxThreadStatsLabel.setText(FxThreadWatchdog.getStallStats());
+                interactionStatsLabel.setText(InteractionTracer.getTraceStats());
+                updateTrends();
+                
             } catch (Exception e) {
                 System.err.println("Error updating performance stats: " + e.getMessage());
             }
@@ -330,5 +705,6 @@ public class PerformanceDashboard {
         if (updateTimer != null) {
             updateTimer.stop();
         }
+        IdleMode.removeListener(idleListener);
     }
 } 
\ No newline at end of file
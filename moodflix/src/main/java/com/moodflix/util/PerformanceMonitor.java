@@ -85,6 +85,7 @@ public class PerformanceMonitor {
             
             OperationStats stats = operationStats.computeIfAbsent(operationName, k -> new OperationStats());
             stats.record(duration, success);
+            MetricsHistory.recordLatency(operationName, duration);
             
             totalOperations.incrementAndGet();
             if (!success) {
@@ -99,6 +100,7 @@ public class PerformanceMonitor {
     public static void recordOperation(String operationName, long duration, boolean success) {
         OperationStats stats = operationStats.computeIfAbsent(operationName, k -> new OperationStats());
         stats.record(duration, success);
+        MetricsHistory.recordLatency(operationName, duration);
         
         totalOperations.incrementAndGet();
         if (!success) {
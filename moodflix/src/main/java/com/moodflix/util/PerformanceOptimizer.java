@@ -16,21 +16,14 @@ import java.util.concurrent.TimeUnit;
  */
 public class PerformanceOptimizer {
     
-    // Enhanced thread pool configuration
-    private static final ExecutorService backgroundExecutor = Executors.newFixedThreadPool(
-        Math.max(4, Runtime.getRuntime().availableProcessors() * 2)
-    );
-    
-    // Connection pool for HTTP requests
-    private static final ExecutorService httpExecutor = Executors.newFixedThreadPool(8);
+    // Shared executor lanes
+    private static final ExecutorService backgroundExecutor = AppExecutors.lane(AppExecutors.Lane.INTERACTIVE_DB);
+    private static final ExecutorService httpExecutor = AppExecutors.lane(AppExecutors.Lane.IO);
     
     // Advanced caching system
     private static final Map<String, CacheEntry> dataCache = new ConcurrentHashMap<>();
     private static final Map<String, CacheEntry> userCache = new ConcurrentHashMap<>();
     private static final Map<String, CacheEntry> contentCache = new ConcurrentHashMap<>();
-    private static final long DEFAULT_CACHE_TTL = 5 * 60 * 1000; // 5 minutes
-    private static final long USER_CACHE_TTL = 10 * 60 * 1000; // 10 minutes
-    private static final long CONTENT_CACHE_TTL = 15 * 60 * 1000; // 15 minutes
     
     // Request batching and deduplication
     private static final Map<String, CompletableFuture<?>> pendingRequests = new ConcurrentHashMap<>();
@@ -43,7 +36,6 @@ public class PerformanceOptimizer {
     private static final AtomicInteger totalRequests = new AtomicInteger(0);
     
     // Memory management
-    private static final int MAX_CACHE_SIZE = 1000;
     private static final long MEMORY_CLEANUP_INTERVAL = 5 * 60 * 1000; // 5 minutes
     
     // Background cleanup task
@@ -107,7 +99,8 @@ public class PerformanceOptimizer {
     }
     
     /**
-     * Update UI on JavaFX thread with error handling
+     * Update UI on JavaFX thread with error handling; runs now when already on the
+     * FX thread, otherwise batched with other updates by FxUpdateCoalescer
      */
     public static void runOnUIThread(Runnable task) {
         if (Platform.isFxApplicationThread()) {
@@ -117,22 +110,24 @@ public class PerformanceOptimizer {
                 System.err.println("UI task failed: " + e.getMessage());
             }
         } else {
-            Platform.runLater(() -> {
-                try {
-                    task.run();
-                } catch (Exception e) {
-                    System.err.println("UI task failed: " + e.getMessage());
-                }
-            });
+            FxUpdateCoalescer.submit(task);
         }
     }
     
+    /**
+     * Update one property of a node on the JavaFX thread; only the latest update
+     * per node and property is applied
+     */
+    public static void runOnUIThread(javafx.scene.Node target, String property, Runnable task) {
+        FxUpdateCoalescer.submit(target, property, task);
+    }
+    
     /**
      * Get cached data or compute if not available with memory management
      */
     @SuppressWarnings("unchecked")
     public static <T> T getCachedOrCompute(String key, Supplier<T> supplier) {
-        return getCachedOrCompute(key, supplier, DEFAULT_CACHE_TTL);
+        return getCachedOrCompute(key, supplier, AppConfig.CACHE_DEFAULT_TTL_MS.get());
     }
     
     /**
@@ -150,7 +145,7 @@ public class PerformanceOptimizer {
         T result = supplier.get();
         if (result != null) {
             // Check cache size before adding
-            if (dataCache.size() >= MAX_CACHE_SIZE) {
+            if (dataCache.size() >= AppConfig.CACHE_MAX_SIZE.get()) {
                 cleanupExpiredEntries(dataCache);
             }
             dataCache.put(key, new CacheEntry(result, ttl));
@@ -173,10 +168,10 @@ public class PerformanceOptimizer {
         cacheMisses.incrementAndGet();
         T result = supplier.get();
         if (result != null) {
-            if (userCache.size() >= MAX_CACHE_SIZE) {
+            if (userCache.size() >= AppConfig.CACHE_MAX_SIZE.get()) {
                 cleanupExpiredEntries(userCache);
             }
-            userCache.put(cacheKey, new CacheEntry(result, USER_CACHE_TTL));
+            userCache.put(cacheKey, new CacheEntry(result, AppConfig.CACHE_USER_TTL_MS.get()));
         }
         return result;
     }
@@ -195,10 +190,10 @@ public class PerformanceOptimizer {
         cacheMisses.incrementAndGet();
         T result = supplier.get();
         if (result != null) {
-            if (contentCache.size() >= MAX_CACHE_SIZE) {
+            if (contentCache.size() >= AppConfig.CACHE_MAX_SIZE.get()) {
                 cleanupExpiredEntries(contentCache);
             }
-            contentCache.put(key, new CacheEntry(result, CONTENT_CACHE_TTL));
+            contentCache.put(key, new CacheEntry(result, AppConfig.CACHE_CONTENT_TTL_MS.get()));
         }
         return result;
     }
@@ -253,23 +248,40 @@ public class PerformanceOptimizer {
      * Schedule periodic cleanup
      */
     private static void scheduleCleanup() {
-        Executors.newSingleThreadScheduledExecutor().scheduleAtFixedRate(() -> {
-            try {
-                cleanupExpiredEntries(dataCache);
-                cleanupExpiredEntries(userCache);
-                cleanupExpiredEntries(contentCache);
-                
-                // Clean up old request timestamps
-                long cutoff = System.currentTimeMillis() - 60000; // 1 minute
-                requestTimestamps.entrySet().removeIf(entry -> entry.getValue() < cutoff);
-                
-                System.out.println("[PERF-OPT] Cache cleanup completed");
-            } catch (Exception e) {
-                System.err.println("[PERF-OPT] Cleanup failed: " + e.getMessage());
-            }
+        AppExecutors.scheduler().scheduleAtFixedRate(() -> {
+            // Idle mode trims once on entry; nothing expires that anyone would notice
+            if (IdleMode.isIdle()) return;
+            trimCaches();
         }, MEMORY_CLEANUP_INTERVAL, MEMORY_CLEANUP_INTERVAL, TimeUnit.MILLISECONDS);
     }
     
+    /**
+     * Drop expired cache entries and old request timestamps
+     */
+    public static void trimCaches() {
+        try {
+            cleanupExpiredEntries(dataCache);
+            cleanupExpiredEntries(userCache);
+            cleanupExpiredEntries(contentCache);
+            
+            // Clean up old request timestamps
+            long cutoff = System.currentTimeMillis() - 60000; // 1 minute
+            requestTimestamps.entrySet().removeIf(entry -> entry.getValue() < cutoff);
+            
+            System.out.println("[PERF-OPT] Cache cleanup completed");
+        } catch (Exception e) {
+            System.err.println("[PERF-OPT] Cleanup failed: " + e.getMessage());
+        }
+    }
+    
+    public static long getCacheHits() {
+        return cacheHits.get();
+    }
+    
+    public static long getCacheMisses() {
+        return cacheMisses.get();
+    }
+    
     /**
      * Get performance statistics
      */
@@ -317,24 +329,4 @@ public class PerformanceOptimizer {
         userCache.entrySet().removeIf(entry -> entry.getKey().startsWith(userEmail + ":"));
         System.out.println("[PERF-OPT] Cache cleared for user: " + userEmail);
     }
-    
-    /**
-     * Shutdown all executors
-     */
-    public static void shutdown() {
-        backgroundExecutor.shutdown();
-        httpExecutor.shutdown();
-        try {
-            if (!backgroundExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
-                backgroundExecutor.shutdownNow();
-            }
-            if (!httpExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
-                httpExecutor.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            backgroundExecutor.shutdownNow();
-            httpExecutor.shutdownNow();
-            Thread.currentThread().interrupt();
-        }
-    }
 } 
\ No newline at end of file
@@ -0,0 +1,107 @@
+package com.moodflix.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user token buckets for write-heavy and search operations. Each bucket is a single
+ * AtomicLong updated by CAS (GCRA form of a token bucket), so checks never block.
+ *
+ * Budgets come from AppConfig (ratelimit.&lt;operation&gt;.burst and .per.minute) and apply on reload.
+ */
+public class RateLimiter {
+
+    public enum Operation {
+        ACTIVITY("activity", AppConfig.RATE_LIMIT_ACTIVITY_BURST, AppConfig.RATE_LIMIT_ACTIVITY_PER_MINUTE),
+        SEARCH("search", AppConfig.RATE_LIMIT_SEARCH_BURST, AppConfig.RATE_LIMIT_SEARCH_PER_MINUTE),
+        FEEDBACK("feedback", AppConfig.RATE_LIMIT_FEEDBACK_BURST, AppConfig.RATE_LIMIT_FEEDBACK_PER_MINUTE);
+
+        final String key;
+        final AppConfig.Setting<Integer> burst;
+        final AppConfig.Setting<Integer> perMinute;
+        final AtomicLong allowed = new AtomicLong();
+        final AtomicLong rejected = new AtomicLong();
+
+        Operation(String key, AppConfig.Setting<Integer> burst, AppConfig.Setting<Integer> perMinute) {
+            this.key = key;
+            this.burst = burst;
+            this.perMinute = perMinute;
+        }
+
+        long intervalNanos() {
+            return TimeUnit.MINUTES.toNanos(1) / perMinute.get();
+        }
+    }
+
+    /**
+     * Fast rejection: thrown instead of waiting for a token
+     */
+    public static class RateLimitExceededException extends RuntimeException {
+        public RateLimitExceededException(String message) {
+            super(message);
+        }
+    }
+
+    // Theoretical arrival time per (operation, user); the bucket is full once it falls behind now
+    private static final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    static {
+        // Idle buckets are full, which is the same as having no bucket at all
+        AppExecutors.scheduler().scheduleAtFixedRate(RateLimiter::evictIdleBuckets, 1, 1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Take one token for the user, or return false without blocking
+     */
+    public static boolean tryAcquire(Operation operation, String userKey) {
+        String bucketKey = operation.key + ":" + (userKey != null ? userKey.toLowerCase() : "anonymous");
+        AtomicLong tat = buckets.computeIfAbsent(bucketKey, k -> new AtomicLong(Long.MIN_VALUE));
+        long interval = operation.intervalNanos();
+        long tolerance = interval * operation.burst.get();
+
+        while (true) {
+            long now = System.nanoTime();
+            long current = tat.get();
+            long start = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+            long next = start + interval;
+            if (next - now > tolerance) {
+                operation.rejected.incrementAndGet();
+                return false;
+            }
+            if (tat.compareAndSet(current, next)) {
+                operation.allowed.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Take one token or throw RateLimitExceededException
+     */
+    public static void check(Operation operation, String userKey) {
+        if (!tryAcquire(operation, userKey)) {
+            throw new RateLimitExceededException("You're doing that too often. Please wait a moment and try again.");
+        }
+    }
+
+    private static void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(tat -> tat.get() == Long.MIN_VALUE || tat.get() - now < 0);
+    }
+
+    /**
+     * Get rate limiter statistics
+     */
+    public static String getRateLimiterStats() {
+        StringBuilder stats = new StringBuilder("Rate Limiter:\n");
+        stats.append(String.format("- Active Buckets: %d", buckets.size()));
+        for (Operation operation : Operation.values()) {
+            stats.append(String.format("\n- %s: %d allowed, %d rejected (burst %d, %d/min)",
+                operation.key, operation.allowed.get(), operation.rejected.get(), operation.burst.get(),
+                operation.perMinute.get()));
+        }
+        return stats.toString();
+    }
+}
@@ -0,0 +1,78 @@
+package com.moodflix.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+
+/**
+ * Client-side storage for the remember-me token in the app data directory
+ */
+public class RememberMeStore {
+
+    private static final Path APP_DATA_DIR = Paths.get(System.getProperty("user.home"), ".moodflix");
+    private static final Path TOKEN_FILE = APP_DATA_DIR.resolve("session.token");
+
+    /**
+     * Written to an owner-only temp file and moved into place, so the token is never
+     * readable by other users, not even briefly
+     */
+    public static void saveToken(String token) {
+        Path temp = null;
+        try {
+            temp = createOwnerOnlyTempFile();
+            Files.write(temp, token.getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(temp, TOKEN_FILE, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, TOKEN_FILE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            System.out.println("[REMEMBER-ME] Session token saved");
+        } catch (IOException e) {
+            System.err.println("[REMEMBER-ME] Could not save session token: " + e.getMessage());
+            try {
+                if (temp != null) Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private static Path createOwnerOnlyTempFile() throws IOException {
+        try {
+            Files.createDirectories(APP_DATA_DIR, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+            return Files.createTempFile(APP_DATA_DIR, "session", ".tmp",
+                PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } catch (UnsupportedOperationException e) {
+            // Not a POSIX file system (Windows); the profile directory is already per user
+            Files.createDirectories(APP_DATA_DIR);
+            return Files.createTempFile(APP_DATA_DIR, "session", ".tmp");
+        }
+    }
+
+    public static String loadToken() {
+        try {
+            if (!Files.exists(TOKEN_FILE)) return null;
+            String token = new String(Files.readAllBytes(TOKEN_FILE), StandardCharsets.UTF_8).trim();
+            return token.isEmpty() ? null : token;
+        } catch (IOException e) {
+            System.err.println("[REMEMBER-ME] Could not read session token: " + e.getMessage());
+            return null;
+        }
+    }
+
+    public static void clearToken() {
+        try {
+            Files.deleteIfExists(TOKEN_FILE);
+        } catch (IOException e) {
+            System.err.println("[REMEMBER-ME] Could not delete session token: " + e.getMessage());
+        }
+    }
+
+    public static boolean hasToken() {
+        return Files.exists(TOKEN_FILE);
+    }
+}
@@ -0,0 +1,275 @@
+package com.moodflix.util;
+
+import javafx.animation.Animation;
+import javafx.animation.AnimationTimer;
+import javafx.application.ConditionalFeature;
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+import javafx.util.Duration;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Low-overhead rendering for slow, software-rendered machines. An AnimationTimer
+ * measures frame pacing for a few seconds after each scene change and once a minute,
+ * not all the time, since the timer forces a pulse every frame while it runs. When
+ * every window of a sample has a p90 frame time over render.frame.budget.ms, drop
+ * shadows are switched off in every scene and ambient and entrance animations stop.
+ * Users can force the mode on from their profile page, or for every user with
+ * render.low.overhead.forced=1.
+ */
+public class RenderingMode {
+
+    private static final String STYLESHEET = "/moodflix-low-overhead.css";
+    private static final Path PREFERENCE_FILE = Paths.get(System.getProperty("user.home"), ".moodflix", "low-overhead-rendering");
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(2);
+    private static final int SLOW_WINDOWS_TO_DEGRADE = 3;
+    private static final long SAMPLE_INTERVAL_SECONDS = 60;
+    private static final int MAX_FRAMES_PER_WINDOW = 512;
+
+    // Ambient (INDEFINITE) animations, stopped while low-overhead rendering is on
+    private static final Set<Animation> ambient = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private static boolean active = false;
+    private static boolean userForced = Files.exists(PREFERENCE_FILE);
+    private static boolean autoDegraded = false;
+    private static boolean started = false;
+    private static boolean idle = false;
+    private static AnimationTimer monitor;
+
+    // Frame pacing, FX thread only
+    private static final long[] frameGaps = new long[MAX_FRAMES_PER_WINDOW];
+    private static int frameCount = 0;
+    private static long lastFrameNanos = 0;
+    private static long windowStartNanos = 0;
+    private static int slowWindows = 0;
+    private static int windowsLeft = 0;
+    private static long samples = 0;
+    private static double lastP90Ms = 0;
+    private static double worstP90Ms = 0;
+    private static long framesMeasured = 0;
+
+    /**
+     * Hook every window's scenes and start measuring; call once on the FX thread
+     */
+    public static void start() {
+        if (started) return;
+        started = true;
+        Window.getWindows().addListener((ListChangeListener<Window>) change -> {
+            while (change.next()) {
+                for (Window window : change.getAddedSubList()) {
+                    track(window);
+                }
+            }
+        });
+        for (Window window : Window.getWindows()) {
+            track(window);
+        }
+        AppConfig.RENDER_LOW_OVERHEAD_FORCED.onChange(forced -> Platform.runLater(RenderingMode::update));
+
+        monitor = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                onFrame(now);
+            }
+        };
+        update();
+        // Catches slowdowns that build up without a scene change
+        AppExecutors.scheduler().scheduleWithFixedDelay(() -> Platform.runLater(RenderingMode::sample),
+            SAMPLE_INTERVAL_SECONDS, SAMPLE_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        System.out.println("[RENDER] " + (isSoftwareRendering() ? "Software" : "Hardware") + " rendering, "
+            + (active ? "low-overhead mode forced on" : "measuring frame pacing"));
+    }
+
+    private static void track(Window window) {
+        window.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            applyStylesheet(newScene);
+            sample();
+        });
+        applyStylesheet(window.getScene());
+    }
+
+    static void applyStylesheet(Scene scene) {
+        if (scene == null) return;
+        String css = RenderingMode.class.getResource(STYLESHEET).toExternalForm();
+        if (active && !scene.getStylesheets().contains(css)) {
+            scene.getStylesheets().add(css);
+        } else if (!active) {
+            scene.getStylesheets().remove(css);
+        }
+    }
+
+    private static void onFrame(long now) {
+        if (lastFrameNanos == 0) {
+            lastFrameNanos = now;
+            windowStartNanos = now;
+            return;
+        }
+        if (frameCount < MAX_FRAMES_PER_WINDOW) {
+            frameGaps[frameCount++] = now - lastFrameNanos;
+        }
+        lastFrameNanos = now;
+        framesMeasured++;
+        if (now - windowStartNanos < WINDOW_NANOS) return;
+
+        long[] sorted = Arrays.copyOf(frameGaps, frameCount);
+        Arrays.sort(sorted);
+        lastP90Ms = sorted[Math.max(0, (int) Math.ceil(0.9 * sorted.length) - 1)] / 1_000_000.0;
+        worstP90Ms = Math.max(worstP90Ms, lastP90Ms);
+        frameCount = 0;
+        windowStartNanos = now;
+        windowsLeft--;
+
+        // Several slow windows in a row, so a single scene build doesn't trip it
+        slowWindows = lastP90Ms > AppConfig.RENDER_FRAME_BUDGET_MS.get() ? slowWindows + 1 : 0;
+        if (slowWindows >= SLOW_WINDOWS_TO_DEGRADE && !autoDegraded) {
+            autoDegraded = true;
+            System.out.println(String.format("[RENDER] Frame time p90 %.1fms over the %dms budget for %d windows; switching to low-overhead rendering",
+                lastP90Ms, AppConfig.RENDER_FRAME_BUDGET_MS.get(), slowWindows));
+            PerformanceMonitor.recordOperation("render_degraded", Math.round(lastP90Ms), false);
+            update();
+        } else if (windowsLeft <= 0) {
+            stopSampling();
+        }
+    }
+
+    /**
+     * Measure the next few windows; extends a sample already running. FX thread only.
+     */
+    private static void sample() {
+        if (monitor == null || active || idle) return;
+        if (windowsLeft <= 0) {
+            samples++;
+            lastFrameNanos = 0;
+            frameCount = 0;
+            slowWindows = 0;
+            monitor.start();
+        }
+        windowsLeft = SLOW_WINDOWS_TO_DEGRADE;
+    }
+
+    private static void stopSampling() {
+        windowsLeft = 0;
+        if (monitor != null) monitor.stop();
+    }
+
+    /**
+     * Reconcile scenes, animations and the frame monitor with the current mode
+     */
+    private static void update() {
+        boolean wasActive = active;
+        active = isForced() || autoDegraded;
+        // Nothing left to decide once degraded
+        if (active || idle) stopSampling(); else sample();
+        if (active == wasActive) return;
+
+        for (Window window : Window.getWindows()) {
+            applyStylesheet(window.getScene());
+        }
+        for (Animation animation : new ArrayList<>(ambient)) {
+            if (active) {
+                animation.jumpTo(Duration.ZERO);
+                animation.stop();
+            } else if (!idle) {
+                animation.play();
+            }
+        }
+    }
+
+    /**
+     * Pause ambient animations and frame measurement while the app is idle; FX thread only
+     */
+    static void setIdle(boolean isIdle) {
+        if (idle == isIdle) return;
+        idle = isIdle;
+        // A fresh sample on resume; the gap across the idle period isn't a slow frame
+        if (idle) stopSampling(); else sample();
+        for (Animation animation : new ArrayList<>(ambient)) {
+            if (idle) {
+                animation.pause();
+            } else if (!active) {
+                animation.play();
+            }
+        }
+    }
+
+    public static boolean isLowOverhead() {
+        return active;
+    }
+
+    public static boolean isForced() {
+        return userForced || AppConfig.RENDER_LOW_OVERHEAD_FORCED.get() == 1;
+    }
+
+    /**
+     * The user's own choice, remembered across restarts; call on the FX thread
+     */
+    public static void setUserForced(boolean forced) {
+        userForced = forced;
+        try {
+            if (forced) {
+                Files.createDirectories(PREFERENCE_FILE.getParent());
+                Files.write(PREFERENCE_FILE, new byte[0]);
+            } else {
+                Files.deleteIfExists(PREFERENCE_FILE);
+            }
+        } catch (IOException e) {
+            System.err.println("[RENDER] Could not save rendering preference: " + e.getMessage());
+        }
+        update();
+    }
+
+    public static boolean isUserForced() {
+        return userForced;
+    }
+
+    /**
+     * Play an INDEFINITE decorative animation, unless low-overhead rendering is on
+     */
+    static void playAmbient(Animation animation) {
+        ambient.add(animation);
+        if (!active && !idle) {
+            animation.play();
+        }
+    }
+
+    /**
+     * Prism falls back to software when no GPU pipeline is available; 3D needs one
+     */
+    private static boolean isSoftwareRendering() {
+        return !Platform.isSupported(ConditionalFeature.SCENE3D);
+    }
+
+    /**
+     * Get rendering mode statistics
+     */
+    public static String getRenderingStats() {
+        String mode = !active ? "full effects" : isForced() ? "low-overhead (forced)" : "low-overhead (auto)";
+        List<Animation> animations = new ArrayList<>(ambient);
+        return String.format(
+            "Rendering:\n" +
+            "- Mode: %s\n" +
+            "- Pipeline: %s\n" +
+            "- Frame p90: %.1fms (worst %.1fms, budget %dms)\n" +
+            "- Frames Measured: %d (%d samples, %s)\n" +
+            "- Ambient Animations: %d",
+            mode,
+            isSoftwareRendering() ? "software" : "hardware",
+            lastP90Ms, worstP90Ms, AppConfig.RENDER_FRAME_BUDGET_MS.get(),
+            framesMeasured, samples, windowsLeft > 0 ? "sampling now" : "not sampling",
+            animations.size()
+        );
+    }
+}
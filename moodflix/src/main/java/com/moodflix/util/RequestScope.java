@@ -0,0 +1,185 @@
+package com.moodflix.util;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Supersede-and-cancel for UI queries: each UI slot keeps only its latest request.
+ * Starting a new one cancels the previous future, cancels its running JDBC statement,
+ * and stale results are dropped before they reach the FX thread.
+ */
+public class RequestScope {
+
+    private static final ConcurrentHashMap<String, Token> slots = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Token> currentToken = new ThreadLocal<>();
+
+    // Metrics
+    private static final AtomicInteger superseded = new AtomicInteger(0);
+    private static final AtomicInteger cancelledStatements = new AtomicInteger(0);
+    private static final AtomicInteger staleResultsDropped = new AtomicInteger(0);
+
+    /**
+     * One request in a slot
+     */
+    public static class Token {
+        final String slotKey;
+        volatile boolean cancelled;
+        volatile Statement statement;
+        volatile CompletableFuture<?> future;
+
+        Token(String slotKey) {
+            this.slotKey = slotKey;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        void cancel() {
+            cancelled = true;
+            CompletableFuture<?> f = future;
+            if (f != null) {
+                f.cancel(false);
+            }
+            Statement stmt = statement;
+            if (stmt != null) {
+                try {
+                    stmt.cancel();
+                    cancelledStatements.incrementAndGet();
+                } catch (SQLException e) {
+                    // Statement already finished or closed
+                }
+            }
+        }
+    }
+
+    /**
+     * Run the latest request for a slot on the interactive DB lane and deliver its
+     * result on the FX thread, unless a newer request has replaced it
+     */
+    public static <T> void runLatest(String slotKey, Supplier<T> work, Consumer<T> onResult, Consumer<Throwable> onError) {
+        runLatest(slotKey, work, AppExecutors.lane(AppExecutors.Lane.INTERACTIVE_DB), onResult, onError);
+    }
+
+    public static <T> void runLatest(String slotKey, Supplier<T> work, Executor executor,
+                                     Consumer<T> onResult, Consumer<Throwable> onError) {
+        Token token = new Token(slotKey);
+        supersede(token, work, executor).whenComplete((result, error) -> {
+            if (!isCurrent(token)) {
+                staleResultsDropped.incrementAndGet();
+                return;
+            }
+            InteractionTracer.runLater(() -> {
+                // A newer request may have started while this was queued for the FX thread
+                if (!isCurrent(token)) {
+                    staleResultsDropped.incrementAndGet();
+                    return;
+                }
+                slots.remove(slotKey, token);
+                if (error == null) {
+                    onResult.accept(result);
+                } else {
+                    onError.accept(unwrap(error));
+                }
+            });
+        });
+    }
+
+    /**
+     * Start a request for a slot, cancelling whatever was running there
+     */
+    public static <T> CompletableFuture<T> supersede(String slotKey, Supplier<T> work, Executor executor) {
+        return supersede(new Token(slotKey), work, executor);
+    }
+
+    private static <T> CompletableFuture<T> supersede(Token token, Supplier<T> work, Executor executor) {
+        Token previous = slots.put(token.slotKey, token);
+        if (previous != null) {
+            superseded.incrementAndGet();
+            previous.cancel();
+        }
+        CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> {
+            if (token.cancelled) {
+                throw new CancellationException("Request superseded");
+            }
+            currentToken.set(token);
+            try {
+                return work.get();
+            } finally {
+                currentToken.remove();
+                token.statement = null;
+            }
+        }, executor);
+        token.future = future;
+        return future;
+    }
+
+    /**
+     * Attach a statement to the request running on this thread so it can be cancelled;
+     * no-op outside a scoped request
+     */
+    public static void bind(Statement stmt) throws SQLException {
+        Token token = currentToken.get();
+        if (token == null) return;
+        if (token.cancelled) {
+            // SQLSTATE 57014: query_canceled
+            throw new SQLException("Request superseded", "57014");
+        }
+        token.statement = stmt;
+    }
+
+    /**
+     * True when the current thread's scoped request has been superseded
+     */
+    public static boolean isCurrentRequestCancelled() {
+        Token token = currentToken.get();
+        return token != null && token.cancelled;
+    }
+
+    public static void cancel(String slotKey) {
+        Token token = slots.remove(slotKey);
+        if (token != null) {
+            token.cancel();
+        }
+    }
+
+    public static void cancelAll() {
+        for (String slotKey : slots.keySet()) {
+            cancel(slotKey);
+        }
+    }
+
+    private static boolean isCurrent(Token token) {
+        return !token.cancelled && slots.get(token.slotKey) == token;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof RuntimeException)
+               && error.getCause() != null && error != error.getCause()) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    /**
+     * Get request scope statistics
+     */
+    public static String getRequestScopeStats() {
+        return String.format(
+            "Request Scope:\n" +
+            "- Active Slots: %d\n" +
+            "- Superseded Requests: %d\n" +
+            "- Cancelled Statements: %d\n" +
+            "- Stale Results Dropped: %d",
+            slots.size(), superseded.get(), cancelledStatements.get(), staleResultsDropped.get()
+        );
+    }
+}
@@ -1,5 +1,7 @@
 package com.moodflix.util;
 
+import com.moodflix.database.DatabaseConfig;
+import com.moodflix.database.Workload;
 import com.moodflix.model.Content;
 import com.moodflix.service.PostgreSQLAuthService;
 import com.moodflix.service.PostgreSQLContentService;
@@ -7,6 +9,11 @@ import com.moodflix.service.PostgreSQLContentService;
 public class SampleDataInitializer {
 
     public static void initializeSampleData() {
+        // Seeding runs on its own small pool so it never competes with interactive queries
+        DatabaseConfig.runWithWorkload(Workload.BULK, SampleDataInitializer::seed);
+    }
+
+    private static void seed() {
         System.out.println("[seed] Initializing sample users and content...");
 
         PostgreSQLAuthService authService = new PostgreSQLAuthService();
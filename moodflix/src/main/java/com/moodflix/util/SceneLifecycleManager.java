@@ -0,0 +1,319 @@
+package com.moodflix.util;
+
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Labeled;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.control.Tab;
+import javafx.scene.control.TabPane;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.BackgroundImage;
+import javafx.scene.layout.Region;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The one place live Scene graphs are kept between navigations. Every cached scene
+ * has an estimated memory cost (nodes plus decoded image pixels); when the total goes
+ * over the configured budget, prefetched pages are evicted before dashboards, least
+ * recently used first. Scenes belong to a user and are purged on logout.
+ */
+public class SceneLifecycleManager {
+
+    /**
+     * Eviction order, lowest first
+     */
+    public enum Priority {
+        // Speculatively built pages the user may never open
+        PREFETCH,
+        // Dashboards the user returns to after every page
+        DASHBOARD
+    }
+
+    // Rough average for a node once its skin and CSS state exist
+    private static final long BYTES_PER_NODE = 2 * 1024;
+
+    private static final Map<String, CachedScene> scenes = new LinkedHashMap<>(16, 0.75f, true);
+
+    private static long estimatedBytes = 0;
+    private static long generation = 0;
+    private static long hits = 0;
+    private static long misses = 0;
+    private static long evictions = 0;
+    private static long expirations = 0;
+    private static long purged = 0;
+
+    private static class CachedScene {
+        final Scene scene;
+        final String owner;
+        final Priority priority;
+        final long bytes;
+        final long timestamp;
+
+        CachedScene(Scene scene, String owner, Priority priority, long bytes) {
+            this.scene = scene;
+            this.owner = owner;
+            this.priority = priority;
+            this.bytes = bytes;
+            this.timestamp = System.currentTimeMillis();
+        }
+
+        boolean isExpired() {
+            return (System.currentTimeMillis() - timestamp) > AppConfig.NAVIGATION_CACHE_TTL_MS.get();
+        }
+    }
+
+    static {
+        AppConfig.SCENE_CACHE_BUDGET_MB.onChange(budget -> {
+            synchronized (SceneLifecycleManager.class) {
+                evictToBudget(null);
+            }
+        });
+    }
+
+    /**
+     * Cache key for a user's dashboard, shared by login, navigation and back navigation
+     */
+    public static String dashboardKey(String email, String role) {
+        return ("admin".equalsIgnoreCase(role) ? "admin_dashboard_" : "user_dashboard_") + email;
+    }
+
+    /**
+     * Cached scene, or null if absent or expired
+     */
+    public static synchronized Scene get(String key) {
+        CachedScene cached = scenes.get(key);
+        if (cached == null || cached.isExpired()) {
+            if (cached != null) {
+                remove(key, cached);
+                expirations++;
+            }
+            misses++;
+            return null;
+        }
+        hits++;
+        return cached.scene;
+    }
+
+    /**
+     * Whether a live entry exists, without counting a hit or touching LRU order
+     */
+    public static synchronized boolean contains(String key) {
+        for (Map.Entry<String, CachedScene> entry : scenes.entrySet()) {
+            if (entry.getKey().equals(key)) return !entry.getValue().isExpired();
+        }
+        return false;
+    }
+
+    /**
+     * Current generation; capture it before building a scene in the background
+     * and pass it to {@link #put(String, Scene, String, Priority, long)}
+     */
+    public static synchronized long generation() {
+        return generation;
+    }
+
+    public static void put(String key, Scene scene, String owner, Priority priority) {
+        put(key, scene, owner, priority, generation());
+    }
+
+    /**
+     * Cache a scene. Dropped if a purge happened since the caller captured
+     * startedGeneration, so a preload finishing after logout can't resurrect it.
+     */
+    public static void put(String key, Scene scene, String owner, Priority priority, long startedGeneration) {
+        if (scene == null) return;
+        long bytes = estimateBytes(scene);
+
+        synchronized (SceneLifecycleManager.class) {
+            if (startedGeneration != generation) {
+                System.out.println("[SCENES] Dropped " + key + " built before the last purge");
+                return;
+            }
+            CachedScene previous = scenes.get(key);
+            if (previous != null) {
+                remove(key, previous);
+            }
+            scenes.put(key, new CachedScene(scene, owner, priority, bytes));
+            estimatedBytes += bytes;
+            evictToBudget(key);
+        }
+    }
+
+    public static synchronized void remove(String key) {
+        CachedScene cached = scenes.get(key);
+        if (cached != null) {
+            remove(key, cached);
+        }
+    }
+
+    private static void remove(String key, CachedScene cached) {
+        scenes.remove(key);
+        estimatedBytes -= cached.bytes;
+    }
+
+    /**
+     * Evict lowest-priority, least recently used scenes until under budget.
+     * The entry just added is kept even if it alone exceeds the budget.
+     */
+    private static void evictToBudget(String keep) {
+        long budget = AppConfig.SCENE_CACHE_BUDGET_MB.get() * 1024L * 1024L;
+        while (estimatedBytes > budget) {
+            String victim = null;
+            CachedScene victimScene = null;
+            // Iteration is least recently used first
+            for (Map.Entry<String, CachedScene> entry : scenes.entrySet()) {
+                if (entry.getKey().equals(keep)) continue;
+                if (victimScene == null || entry.getValue().priority.compareTo(victimScene.priority) < 0) {
+                    victim = entry.getKey();
+                    victimScene = entry.getValue();
+                }
+            }
+            if (victim == null) return;
+            remove(victim, victimScene);
+            evictions++;
+            System.out.println("[SCENES] Evicted " + victim + " (" + victimScene.bytes / 1024 + " KB) to stay within budget");
+        }
+    }
+
+    /**
+     * Drop every scene belonging to one user
+     */
+    public static synchronized void purgeOwner(String owner) {
+        if (owner == null) return;
+        int before = scenes.size();
+        Iterator<Map.Entry<String, CachedScene>> it = scenes.entrySet().iterator();
+        while (it.hasNext()) {
+            CachedScene cached = it.next().getValue();
+            if (owner.equals(cached.owner)) {
+                estimatedBytes -= cached.bytes;
+                it.remove();
+            }
+        }
+        purged += before - scenes.size();
+        System.out.println("[SCENES] Purged " + (before - scenes.size()) + " scenes for " + owner);
+    }
+
+    /**
+     * Drop everything and invalidate in-flight background builds; called on logout
+     */
+    public static synchronized void purgeAll() {
+        purged += scenes.size();
+        scenes.clear();
+        estimatedBytes = 0;
+        generation++;
+        System.out.println("[SCENES] Purged all cached scenes");
+    }
+
+    /**
+     * Drop every scene of one priority
+     */
+    public static synchronized void purge(Priority priority) {
+        Iterator<Map.Entry<String, CachedScene>> it = scenes.entrySet().iterator();
+        while (it.hasNext()) {
+            CachedScene cached = it.next().getValue();
+            if (cached.priority == priority) {
+                estimatedBytes -= cached.bytes;
+                it.remove();
+                purged++;
+            }
+        }
+    }
+
+    public static synchronized void cleanupExpired() {
+        Iterator<Map.Entry<String, CachedScene>> it = scenes.entrySet().iterator();
+        while (it.hasNext()) {
+            CachedScene cached = it.next().getValue();
+            if (cached.isExpired()) {
+                estimatedBytes -= cached.bytes;
+                it.remove();
+                expirations++;
+            }
+        }
+    }
+
+    public static synchronized int count(Priority priority) {
+        int count = 0;
+        for (CachedScene cached : scenes.values()) {
+            if (cached.priority == priority) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Estimated retained size of a scene graph: a fixed cost per node plus the
+     * decoded pixels of each distinct image. Walks control content (scroll panes,
+     * tabs, graphics) directly since skins aren't created until first shown.
+     */
+    static long estimateBytes(Scene scene) {
+        if (scene.getRoot() == null) return 0;
+        Set<Image> images = Collections.newSetFromMap(new IdentityHashMap<>());
+        long nodes = 0;
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(scene.getRoot());
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            nodes++;
+            if (node instanceof ImageView && ((ImageView) node).getImage() != null) {
+                images.add(((ImageView) node).getImage());
+            }
+            if (node instanceof Region && ((Region) node).getBackground() != null) {
+                for (BackgroundImage image : ((Region) node).getBackground().getImages()) {
+                    images.add(image.getImage());
+                }
+            }
+            if (node instanceof ScrollPane && ((ScrollPane) node).getContent() != null) {
+                pending.push(((ScrollPane) node).getContent());
+            } else if (node instanceof TabPane) {
+                for (Tab tab : ((TabPane) node).getTabs()) {
+                    if (tab.getContent() != null) pending.push(tab.getContent());
+                }
+            } else if (node instanceof Labeled && ((Labeled) node).getGraphic() != null) {
+                pending.push(((Labeled) node).getGraphic());
+            }
+            if (node instanceof Parent) {
+                for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                    pending.push(child);
+                }
+            }
+        }
+
+        long imageBytes = 0;
+        for (Image image : images) {
+            // Background-loaded images report 0x0 until decoded; fall back to the requested size
+            double width = image.getWidth() > 0 ? image.getWidth() : image.getRequestedWidth();
+            double height = image.getHeight() > 0 ? image.getHeight() : image.getRequestedHeight();
+            imageBytes += (long) (width * height * 4);
+        }
+        return nodes * BYTES_PER_NODE + imageBytes;
+    }
+
+    /**
+     * Get scene cache statistics
+     */
+    public static synchronized String getSceneStats() {
+        long budget = AppConfig.SCENE_CACHE_BUDGET_MB.get() * 1024L * 1024L;
+        long lookups = hits + misses;
+        return String.format(
+            "Scene Cache:\n" +
+            "- Live Scenes: %d (%d dashboards, %d prefetched)\n" +
+            "- Estimated Size: %.1f MB of %.0f MB budget (%.0f%%)\n" +
+            "- Hit Rate: %.1f%% (%d hits, %d misses)\n" +
+            "- Evicted: %d, Expired: %d, Purged: %d",
+            scenes.size(), count(Priority.DASHBOARD), count(Priority.PREFETCH),
+            estimatedBytes / (1024.0 * 1024.0), budget / (1024.0 * 1024.0),
+            budget > 0 ? (double) estimatedBytes / budget * 100 : 0,
+            lookups > 0 ? (double) hits / lookups * 100 : 0, hits, misses,
+            evictions, expirations, purged
+        );
+    }
+}
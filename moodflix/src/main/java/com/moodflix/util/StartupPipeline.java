@@ -0,0 +1,173 @@
+package com.moodflix.util;
+
+import com.moodflix.database.DatabaseInitializer;
+import com.moodflix.model.Content;
+import com.moodflix.service.PostgreSQLAuthService;
+import com.moodflix.service.PostgreSQLContentService;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.control.Alert;
+import org.json.JSONObject;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Staged startup: the landing page is shown right away while the connection pool,
+ * schema check, seeding and warm-up run in parallel on executor lanes. Only actions
+ * that need the database wait for {@link #whenDatabaseReady()}.
+ *
+ * Reports time-to-first-frame (first pulse after the stage is shown) and
+ * time-to-interactive (first frame shown and database ready), both from JVM start.
+ */
+public class StartupPipeline {
+
+    private static final long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private static final CompletableFuture<Void> databaseReady = new CompletableFuture<>();
+    private static final Map<String, Long> stages = new LinkedHashMap<>();
+
+    private static volatile long firstFrameMillis = -1;
+    private static volatile long interactiveMillis = -1;
+    private static volatile String databaseError;
+
+    /**
+     * Kick off background initialization; returns immediately
+     */
+    public static void begin() {
+        mark("main");
+
+        // Pool, schema and seed data; login and signup wait on this
+        AppExecutors.runAsync(AppExecutors.Lane.INTERACTIVE_DB, () -> {
+            DatabaseInitializer.initializeDatabase();
+            mark("schema ready");
+            SampleDataInitializer.initializeSampleData();
+            mark("seed data ready");
+        }).whenComplete((ignored, error) -> {
+            if (error == null) {
+                databaseReady.complete(null);
+                checkInteractive();
+                warmUpQueries();
+            } else {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                databaseError = cause.getMessage();
+                mark("database failed");
+                System.err.println("❌ Failed to initialize database: " + databaseError);
+                System.err.println("Please ensure PostgreSQL is running and properly configured.");
+                databaseReady.completeExceptionally(cause);
+                Platform.runLater(StartupPipeline::showDatabaseError);
+            }
+        });
+
+        // CPU-side warm-up in parallel with the database work
+        PasswordHasher.calibrateAsync();
+        AppExecutors.runAsync(AppExecutors.Lane.CPU, StartupPipeline::warmUpHotPaths);
+    }
+
+    /**
+     * Call right after stage.show() to capture time-to-first-frame
+     */
+    public static void onStageShown(Scene scene) {
+        mark("stage shown");
+        Runnable[] listener = new Runnable[1];
+        listener[0] = () -> {
+            scene.removePostLayoutPulseListener(listener[0]);
+            if (firstFrameMillis < 0) {
+                firstFrameMillis = System.currentTimeMillis() - jvmStartMillis;
+                mark("first frame");
+                PerformanceMonitor.recordOperation("startup_ttff", firstFrameMillis, true);
+                System.out.println("⏱️ Time to first frame: " + firstFrameMillis + "ms");
+                checkInteractive();
+            }
+        };
+        scene.addPostLayoutPulseListener(listener[0]);
+    }
+
+    public static boolean isDatabaseReady() {
+        return databaseReady.isDone() && !databaseReady.isCompletedExceptionally();
+    }
+
+    /**
+     * Completes once the database is usable; completes exceptionally if setup failed
+     */
+    public static CompletableFuture<Void> whenDatabaseReady() {
+        return databaseReady;
+    }
+
+    /**
+     * Block a worker thread until the database is ready; never call on the FX thread
+     */
+    public static void awaitDatabase() throws Exception {
+        try {
+            databaseReady.join();
+        } catch (RuntimeException e) {
+            throw new Exception("Database unavailable: " + databaseError, e);
+        }
+    }
+
+    private static synchronized void checkInteractive() {
+        if (interactiveMillis >= 0 || firstFrameMillis < 0 || !isDatabaseReady()) return;
+        interactiveMillis = System.currentTimeMillis() - jvmStartMillis;
+        stages.put("interactive", interactiveMillis);
+        PerformanceMonitor.recordOperation("startup_tti", interactiveMillis, true);
+        System.out.println("⏱️ Time to interactive: " + interactiveMillis + "ms");
+    }
+
+    private static synchronized void mark(String stage) {
+        stages.put(stage, System.currentTimeMillis() - jvmStartMillis);
+    }
+
+    /**
+     * Exercise the login and recommendation query paths once so the driver, pool
+     * connections and server caches are warm before the first real click
+     */
+    private static void warmUpQueries() {
+        AppExecutors.runAsync(AppExecutors.Lane.INTERACTIVE_DB, () -> {
+            try {
+                new PostgreSQLAuthService().fetchLoginRecord("warmup@moodflix.invalid");
+                new PostgreSQLContentService().getFilteredContentList("Happy", null);
+                mark("queries warmed");
+            } catch (Exception e) {
+                System.err.println("[STARTUP] Query warm-up skipped: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Run the JSON and model code used on every dashboard load so it is compiled early
+     */
+    private static void warmUpHotPaths() {
+        String sample = "{\"title\":\"Warmup\",\"mood\":\"Happy\",\"type\":\"Movie\",\"link\":\"\",\"description\":\"\"}";
+        for (int i = 0; i < 2000; i++) {
+            JSONObject json = new JSONObject(sample);
+            new Content(json.getString("title"), json.getString("mood"), json.getString("type"),
+                        json.getString("link"), json.getString("description"), null);
+        }
+        mark("hot paths warmed");
+    }
+
+    private static void showDatabaseError() {
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle("Database Unavailable");
+        alert.setHeaderText("MoodFlix could not connect to PostgreSQL");
+        alert.setContentText(databaseError + "\n\nPlease ensure PostgreSQL is running and check DatabaseConfig.java.");
+        alert.show();
+    }
+
+    /**
+     * Get startup timing statistics (ms since JVM start)
+     */
+    public static synchronized String getStartupStats() {
+        StringBuilder stats = new StringBuilder("Startup (ms since JVM start):");
+        stats.append(String.format("\n- Time to First Frame: %s", firstFrameMillis < 0 ? "pending" : firstFrameMillis + "ms"));
+        stats.append(String.format("\n- Time to Interactive: %s", interactiveMillis < 0 ? "pending" : interactiveMillis + "ms"));
+        for (Map.Entry<String, Long> stage : stages.entrySet()) {
+            stats.append(String.format("\n- %s: %dms", stage.getKey(), stage.getValue()));
+        }
+        if (databaseError != null) {
+            stats.append("\n⚠ Database: ").append(databaseError);
+        }
+        return stats.toString();
+    }
+}
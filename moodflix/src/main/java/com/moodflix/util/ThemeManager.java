@@ -3,6 +3,7 @@ package com.moodflix.util;
 import javafx.scene.Scene;
 import javafx.scene.Parent;
 import javafx.animation.*;
+import javafx.scene.CacheHint;
 import javafx.scene.Node;
 import javafx.util.Duration;
 
@@ -26,6 +27,13 @@ public class ThemeManager {
         }
     }
     
+    /**
+     * Identifies how themed nodes currently look, for caches of rendered output.
+     */
+    public static String themeKey() {
+        return THEME_CSS + (RenderingMode.isLowOverhead() ? "+low-overhead" : "");
+    }
+    
     /**
      * Create a themed scene from a root node.
      */
@@ -45,6 +53,10 @@ public class ThemeManager {
     }
     
     public static void fadeIn(Node node, double durationMs, double delayMs) {
+        if (RenderingMode.isLowOverhead()) {
+            node.setOpacity(1);
+            return;
+        }
         node.setOpacity(0);
         FadeTransition ft = new FadeTransition(Duration.millis(durationMs), node);
         ft.setFromValue(0);
@@ -58,6 +70,11 @@ public class ThemeManager {
      * Slide-up + fade-in animation.
      */
     public static void slideUp(Node node, double durationMs, double delayMs) {
+        if (RenderingMode.isLowOverhead()) {
+            node.setOpacity(1);
+            node.setTranslateY(0);
+            return;
+        }
         node.setOpacity(0);
         node.setTranslateY(30);
         
@@ -81,6 +98,7 @@ public class ThemeManager {
      * Scale bounce animation (for buttons, cards on click).
      */
     public static void scalePop(Node node) {
+        if (RenderingMode.isLowOverhead()) return;
         ScaleTransition st = new ScaleTransition(Duration.millis(150), node);
         st.setFromX(1.0);
         st.setFromY(1.0);
@@ -104,7 +122,23 @@ public class ThemeManager {
         st.setAutoReverse(true);
         st.setCycleCount(Animation.INDEFINITE);
         st.setInterpolator(Interpolator.EASE_BOTH);
-        st.play();
+        playAmbient(st);
+    }
+    
+    /**
+     * Play a never-ending decorative animation; stopped while low-overhead rendering is on.
+     */
+    public static void playAmbient(Animation animation) {
+        RenderingMode.playAmbient(animation);
+    }
+    
+    /**
+     * Cache a card that rarely changes as a bitmap, so its shadow and rounded
+     * background aren't redrawn on every pulse.
+     */
+    public static void cacheStatic(Node node) {
+        node.setCache(true);
+        node.setCacheHint(CacheHint.SPEED);
     }
     
     /**
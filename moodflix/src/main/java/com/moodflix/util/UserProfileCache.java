@@ -0,0 +1,106 @@
+package com.moodflix.util;
+
+import org.json.JSONObject;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded LRU cache of user profiles keyed by user id, filled at login and
+ * invalidated whenever a profile row is written
+ */
+public class UserProfileCache {
+
+    private static final int MAX_ENTRIES = 256;
+
+    private static final Map<Integer, CachedProfile> profiles = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, CachedProfile> eldest) {
+            if (size() > MAX_ENTRIES) {
+                emailIndex.remove(eldest.getValue().email, eldest.getKey());
+                return true;
+            }
+            return false;
+        }
+    };
+    private static final ConcurrentHashMap<String, Integer> emailIndex = new ConcurrentHashMap<>();
+
+    private static long hits = 0;
+    private static long misses = 0;
+
+    private static class CachedProfile {
+        final String email;
+        final JSONObject profile;
+        final long timestamp;
+
+        CachedProfile(String email, JSONObject profile) {
+            this.email = email;
+            this.profile = profile;
+            this.timestamp = System.currentTimeMillis();
+        }
+
+        boolean isExpired() {
+            return (System.currentTimeMillis() - timestamp) > AppConfig.PROFILE_CACHE_TTL_MS.get();
+        }
+    }
+
+    /**
+     * Cache a profile; a defensive copy is stored so callers can keep mutating theirs
+     */
+    public static synchronized void put(int userId, String email, JSONObject profile) {
+        if (userId < 0 || email == null || profile == null) return;
+        profiles.put(userId, new CachedProfile(email, new JSONObject(profile.toString())));
+        emailIndex.put(email, userId);
+    }
+
+    public static synchronized JSONObject get(int userId) {
+        CachedProfile cached = profiles.get(userId);
+        if (cached == null || cached.isExpired()) {
+            if (cached != null) {
+                profiles.remove(userId);
+                emailIndex.remove(cached.email, userId);
+            }
+            misses++;
+            return null;
+        }
+        hits++;
+        return new JSONObject(cached.profile.toString());
+    }
+
+    public static JSONObject getByEmail(String email) {
+        if (email == null) return null;
+        Integer userId = emailIndex.get(email);
+        if (userId == null) {
+            synchronized (UserProfileCache.class) {
+                misses++;
+            }
+            return null;
+        }
+        return get(userId);
+    }
+
+    /**
+     * Drop the cached profile for a user whose row has just been updated
+     */
+    public static synchronized void invalidate(String email) {
+        if (email == null) return;
+        Integer userId = emailIndex.remove(email);
+        if (userId != null) {
+            profiles.remove(userId);
+            System.out.println("[PROFILE-CACHE] Invalidated profile for: " + email);
+        }
+    }
+
+    public static synchronized void clear() {
+        profiles.clear();
+        emailIndex.clear();
+    }
+
+    public static synchronized String getCacheStats() {
+        long total = hits + misses;
+        double hitRate = total > 0 ? (double) hits / total * 100 : 0;
+        return String.format("Profile Cache - Size: %d/%d, Hits: %d, Misses: %d, Hit Rate: %.1f%%",
+                           profiles.size(), MAX_ENTRIES, hits, misses, hitRate);
+    }
+}
@@ -15,6 +15,7 @@ public class LoginPage {
     private VBox view;
     private TextField emailField;
     private PasswordField passwordField;
+    private CheckBox rememberMeBox;
     private Button loginBtn;
     private Button resetBtn;
     private Button createBtn;
@@ -140,6 +141,9 @@ public class LoginPage {
         passwordField.setMaxWidth(360);
         passBox.getChildren().addAll(passLabel, passwordField);
 
+        rememberMeBox = new CheckBox("Keep me signed in");
+        rememberMeBox.getStyleClass().add("label-secondary");
+
         // Buttons
         loginBtn = new Button("Login");
         loginBtn.getStyleClass().add("btn");
@@ -189,13 +193,14 @@ public class LoginPage {
         Separator sep = new Separator();
         sep.setMaxWidth(300);
 
-        loginForm.getChildren().addAll(formTitle, emailBox, passBox, buttonBox, statusText, sep, signupBox);
+        loginForm.getChildren().addAll(formTitle, emailBox, passBox, rememberMeBox, buttonBox, statusText, sep, signupBox);
     }
 
     // Getters
     public VBox getView() { return view; }
     public TextField getEmailField() { return emailField; }
     public PasswordField getPasswordField() { return passwordField; }
+    public CheckBox getRememberMeBox() { return rememberMeBox; }
     public Button getLoginBtn() { return loginBtn; }
     public Button getResetBtn() { return resetBtn; }
     public Button getCreateBtn() { return createBtn; }
@@ -35,6 +35,7 @@ public class ProfilePage {
     private Label languageValueLabel;
     private Label birthDateValueLabel;
     private Label newsletterValueLabel;
+    private CheckBox performanceModeCheck;
 
     public ProfilePage(String userEmail) {
         createView(userEmail);
@@ -213,7 +214,10 @@ public class ProfilePage {
         Label memberSinceLabel = new Label("🎭 Member Since: December 2024");
         memberSinceLabel.getStyleClass().add("label-muted");
 
-        accountSection.getChildren().addAll(sectionTitle, joinDateLabel, lastLoginLabel, accountStatusLabel, memberSinceLabel);
+        performanceModeCheck = new CheckBox("⚡ Performance mode (fewer effects and animations)");
+        performanceModeCheck.getStyleClass().add("label-muted");
+
+        accountSection.getChildren().addAll(sectionTitle, joinDateLabel, lastLoginLabel, accountStatusLabel, memberSinceLabel, performanceModeCheck);
         return accountSection;
     }
 
@@ -267,4 +271,5 @@ public class ProfilePage {
     public Label getLanguageValueLabel() { return languageValueLabel; }
     public Label getBirthDateValueLabel() { return birthDateValueLabel; }
     public Label getNewsletterValueLabel() { return newsletterValueLabel; }
+    public CheckBox getPerformanceModeCheck() { return performanceModeCheck; }
 } 
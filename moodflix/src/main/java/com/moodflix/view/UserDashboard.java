@@ -1,5 +1,11 @@
 package com.moodflix.view;
 
+import com.moodflix.util.AppExecutors;
+import com.moodflix.util.CardSnapshots;
+import com.moodflix.util.FxThreadWatchdog;
+import com.moodflix.util.MoodPrefetcher;
+import com.moodflix.util.PerformanceMonitor;
+import com.moodflix.util.PerformanceOptimizer;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
@@ -74,13 +80,21 @@ public class UserDashboard {
     private Label welcomeLabel;
     private Label subtitleLabel;
     private VBox illustrationSection;
+    private StackPane chatWindow;
+    // Filled by the controller from the dashboard bootstrap; attached when their sections are built
+    private final HBox trendingRow = new HBox(18);
+    private final HBox achievementsBox = new HBox(12);
 
     public UserDashboard() {
         this(null);
     }
     public UserDashboard(HostServices hostServices) {
         this.hostServices = hostServices;
+        long start = System.nanoTime();
         createModernDashboard();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        PerformanceMonitor.recordOperation("dashboard_construct", elapsedMs, true);
+        System.out.println("[PERF] UserDashboard constructed in " + elapsedMs + "ms");
     }
   
     private void createModernDashboard() {
@@ -98,13 +112,8 @@ public class UserDashboard {
         // HERO SECTION
         StackPane heroSection = new StackPane();
         heroSection.setPrefHeight(260);
-        Image heroBackground;
-        try {
-            heroBackground = new Image(getClass().getResourceAsStream("/backgroundimage.jpeg"));
-        } catch (Exception ex) {
-            heroBackground = new Image("https://images.unsplash.com/photo-1464983953574-0892a716854b?auto=format&fit=crop&w=900&q=80", 900, 260, false, true);
-        }
-        ImageView heroBg = new ImageView(heroBackground);
+        // Bundled asset only; the section's background color shows if it is missing
+        ImageView heroBg = new ImageView(bundledImage("/backgroundimage.jpeg", 0, 0));
         heroBg.setPreserveRatio(false);
         heroBg.setOpacity(0.7);
         // Bind heroBg width to heroSection width for full screen effect
@@ -127,12 +136,12 @@ public class UserDashboard {
         scale.setToX(1.12); scale.setToY(1.12);
         scale.setAutoReverse(true);
         scale.setCycleCount(Animation.INDEFINITE);
-        scale.play();
+        ThemeManager.playAmbient(scale);
         FillTransition fill = new FillTransition(Duration.seconds(2.2), moodflixTitle,
             Color.web("#667eea"), Color.web("#764ba2"));
         fill.setAutoReverse(true);
         fill.setCycleCount(Animation.INDEFINITE);
-        fill.play();
+        ThemeManager.playAmbient(fill);
         // Add MoodFlix title above heroTitle
         Label heroTitle = new Label("Discover\nEntertainment\nThat Matches Your Mood");
         heroTitle.getStyleClass().add("hero-title");
@@ -205,6 +214,7 @@ public class UserDashboard {
             desc.setFont(Font.font("Arial", 12));
             desc.setTextFill(Color.LIGHTGRAY);
             card.getChildren().addAll(emoji, label, desc);
+            ThemeManager.cacheStatic(card);
             final int moodIndex = i;
             card.setOnMouseClicked(e -> {
                 for (Node n : moodCards.getChildren()) n.setStyle("-fx-background-color: #23272f; -fx-background-radius: 16; -fx-effect: dropshadow(gaussian, #00000044, 4, 0, 0, 2);");
@@ -263,7 +273,7 @@ public class UserDashboard {
             if (moodCombo.getValue() != null && !moodCombo.getValue().isEmpty() && typeCombo.getValue() != null && !typeCombo.getValue().isEmpty()) {
                 // Show loading if desired
                 showRecommendationsLoading();
-                new Thread(() -> {
+                AppExecutors.execute(AppExecutors.Lane.INTERACTIVE_DB, () -> {
                     try {
                         com.moodflix.service.PostgreSQLContentService service = new com.moodflix.service.PostgreSQLContentService();
                         java.util.List<com.moodflix.model.Content> results = service.getFilteredContentList(moodCombo.getValue(), typeCombo.getValue());
@@ -276,7 +286,7 @@ public class UserDashboard {
                     } catch (Exception ex) {
                         javafx.application.Platform.runLater(() -> showRecommendationsError(ex.getMessage()));
                     }
-                }).start();
+                });
             }
         });
 
@@ -290,43 +300,94 @@ public class UserDashboard {
         recSection.getChildren().addAll(recTitle, recBtnBox, recDropdownAndBtn, recommendationsContainer);
         mainContainer.getChildren().add(recSection);
 
-        // TRENDING NOW SECTION
+        // Below-the-fold sections are built the first time they scroll near the viewport
         VBox trendingSection = new VBox(10);
+        trendingSection.setMinHeight(230);
+        mainContainer.getChildren().add(trendingSection);
+        VBox statsSection = new VBox();
+        statsSection.setMinHeight(120);
+        mainContainer.getChildren().add(statsSection);
+
+        recommendationsContainer = new VBox();
+        recommendationsContainer.setAlignment(Pos.CENTER);
+        recommendationsContainer.setPadding(new Insets(10, 0, 10, 0));
+        mainContainer.getChildren().add(recommendationsContainer);
+
+        // After mainContainer is fully built:
+        ScrollPane dashboardScrollPane = new ScrollPane(mainContainer);
+        dashboardScrollPane.setFitToWidth(true);
+        dashboardScrollPane.setFitToHeight(false);
+        dashboardScrollPane.setStyle("-fx-background: transparent; -fx-border-color: transparent;");
+        // --- Chatbot Floating Button; the window is built on first open ---
+        Button chatBtn = new Button("🎬"); // Film clapperboard emoji for movie/entertainment theme
+        chatBtn.getStyleClass().addAll("btn", "btn-success");
+        chatBtn.setPrefSize(80, 60);
+        chatBtn.setLayoutX(1000); // Will be positioned in StackPane
+        chatBtn.setLayoutY(600);
+
+        // Add to main StackPane overlay
+        StackPane overlay = new StackPane();
+        overlay.setPickOnBounds(false);
+        overlay.getChildren().addAll(dashboardScrollPane, chatBtn);
+        StackPane.setAlignment(chatBtn, Pos.BOTTOM_RIGHT);
+        StackPane.setMargin(chatBtn, new Insets(0, 40, 40, 0));
+
+        // Show/hide chat window
+        chatBtn.setOnAction(e -> {
+            if (chatWindow == null) {
+                chatWindow = buildChatWindow();
+                overlay.getChildren().add(chatWindow);
+                StackPane.setAlignment(chatWindow, Pos.BOTTOM_RIGHT);
+                StackPane.setMargin(chatWindow, new Insets(0, 40, 110, 0));
+            }
+            chatWindow.setVisible(!chatWindow.isVisible());
+        });
+
+        buildWhenNearViewport(dashboardScrollPane, trendingSection, "trending", this::buildTrendingSection);
+        buildWhenNearViewport(dashboardScrollPane, statsSection, "stats", this::buildStatsSection);
+        mainView.setCenter(overlay);
+        this.view = mainView;
+    }
+
+    private void buildTrendingSection(VBox trendingSection) {
         trendingSection.setAlignment(Pos.CENTER_LEFT);
         trendingSection.setPadding(new Insets(10, 0, 10, 40));
         Label trendingTitle = new Label("Trending Now");
         trendingTitle.getStyleClass().add("section-title");
-        HBox trendingRow = new HBox(18);
         trendingRow.setAlignment(Pos.CENTER_LEFT);
         trendingRow.setPadding(new Insets(10, 0, 10, 0));
         String[][] trending = {
-            {"https://m.media-amazon.com/images/I/71niXI3lxlL._AC_SY679_.jpg", "Action Thriller"},
-            {"https://m.media-amazon.com/images/I/81p+xe8cbnL._AC_SY679_.jpg", "Love Story"},
-            {"https://m.media-amazon.com/images/I/91G8kOe7tLL._AC_SY679_.jpg", "Space Series"},
-            {"https://m.media-amazon.com/images/I/81Q1bJz4GLL._AC_SY679_.jpg", "Dark Secrets"},
-            {"https://m.media-amazon.com/images/I/81Zt42ioCgL._AC_SY679_.jpg", "Laugh Out Loud"},
-            {"https://m.media-amazon.com/images/I/81VwqH9hQbL._AC_SY679_.jpg", "Wild Nature"}
+            {"/3 idiots.jpeg", "Action Thriller"},
+            {"/panchayat.jpeg", "Love Story"},
+            {"/strangerthings.jpeg", "Space Series"},
+            {"/dil bechara.jpeg", "Dark Secrets"},
+            {"/super30.jpeg", "Laugh Out Loud"},
+            {"/Gullak.jpeg", "Wild Nature"}
         };
-        for (String[] t : trending) {
-            VBox card = new VBox(8);
-            card.setAlignment(Pos.TOP_CENTER);
-            card.setPrefWidth(120);
-            card.getStyleClass().add("poster-card");
-            ImageView poster = new ImageView(new Image(t[0], 120, 160, true, true));
-            poster.setFitWidth(120);
-            poster.setFitHeight(160);
-            poster.setPreserveRatio(true);
-            poster.setSmooth(true);
-            Label label = new Label(t[1]);
-            card.getChildren().addAll(poster, label);
-            card.setOnMouseClicked(e -> {
-                Alert alert = new Alert(Alert.AlertType.INFORMATION);
-                alert.setTitle("Trending");
-                alert.setHeaderText(null);
-                alert.setContentText("You clicked on: " + t[1]);
-                alert.showAndWait();
-            });
-            trendingRow.getChildren().add(card);
+        // Placeholders only until the bootstrap's trending content arrives
+        if (trendingRow.getChildren().isEmpty()) {
+            for (String[] t : trending) {
+                VBox card = new VBox(8);
+                card.setAlignment(Pos.TOP_CENTER);
+                card.setPrefWidth(120);
+                card.getStyleClass().add("poster-card");
+                ImageView poster = new ImageView(bundledImage(t[0], 120, 160));
+                poster.setFitWidth(120);
+                poster.setFitHeight(160);
+                poster.setPreserveRatio(true);
+                poster.setSmooth(true);
+                Label label = new Label(t[1]);
+                card.getChildren().addAll(poster, label);
+                ThemeManager.cacheStatic(card);
+                card.setOnMouseClicked(e -> {
+                    Alert alert = new Alert(Alert.AlertType.INFORMATION);
+                    alert.setTitle("Trending");
+                    alert.setHeaderText(null);
+                    alert.setContentText("You clicked on: " + t[1]);
+                    alert.showAndWait();
+                });
+                trendingRow.getChildren().add(card);
+            }
         }
         ScrollPane trendingScroll = new ScrollPane(trendingRow);
         trendingScroll.setHbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
@@ -335,9 +396,9 @@ public class UserDashboard {
         trendingScroll.setFitToWidth(false);
         trendingScroll.setStyle("-fx-background: transparent; -fx-border-color: transparent;");
         trendingSection.getChildren().addAll(trendingTitle, trendingScroll);
-        mainContainer.getChildren().add(trendingSection);
+    }
 
-        // STATS BAR
+    private void buildStatsSection(VBox statsSection) {
         HBox statsBar = new HBox(40);
         statsBar.setAlignment(Pos.CENTER);
         statsBar.setPadding(new Insets(30, 0, 30, 0));
@@ -359,32 +420,61 @@ public class UserDashboard {
             statBox.getChildren().addAll(statNum, statLabel);
             statsBar.getChildren().add(statBox);
         }
-        mainContainer.getChildren().add(statsBar);
+        Label achievementsTitle = new Label("Your Achievements");
+        achievementsTitle.getStyleClass().add("section-title");
+        achievementsBox.setAlignment(Pos.CENTER);
+        VBox achievementsSection = new VBox(10, achievementsTitle, achievementsBox);
+        achievementsSection.setAlignment(Pos.CENTER);
+        achievementsSection.setPadding(new Insets(10, 0, 20, 0));
+        statsSection.getChildren().addAll(statsBar, achievementsSection);
+    }
 
-        recommendationsContainer = new VBox();
-        recommendationsContainer.setAlignment(Pos.CENTER);
-        recommendationsContainer.setPadding(new Insets(10, 0, 10, 0));
-        mainContainer.getChildren().add(recommendationsContainer);
+    /**
+     * Build a section the first time it comes within a screen of the viewport
+     */
+    private void buildWhenNearViewport(ScrollPane scroll, VBox section, String name, java.util.function.Consumer<VBox> builder) {
+        javafx.beans.value.ChangeListener<Object> check = new javafx.beans.value.ChangeListener<>() {
+            @Override
+            public void changed(javafx.beans.value.ObservableValue<?> obs, Object oldValue, Object newValue) {
+                double viewportHeight = scroll.getViewportBounds().getHeight();
+                // Not laid out yet; the section always sits below the hero
+                if (viewportHeight <= 0 || section.getLayoutY() <= 0 || scroll.getContent() == null) return;
+                double contentHeight = scroll.getContent().getLayoutBounds().getHeight();
+                double top = scroll.getVvalue() * Math.max(0, contentHeight - viewportHeight);
+                if (section.getLayoutY() > top + viewportHeight * 2) return;
 
-        // After mainContainer is fully built:
-        ScrollPane dashboardScrollPane = new ScrollPane(mainContainer);
-        dashboardScrollPane.setFitToWidth(true);
-        dashboardScrollPane.setFitToHeight(false);
-        dashboardScrollPane.setStyle("-fx-background: transparent; -fx-border-color: transparent;");
-        // --- Chatbot Floating Button and Window ---
-        Button chatBtn = new Button("🎬"); // Film clapperboard emoji for movie/entertainment theme
-        chatBtn.getStyleClass().addAll("btn", "btn-success");
-        chatBtn.setPrefSize(80, 60);
-        chatBtn.setLayoutX(1000); // Will be positioned in StackPane
-        chatBtn.setLayoutY(600);
+                scroll.vvalueProperty().removeListener(this);
+                scroll.viewportBoundsProperty().removeListener(this);
+                section.layoutYProperty().removeListener(this);
+                long start = System.nanoTime();
+                builder.accept(section);
+                section.setMinHeight(Region.USE_COMPUTED_SIZE);
+                PerformanceMonitor.recordOperation("dashboard_section_" + name, (System.nanoTime() - start) / 1_000_000, true);
+            }
+        };
+        scroll.vvalueProperty().addListener(check);
+        scroll.viewportBoundsProperty().addListener(check);
+        section.layoutYProperty().addListener(check);
+    }
+
+    /**
+     * Bundled image from resources, decoded in the background at display size;
+     * null if the asset is missing
+     */
+    private Image bundledImage(String path, double width, double height) {
+        java.net.URL url = getClass().getResource(path);
+        if (url == null) return null;
+        return new Image(url.toExternalForm(), width, height, true, true, true);
+    }
 
+    private StackPane buildChatWindow() {
         StackPane chatWindow = new StackPane();
         chatWindow.setMaxWidth(320);
         chatWindow.setPrefWidth(320);
         chatWindow.setStyle("-fx-border-color: #764ba2; -fx-border-radius: 18; -fx-effect: dropshadow(gaussian, #764ba2, 12, 0, 0, 2);");
         chatWindow.setVisible(false);
         // Background image
-        ImageView chatBgImg = new ImageView(new Image("https://images.unsplash.com/photo-1465101046530-73398c7f28ca?auto=format&fit=crop&w=400&q=80", 320, 400, false, true));
+        ImageView chatBgImg = new ImageView(bundledImage("/thetereimage.jpeg", 320, 400));
         chatBgImg.setFitWidth(320);
         chatBgImg.setPreserveRatio(false);
         chatBgImg.setSmooth(true);
@@ -418,23 +508,11 @@ public class UserDashboard {
         chatOverlay.getChildren().setAll(chatTitle, chatScroll, chatInputBox);
         chatWindow.getChildren().setAll(chatBgImg, chatOverlay);
 
-        // Show/hide chat window
-        chatBtn.setOnAction(e -> chatWindow.setVisible(!chatWindow.isVisible()));
-
         // Chatbot logic (rich chat)
         sendBtn.setOnAction(e -> handleRichChat(chatInput, chatHistory, chatScroll));
         chatInput.setOnKeyPressed(e -> { if (e.getCode() == KeyCode.ENTER) handleRichChat(chatInput, chatHistory, chatScroll); });
 
-        // Add to main StackPane overlay
-        StackPane overlay = new StackPane();
-        overlay.setPickOnBounds(false);
-        overlay.getChildren().addAll(dashboardScrollPane, chatBtn, chatWindow);
-        StackPane.setAlignment(chatBtn, Pos.BOTTOM_RIGHT);
-        StackPane.setMargin(chatBtn, new Insets(0, 40, 40, 0));
-        StackPane.setAlignment(chatWindow, Pos.BOTTOM_RIGHT);
-        StackPane.setMargin(chatWindow, new Insets(0, 40, 110, 0));
-        mainView.setCenter(overlay);
-        this.view = mainView;
+        return chatWindow;
     }
 
     private void createSidebar() {
@@ -570,17 +648,13 @@ public class UserDashboard {
         illustrationSection.setPadding(new Insets(10, 0, 30, 0));
         illustrationSection.setStyle("-fx-background-color: transparent;");
 
-        // Modern illustration (web image)
-        ImageView illustration = new ImageView();
+        // Illustration; bundledImage already decodes it in the background
+        ImageView illustration = new ImageView(bundledImage("/thetereimage.jpeg", 320, 180));
         illustration.setFitWidth(320);
         illustration.setFitHeight(180);
         illustration.setPreserveRatio(true);
         illustration.setSmooth(true);
         illustrationSection.getChildren().add(illustration);
-        new Thread(() -> {
-            Image img = new Image("https://undraw.co/api/illustrations/undraw_movie_night_re_9umk.svg", 320, 180, true, true);
-            javafx.application.Platform.runLater(() -> illustration.setImage(img));
-        }).start();
 
         // Motivational quote
         Label quote = new Label("\"Movies, music, and shows for every mood. Let your feelings guide your entertainment!\"");
@@ -613,113 +687,9 @@ public class UserDashboard {
         int row = 0, col = 0;
         for (Content c : contentList) {
             System.out.println("[DEBUG] Content: " + c.getTitle() + ", imageUrl: '" + c.getImageUrl() + "'");
-            VBox card = new VBox(10);
-            card.setPadding(new Insets(20));
-            card.setAlignment(Pos.TOP_CENTER);
-            card.setStyle("-fx-background-color: white; -fx-background-radius: 15; -fx-effect: dropshadow(gaussian, rgba(0,0,0,0.08), 8, 0, 0, 2);");
-            card.setPrefWidth(220);
-            card.setMaxWidth(220);
-            card.setPrefHeight(400);
-            card.setMaxHeight(400);
-            // Icon or Image
-            final String icon;
-            if (c.getType().equalsIgnoreCase("series")) icon = "\uD83D\uDCFA";
-            else if (c.getType().equalsIgnoreCase("song")) icon = "\uD83C\uDFB5";
-            else if (c.getType().equalsIgnoreCase("documentary")) icon = "\uD83D\uDCC4";
-            else if (c.getType().equalsIgnoreCase("short")) icon = "\uD83C\uDFAC";
-            else icon = "\uD83C\uDFAC";
-            Node topNode;
-            if (c.getImageUrl() != null && !c.getImageUrl().isEmpty()) {
-                try {
-                    System.out.println("[DEBUG] Loading image for card: " + c.getTitle() + " | URL: " + c.getImageUrl());
-                    Image img = new Image(c.getImageUrl(), 160, 220, true, true);
-                    ImageView imgView = new ImageView(img);
-                    imgView.setFitWidth(160);
-                    imgView.setFitHeight(220);
-                    imgView.setSmooth(true);
-                    imgView.setPreserveRatio(true);
-                    imgView.setStyle("-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.18), 8, 0, 0, 2); -fx-border-color: #cccccc; -fx-border-width: 1; -fx-background-radius: 8;");
-                    Tooltip.install(imgView, new Tooltip(c.getTitle()));
-                    img.errorProperty().addListener((obs, wasError, isError) -> {
-                        if (isError) {
-                            System.out.println("[WARNING] Failed to load image for card: " + c.getTitle() + " | URL: " + c.getImageUrl());
-                            Image placeholder = new Image("https://via.placeholder.com/160x220?text=No+Image");
-                            imgView.setImage(placeholder);
-                        }
-                    });
-                    topNode = imgView;
-                } catch (Exception ex) {
-                    System.out.println("[ERROR] Exception loading image for card: " + c.getTitle() + " | URL: " + c.getImageUrl() + " | Exception: " + ex.getMessage());
-                    ImageView imgView = new ImageView(new Image("https://via.placeholder.com/160x220?text=No+Image"));
-                    imgView.setFitWidth(160);
-                    imgView.setFitHeight(220);
-                    imgView.setPreserveRatio(true);
-                    imgView.setStyle("-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.18), 8, 0, 0, 2); -fx-border-color: #cccccc; -fx-border-width: 1; -fx-background-radius: 8;");
-                    Tooltip.install(imgView, new Tooltip(c.getTitle()));
-                    topNode = imgView;
-                }
-            } else {
-                System.out.println("[WARNING] No imageUrl for card: " + c.getTitle());
-                ImageView imgView = new ImageView(new Image("https://via.placeholder.com/160x220?text=No+Image"));
-                imgView.setFitWidth(160);
-                imgView.setFitHeight(220);
-                imgView.setPreserveRatio(true);
-                imgView.setStyle("-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.18), 8, 0, 0, 2); -fx-border-color: #cccccc; -fx-border-width: 1; -fx-background-radius: 8;");
-                Tooltip.install(imgView, new Tooltip(c.getTitle()));
-                topNode = imgView;
-            }
-            // Title
-            Label titleLabel = new Label(c.getTitle());
-            titleLabel.setFont(Font.font("Arial", FontWeight.BOLD, 18));
-            titleLabel.setTextFill(Color.web("#333333"));
-            // Type
-            Label typeLabel = new Label(c.getType());
-            typeLabel.setFont(Font.font("Arial", 12));
-            typeLabel.setTextFill(Color.web("#666666"));
-            // Description
-            Text descText = new Text(c.getDescription() != null ? c.getDescription() : "No description available.");
-            descText.setFont(Font.font("Arial", 13));
-            descText.setWrappingWidth(180);
-            // Link
-            Hyperlink link = new Hyperlink(c.getLink());
-            link.setOnAction(e -> {
-                try {
-                    java.awt.Desktop.getDesktop().browse(new java.net.URI(c.getLink()));
-                } catch (Exception ex) {
-                    Alert error = new Alert(Alert.AlertType.ERROR);
-                    error.setTitle("Error");
-                    error.setHeaderText("Could not open link");
-                    error.setContentText("Failed to open the link: " + ex.getMessage());
-                    error.showAndWait();
-                }
-            });
-            // Add to Watchlist button for this card
-            Button addToWatchlistBtn = new Button("Add to Watchlist");
-            addToWatchlistBtn.setStyle("-fx-background-color: #764ba2; -fx-text-fill: white; -fx-font-weight: bold; -fx-background-radius: 20; -fx-padding: 6 16; -fx-font-size: 13;");
-            addToWatchlistBtn.setUserData(c); // Store content object for controller
-            // Scrollable content area
-            VBox cardContent = new VBox(8);
-            cardContent.getChildren().addAll(titleLabel, typeLabel, descText, link, addToWatchlistBtn);
-            cardContent.setPrefWidth(180);
-            ScrollPane cardScroll = new ScrollPane(cardContent);
-            cardScroll.setFitToWidth(true);
-            cardScroll.setPrefHeight(120);
-            cardScroll.setMaxHeight(120);
-            cardScroll.setVbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
-            cardScroll.setHbarPolicy(ScrollPane.ScrollBarPolicy.NEVER);
-            card.getChildren().addAll(topNode, cardScroll);
-            // Make card clickable to open the content link directly
-            card.setOnMouseClicked(event -> {
-                try {
-                    java.awt.Desktop.getDesktop().browse(new java.net.URI(c.getLink()));
-                } catch (Exception ex) {
-                    Alert error = new Alert(Alert.AlertType.ERROR);
-                    error.setTitle("Error");
-                    error.setHeaderText("Could not open link");
-                    error.setContentText("Failed to open the link: " + ex.getMessage());
-                    error.showAndWait();
-                }
-            });
+            Image poster = loadGridPoster(c);
+            // A static snapshot until hovered or focused; the live card is rebuilt on demand
+            Node card = CardSnapshots.create("grid:" + c.getTitle() + "|" + c.getLink(), poster, () -> createRecommendationCard(c, poster));
             grid.add(card, col, row);
             col++;
             if (col == cols) { col = 0; row++; }
@@ -738,6 +708,100 @@ public class UserDashboard {
         return scene;
     }
 
+    /**
+     * Poster for a grid card, or the placeholder when there is none or it can't be loaded
+     */
+    private static Image loadGridPoster(Content c) {
+        if (c.getImageUrl() != null && !c.getImageUrl().isEmpty()) {
+            try {
+                System.out.println("[DEBUG] Loading image for card: " + c.getTitle() + " | URL: " + c.getImageUrl());
+                return new Image(c.getImageUrl(), 160, 220, true, true);
+            } catch (Exception ex) {
+                System.out.println("[ERROR] Exception loading image for card: " + c.getTitle() + " | URL: " + c.getImageUrl() + " | Exception: " + ex.getMessage());
+                return new Image("https://via.placeholder.com/160x220?text=No+Image");
+            }
+        }
+        System.out.println("[WARNING] No imageUrl for card: " + c.getTitle());
+        return new Image("https://via.placeholder.com/160x220?text=No+Image");
+    }
+
+    /**
+     * One live recommendation card: poster, title, type, scrollable description, link and watchlist button
+     */
+    public static VBox createRecommendationCard(Content c, Image poster) {
+        VBox card = new VBox(10);
+        card.setPadding(new Insets(20));
+        card.setAlignment(Pos.TOP_CENTER);
+        card.setStyle("-fx-background-color: white; -fx-background-radius: 15; -fx-effect: dropshadow(gaussian, rgba(0,0,0,0.08), 8, 0, 0, 2);");
+        card.setPrefWidth(220);
+        card.setMaxWidth(220);
+        card.setPrefHeight(400);
+        card.setMaxHeight(400);
+        ImageView imgView = new ImageView(poster);
+        imgView.setFitWidth(160);
+        imgView.setFitHeight(220);
+        imgView.setSmooth(true);
+        imgView.setPreserveRatio(true);
+        imgView.setStyle("-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.18), 8, 0, 0, 2); -fx-border-color: #cccccc; -fx-border-width: 1; -fx-background-radius: 8;");
+        Tooltip.install(imgView, new Tooltip(c.getTitle()));
+        // The poster is shared by rebuilt cards, so it may have failed already
+        if (poster.isError()) {
+            imgView.setImage(new Image("https://via.placeholder.com/160x220?text=No+Image"));
+        }
+        poster.errorProperty().addListener((obs, wasError, isError) -> {
+            if (isError) {
+                System.out.println("[WARNING] Failed to load image for card: " + c.getTitle() + " | URL: " + c.getImageUrl());
+                Image placeholder = new Image("https://via.placeholder.com/160x220?text=No+Image");
+                imgView.setImage(placeholder);
+            }
+        });
+        // Title
+        Label titleLabel = new Label(c.getTitle());
+        titleLabel.setFont(Font.font("Arial", FontWeight.BOLD, 18));
+        titleLabel.setTextFill(Color.web("#333333"));
+        // Type
+        Label typeLabel = new Label(c.getType());
+        typeLabel.setFont(Font.font("Arial", 12));
+        typeLabel.setTextFill(Color.web("#666666"));
+        // Description
+        Text descText = new Text(c.getDescription() != null ? c.getDescription() : "No description available.");
+        descText.setFont(Font.font("Arial", 13));
+        descText.setWrappingWidth(180);
+        // Link
+        Hyperlink link = new Hyperlink(c.getLink());
+        link.setOnAction(e -> openContentLink(c));
+        // Add to Watchlist button for this card
+        Button addToWatchlistBtn = new Button("Add to Watchlist");
+        addToWatchlistBtn.setStyle("-fx-background-color: #764ba2; -fx-text-fill: white; -fx-font-weight: bold; -fx-background-radius: 20; -fx-padding: 6 16; -fx-font-size: 13;");
+        addToWatchlistBtn.setUserData(c); // Store content object for controller
+        // Scrollable content area
+        VBox cardContent = new VBox(8);
+        cardContent.getChildren().addAll(titleLabel, typeLabel, descText, link, addToWatchlistBtn);
+        cardContent.setPrefWidth(180);
+        ScrollPane cardScroll = new ScrollPane(cardContent);
+        cardScroll.setFitToWidth(true);
+        cardScroll.setPrefHeight(120);
+        cardScroll.setMaxHeight(120);
+        cardScroll.setVbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
+        cardScroll.setHbarPolicy(ScrollPane.ScrollBarPolicy.NEVER);
+        card.getChildren().addAll(imgView, cardScroll);
+        // Make card clickable to open the content link directly
+        card.setOnMouseClicked(event -> openContentLink(c));
+        return card;
+    }
+
+    private static void openContentLink(Content c) {
+        try {
+            java.awt.Desktop.getDesktop().browse(new java.net.URI(c.getLink()));
+        } catch (Exception ex) {
+            Alert error = new Alert(Alert.AlertType.ERROR);
+            error.setTitle("Error");
+            error.setHeaderText("Could not open link");
+            error.setContentText("Failed to open the link: " + ex.getMessage());
+            error.showAndWait();
+        }
+    }
+
     // Getters
     public Pane getView() { return view; }
     public ComboBox<String> getMoodBox() { return moodCombo; }
@@ -752,6 +816,8 @@ public class UserDashboard {
     public Button getLogoutBtn() { return logoutBtn; }
     public Button getActivityBtn() { return activityBtn; }
     public ImageView getProfilePhotoView() { return profilePhotoView; }
+    public HBox getTrendingRow() { return trendingRow; }
+    public HBox getAchievementsBox() { return achievementsBox; }
     public Button getMoodRecBtn() { return moodRecBtn; }
     public Button getGeneralRecBtn() { return generalRecBtn; }
     public Button getSmartRecBtn() { return smartRecBtn; }
@@ -785,31 +851,46 @@ public class UserDashboard {
         grid.setAlignment(Pos.CENTER_LEFT);
         grid.setPadding(new Insets(10, 0, 10, 0));
         for (com.moodflix.model.Content c : results) {
-            VBox card = new VBox(8);
-            card.setAlignment(Pos.TOP_CENTER);
-            card.setPrefWidth(140);
-            card.setStyle("-fx-background-color: #23272f; -fx-background-radius: 14; -fx-effect: dropshadow(gaussian, #00000033, 4, 0, 0, 2);");
-            ImageView poster;
-            if (c.getImageUrl() != null && !c.getImageUrl().isEmpty()) {
-                poster = new ImageView(new Image(c.getImageUrl(), 120, 160, true, true));
-            } else {
-                poster = new ImageView(new Image("https://via.placeholder.com/120x160?text=No+Image", 120, 160, true, true));
-            }
-            poster.setFitWidth(120);
-            poster.setFitHeight(160);
-            poster.setPreserveRatio(true);
-            poster.setSmooth(true);
-            Label title = new Label(c.getTitle());
-            title.setFont(Font.font("Arial", FontWeight.BOLD, 13));
-            title.setTextFill(Color.WHITE);
-            Button addBtn = new Button("Add to Watchlist");
-            addBtn.setStyle("-fx-background-color: #a78bfa; -fx-text-fill: white; -fx-font-weight: bold; -fx-background-radius: 10; -fx-padding: 6 14; -fx-font-size: 13;");
-            card.getChildren().addAll(poster, title, addBtn);
-            grid.getChildren().add(card);
+            Image poster = loadStripPoster(c);
+            // A static snapshot until hovered or focused when card.snapshots is on
+            grid.getChildren().add(CardSnapshots.create("strip:" + c.getTitle() + "|" + c.getLink(), poster, () -> createStripCard(c, poster)));
         }
         scroll.setContent(grid);
         recommendationsContainer.getChildren().add(scroll);
     }
+
+    private static Image loadStripPoster(Content c) {
+        Image prefetchedPoster = MoodPrefetcher.cachedPoster(c.getImageUrl());
+        if (prefetchedPoster != null) {
+            return prefetchedPoster;
+        } else if (c.getImageUrl() != null && !c.getImageUrl().isEmpty()) {
+            return new Image(c.getImageUrl(), 120, 160, true, true);
+        }
+        return new Image("https://via.placeholder.com/120x160?text=No+Image", 120, 160, true, true);
+    }
+
+    /**
+     * One card of the dashboard's recommendation strip: poster, title and watchlist button
+     */
+    private static VBox createStripCard(Content c, Image posterImage) {
+        VBox card = new VBox(8);
+        card.setAlignment(Pos.TOP_CENTER);
+        card.setPrefWidth(140);
+        card.setStyle("-fx-background-color: #23272f; -fx-background-radius: 14; -fx-effect: dropshadow(gaussian, #00000033, 4, 0, 0, 2);");
+        ImageView poster = new ImageView(posterImage);
+        poster.setFitWidth(120);
+        poster.setFitHeight(160);
+        poster.setPreserveRatio(true);
+        poster.setSmooth(true);
+        Label title = new Label(c.getTitle());
+        title.setFont(Font.font("Arial", FontWeight.BOLD, 13));
+        title.setTextFill(Color.WHITE);
+        Button addBtn = new Button("Add to Watchlist");
+        addBtn.setStyle("-fx-background-color: #a78bfa; -fx-text-fill: white; -fx-font-weight: bold; -fx-background-radius: 10; -fx-padding: 6 14; -fx-font-size: 13;");
+        card.getChildren().addAll(poster, title, addBtn);
+        ThemeManager.cacheStatic(card);
+        return card;
+    }
     public void showRecommendationsError(String message) {
         recommendationsContainer.getChildren().clear();
         Label errorLabel = new Label(message);
@@ -842,14 +923,14 @@ public class UserDashboard {
             addChatBubble(chatHistory, "Goodbye! Enjoy MoodFlix!", false, null, null);
         } else {
             addChatBubble(chatHistory, "Searching for info...", false, null, null);
-            new Thread(() -> {
+            AppExecutors.execute(AppExecutors.Lane.IO, () -> {
                 String searchResults = fetchOmdbListRich(userMsg, chatHistory, chatScroll);
                 if (searchResults != null) {
-                    javafx.application.Platform.runLater(() -> replaceLastBotBubble(chatHistory, searchResults, null, null));
+                    PerformanceOptimizer.runOnUIThread(() -> replaceLastBotBubble(chatHistory, searchResults, null, null));
                 } else {
                     String title = extractTitle(userMsg);
                     OmdbResult result = (title != null && !title.isEmpty()) ? fetchOmdbInfoWithPosterRich(title) : null;
-                    javafx.application.Platform.runLater(() -> {
+                    PerformanceOptimizer.runOnUIThread(() -> {
                         if (result != null && result.text != null) {
                             replaceLastBotBubble(chatHistory, result.text, result.posterUrl, result.imdbUrl);
                         } else {
@@ -857,8 +938,8 @@ public class UserDashboard {
                         }
                     });
                 }
-                javafx.application.Platform.runLater(() -> chatScroll.setVvalue(1.0));
-            }).start();
+                PerformanceOptimizer.runOnUIThread(chatScroll, "vvalue", () -> chatScroll.setVvalue(1.0));
+            });
         }
         chatInput.clear();
         chatScroll.setVvalue(1.0);
@@ -913,6 +994,7 @@ public class UserDashboard {
 
     // OMDb list search for rich chat
     private String fetchOmdbListRich(String query, VBox chatHistory, ScrollPane chatScroll) {
+        FxThreadWatchdog.checkBlockingCall("HTTP");
         try {
             String apiKey = "76dfa4c6";
             String urlStr = "https://www.omdbapi.com/?apikey=" + apiKey + "&s=" + URLEncoder.encode(query, "UTF-8");
@@ -953,11 +1035,11 @@ public class UserDashboard {
             link.setCursor(Cursor.HAND);
             link.setOnAction(e -> {
                 // Fetch and show details for this title
-                new Thread(() -> {
+                AppExecutors.execute(AppExecutors.Lane.IO, () -> {
                     OmdbResult details = fetchOmdbInfoWithPosterByIdRich(imdbID);
-                    javafx.application.Platform.runLater(() -> addChatBubble(chatHistory, details.text, false, details.posterUrl, details.imdbUrl));
-                    javafx.application.Platform.runLater(() -> chatScroll.setVvalue(1.0));
-                }).start();
+                    PerformanceOptimizer.runOnUIThread(() -> addChatBubble(chatHistory, details.text, false, details.posterUrl, details.imdbUrl));
+                    PerformanceOptimizer.runOnUIThread(chatScroll, "vvalue", () -> chatScroll.setVvalue(1.0));
+                });
             });
             row.getChildren().add(link);
             chatHistory.getChildren().add(row);
@@ -967,6 +1049,7 @@ public class UserDashboard {
 
     // Fetch detailed info by IMDb ID (rich)
     private OmdbResult fetchOmdbInfoWithPosterByIdRich(String imdbID) {
+        FxThreadWatchdog.checkBlockingCall("HTTP");
         try {
             String apiKey = "76dfa4c6";
             String urlStr = "https://www.omdbapi.com/?apikey=" + apiKey + "&i=" + imdbID;
@@ -987,6 +1070,7 @@ public class UserDashboard {
 
     // Fetch detailed info and show poster and IMDb link (rich)
     private OmdbResult fetchOmdbInfoWithPosterRich(String title) {
+        FxThreadWatchdog.checkBlockingCall("HTTP");
         try {
             String apiKey = "76dfa4c6";
             String typeParam = "";
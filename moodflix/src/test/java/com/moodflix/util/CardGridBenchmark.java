@@ -0,0 +1,105 @@
+package com.moodflix.util;
+
+import com.moodflix.model.Content;
+import com.moodflix.view.UserDashboard;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.image.Image;
+import javafx.scene.layout.GridPane;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Compares a grid of live recommendation cards with the same grid drawn as card
+ * snapshots: node count, first CSS pass, a full restyle (as on a theme or rendering
+ * mode change) and layout, all on the FX thread with no database or network.
+ * Run from the test classpath:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.moodflix.util.CardGridBenchmark -Dexec.args="[cards]"
+ */
+public class CardGridBenchmark {
+
+    private static final String DESCRIPTION = "A feel-good story about friendship, second chances and finding "
+        + "your own rhythm, with a soundtrack that stays with you long after the credits roll.";
+
+    public static void main(String[] args) throws Exception {
+        int cards = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            Image poster = new Image(CardGridBenchmark.class.getResource("/super30.jpeg").toExternalForm(), 160, 220, true, true);
+            Content[] contents = new Content[cards];
+            for (int i = 0; i < cards; i++) {
+                contents[i] = new Content("Title " + i, "Happy", "Movie", "https://example.com/content/" + i, DESCRIPTION, null);
+            }
+
+            // Warm up class loading and CSS caches so neither run pays for them
+            measure("warm-up", contents, poster, false, 50);
+            measure("warm-up", contents, poster, true, 50);
+            CardSnapshots.clear();
+
+            measure("Live cards", contents, poster, false, cards);
+            measure("Snapshots (cold)", contents, poster, true, cards);
+            measure("Snapshots (cached)", contents, poster, true, cards);
+            System.out.println(CardSnapshots.getSnapshotStats());
+            done.countDown();
+        });
+        done.await();
+        Platform.exit();
+        System.exit(0);
+    }
+
+    private static void measure(String name, Content[] contents, Image poster, boolean snapshots, int count) {
+        long start = System.nanoTime();
+        GridPane grid = new GridPane();
+        grid.setHgap(30);
+        grid.setVgap(30);
+        for (int i = 0; i < count; i++) {
+            Content c = contents[i];
+            Node card = snapshots
+                ? CardSnapshots.snapshot(c.getTitle() + "|" + c.getLink(), () -> UserDashboard.createRecommendationCard(c, poster))
+                : UserDashboard.createRecommendationCard(c, poster);
+            grid.add(card, i % 3, i / 3);
+        }
+        long built = System.nanoTime();
+        Scene scene = new Scene(grid, 1200, 800);
+        ThemeManager.applyTheme(scene);
+        grid.applyCss();
+        long css = System.nanoTime();
+        grid.layout();
+        long layout = System.nanoTime();
+
+        // Restyle everything, as a theme or low-overhead switch does
+        grid.setStyle("-fx-font-size: 13px;");
+        long restyleStart = System.nanoTime();
+        grid.applyCss();
+        long restyle = System.nanoTime();
+
+        if (name.equals("warm-up")) return;
+        System.out.println(String.format("%-20s %5d cards  %7d nodes  build %7.1fms  CSS %7.1fms  layout %7.1fms  restyle %7.1fms",
+            name, count, countNodes(grid),
+            (built - start) / 1_000_000.0, (css - built) / 1_000_000.0,
+            (layout - css) / 1_000_000.0, (restyle - restyleStart) / 1_000_000.0));
+    }
+
+    private static int countNodes(Parent root) {
+        int nodes = 0;
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            nodes++;
+            if (node instanceof Parent) {
+                pending.addAll(((Parent) node).getChildrenUnmodifiable());
+            }
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,99 @@
+package com.moodflix.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ConcurrencyLimiter against a simulated database whose queries slow down from 1ms to 10ms;
+ * round trips are timed on a fake clock, so results don't depend on scheduling
+ */
+class ConcurrencyLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private ConcurrencyLimiter limiter(int limit, long maxWaitMs) {
+        return new ConcurrencyLimiter("test-db", limit, 2, limit, maxWaitMs, clock::get);
+    }
+
+    private void query(ConcurrencyLimiter limiter, long millis) throws InterruptedException {
+        ConcurrencyLimiter.Permit permit = limiter.acquire(ConcurrencyLimiter.Priority.INTERACTIVE);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+        permit.release();
+    }
+
+    @Test
+    void limitShrinksWhenLatencyRises() throws InterruptedException {
+        ConcurrencyLimiter limiter = limiter(20, 2000);
+        for (int i = 0; i < 50; i++) {
+            query(limiter, 1);
+        }
+        int healthyLimit = limiter.getLimit();
+
+        for (int i = 0; i < 30; i++) {
+            query(limiter, 10);
+        }
+        int degradedLimit = limiter.getLimit();
+
+        assertEquals(20, healthyLimit, "steady latency keeps the limit at its maximum");
+        assertTrue(degradedLimit <= healthyLimit / 2,
+            "limit should at least halve under 10x latency, was " + degradedLimit);
+        assertTrue(degradedLimit >= 2, "limit never drops below its minimum");
+    }
+
+    @Test
+    void backgroundWorkIsShedBeforeInteractive() throws InterruptedException {
+        ConcurrencyLimiter limiter = limiter(10, 50);
+        List<ConcurrencyLimiter.Permit> held = new ArrayList<>();
+        // Background may use half the limit
+        for (int i = 0; i < 5; i++) {
+            held.add(limiter.acquire(ConcurrencyLimiter.Priority.INTERACTIVE));
+        }
+
+        assertThrows(ConcurrencyLimiter.LimitExceededException.class,
+            () -> limiter.acquire(ConcurrencyLimiter.Priority.BACKGROUND));
+        held.add(limiter.acquire(ConcurrencyLimiter.Priority.INTERACTIVE));
+        assertEquals(1, limiter.getShedCount());
+        assertEquals(0, limiter.getRejectedCount());
+
+        // Interactive requests are only turned away once the whole limit is in use
+        while (held.size() < 10) {
+            held.add(limiter.acquire(ConcurrencyLimiter.Priority.INTERACTIVE));
+        }
+        assertThrows(ConcurrencyLimiter.LimitExceededException.class,
+            () -> limiter.acquire(ConcurrencyLimiter.Priority.INTERACTIVE));
+        assertEquals(1, limiter.getRejectedCount());
+        held.forEach(ConcurrencyLimiter.Permit::release);
+    }
+
+    @Test
+    void backgroundShareShrinksWithTheLimit() throws InterruptedException {
+        ConcurrencyLimiter limiter = limiter(20, 2000);
+        for (int i = 0; i < 50; i++) {
+            query(limiter, 1);
+        }
+        for (int i = 0; i < 30; i++) {
+            query(limiter, 10);
+        }
+        int share = Math.max(1, limiter.getLimit() / 2);
+
+        List<ConcurrencyLimiter.Permit> held = new ArrayList<>();
+        for (int i = 0; i < share; i++) {
+            held.add(limiter.acquire(ConcurrencyLimiter.Priority.INTERACTIVE));
+        }
+        // Healthy, background could have had 10 slots; degraded, it is shed at the smaller share
+        assertTrue(share < 10);
+        assertThrows(ConcurrencyLimiter.LimitExceededException.class,
+            () -> limiter.acquire(ConcurrencyLimiter.Priority.BACKGROUND));
+        held.add(limiter.acquire(ConcurrencyLimiter.Priority.INTERACTIVE));
+        assertEquals(0, limiter.getRejectedCount());
+        held.forEach(ConcurrencyLimiter.Permit::release);
+    }
+}
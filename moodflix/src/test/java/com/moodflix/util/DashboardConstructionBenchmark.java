@@ -0,0 +1,46 @@
+package com.moodflix.util;
+
+import com.moodflix.view.UserDashboard;
+import javafx.application.Platform;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Times UserDashboard construction on the FX thread (view only, no database).
+ * Run from the test classpath:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.moodflix.util.DashboardConstructionBenchmark -Dexec.args="[runs]"
+ */
+public class DashboardConstructionBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            long first = time();
+            long total = 0;
+            long best = Long.MAX_VALUE;
+            for (int i = 0; i < runs; i++) {
+                long t = time();
+                total += t;
+                best = Math.min(best, t);
+            }
+            System.out.println(String.format("UserDashboard construction: first %.1fms, warm avg %.1fms, best %.1fms (%d runs)",
+                first / 1_000_000.0, total / (double) runs / 1_000_000.0, best / 1_000_000.0, runs));
+            done.countDown();
+        });
+        done.await();
+        Platform.exit();
+        System.exit(0);
+    }
+
+    private static long time() {
+        long start = System.nanoTime();
+        new UserDashboard();
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,121 @@
+package com.moodflix.util;
+
+import com.moodflix.database.DatabaseConfig;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares platform and virtual thread modes of the INTERACTIVE_DB lane under the same
+ * open-loop load. Run from the test classpath:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.moodflix.util.ThreadModeBenchmark -Dexec.args="[--db] [rate] [seconds]"
+ *
+ * Without --db each request sleeps 20ms while holding one of DB_INTERACTIVE_POOL_SIZE simulated
+ * connections; with --db it runs SELECT pg_sleep(0.02) against the real pool.
+ */
+public class ThreadModeBenchmark {
+
+    private static final long QUERY_MS = 20;
+
+    public static void main(String[] args) throws Exception {
+        boolean useDb = false;
+        List<String> numbers = new ArrayList<>();
+        for (String arg : args) {
+            if ("--db".equals(arg)) useDb = true; else numbers.add(arg);
+        }
+        int ratePerSecond = numbers.size() > 0 ? Integer.parseInt(numbers.get(0)) : 800;
+        int seconds = numbers.size() > 1 ? Integer.parseInt(numbers.get(1)) : 5;
+
+        System.out.println("🧪 Thread mode benchmark: " + ratePerSecond + " req/s for " + seconds + "s, "
+                           + (useDb ? "real database" : "simulated " + AppConfig.DB_INTERACTIVE_POOL_SIZE.get() + "-connection pool"));
+
+        run(AppExecutors.ThreadMode.PLATFORM, useDb, ratePerSecond, seconds);
+        if (AppExecutors.isVirtualThreadSupported()) {
+            run(AppExecutors.ThreadMode.VIRTUAL, useDb, ratePerSecond, seconds);
+        } else {
+            System.out.println("VIRTUAL: skipped (requires Java 21+, running " + Runtime.version().feature() + ")");
+        }
+        System.exit(0);
+    }
+
+    private static void run(AppExecutors.ThreadMode mode, boolean useDb, int ratePerSecond, int seconds) throws InterruptedException {
+        AppExecutors.LaneStats stats = new AppExecutors.LaneStats();
+        ExecutorService executor = AppExecutors.createLaneExecutor(AppExecutors.Lane.INTERACTIVE_DB, mode, stats);
+        Semaphore simulatedPool = new Semaphore(AppConfig.DB_INTERACTIVE_POOL_SIZE.get(), true);
+
+        int total = ratePerSecond * seconds;
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>(total));
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(total);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            // Open-loop arrivals: schedule against the wall clock, not completion
+            long due = start + i * intervalNanos;
+            long wait = due - System.nanoTime();
+            if (wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+
+            long submittedAt = System.nanoTime();
+            try {
+                executor.execute(() -> {
+                    try {
+                        if (useDb) {
+                            queryDatabase();
+                        } else {
+                            simulatedPool.acquire();
+                            try {
+                                Thread.sleep(QUERY_MS);
+                            } finally {
+                                simulatedPool.release();
+                            }
+                        }
+                        latencies.add(System.nanoTime() - submittedAt);
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                rejected.incrementAndGet();
+                done.countDown();
+            }
+        }
+        done.await(seconds + 60L, TimeUnit.SECONDS);
+        long elapsedNanos = System.nanoTime() - start;
+        executor.shutdownNow();
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        double throughput = sorted.size() / (elapsedNanos / 1_000_000_000.0);
+        System.out.println(String.format(
+            "%s: completed %d/%d, rejected %d, failed %d, throughput %.1f req/s, p50 %.1fms, p95 %.1fms, p99 %.1fms, max %.1fms",
+            mode, sorted.size(), total, rejected.get(), failed.get(), throughput,
+            percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99), percentile(sorted, 100)));
+    }
+
+    private static void queryDatabase() throws Exception {
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("SELECT pg_sleep(?)")) {
+            stmt.setDouble(1, QUERY_MS / 1000.0);
+            stmt.execute();
+        }
+    }
+
+    private static double percentile(List<Long> sortedNanos, int pct) {
+        if (sortedNanos.isEmpty()) return 0;
+        int index = (int) Math.ceil(pct / 100.0 * sortedNanos.size()) - 1;
+        return sortedNanos.get(Math.max(0, Math.min(index, sortedNanos.size() - 1))) / 1_000_000.0;
+    }
+}